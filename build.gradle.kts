@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("maven-publish")
     id("signing")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.bloogefest"
@@ -12,11 +13,33 @@ repositories {
     mavenCentral()
 }
 
+sourceSets {
+    create("java21") {
+        java.srcDir("src/main/java21")
+        compileClasspath += sourceSets.main.get().output
+    }
+    create("jcstress") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations.named("java21Implementation") {
+    extendsFrom(configurations.implementation.get())
+}
+
+configurations.named("jcstressImplementation") {
+    extendsFrom(configurations.implementation.get())
+}
+
 dependencies {
     implementation("com.bloogefest:annotation:3.0.0")
 
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.10.2")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.10.2")
+
+    "jcstressImplementation"("org.openjdk.jcstress:jcstress-core:0.16")
+    "jcstressAnnotationProcessor"("org.openjdk.jcstress:jcstress-core:0.16")
 }
 
 publishing {
@@ -101,11 +124,60 @@ tasks.compileJava {
     options.encoding = "UTF-8"
 }
 
+tasks.named<JavaCompile>("compileJava21Java") {
+    javaCompiler = javaToolchains.compilerFor { languageVersion = JavaLanguageVersion.of(21) }
+    options.release = 21
+    options.encoding = "UTF-8"
+}
+
+tasks.jar {
+    into("META-INF/versions/21") { from(sourceSets["java21"].output) }
+    manifest { attributes("Multi-Release" to "true") }
+}
+
+tasks.named<Jar>("sourcesJar") {
+    into("META-INF/versions/21") { from(sourceSets["java21"].allJava) }
+}
+
 tasks.compileTestJava {
     version = JavaVersion.VERSION_17
     options.encoding = "UTF-8"
 }
 
+tasks.compileJmhJava {
+    options.encoding = "UTF-8"
+}
+
+tasks.named<JavaCompile>("compileJcstressJava") {
+    options.encoding = "UTF-8"
+}
+
+tasks.register<JavaExec>("jcstress") {
+    group = "verification"
+    description = "Runs the jcstress concurrency tests."
+    classpath = sourceSets["jcstress"].runtimeClasspath
+    mainClass = "org.openjdk.jcstress.Main"
+    args("-r", layout.buildDirectory.dir("reports/jcstress").get().asFile.path)
+    if (project.hasProperty("jcstressArgs")) args(project.property("jcstressArgs").toString().split(" "))
+    workingDir = layout.buildDirectory.dir("jcstress").get().asFile
+    doFirst { workingDir.mkdirs() }
+}
+
+jmh {
+    jmhVersion = "1.37"
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+}
+
+tasks.register<Copy>("jmhBaseline") {
+    group = "jmh"
+    description = "Runs the JMH benchmarks and records the results as the baseline of a release."
+    dependsOn(tasks.named("jmh"))
+    from(layout.buildDirectory.file("results/jmh/results.json"))
+    into(layout.projectDirectory.dir("src/jmh/results"))
+    rename { "${project.findProperty("jmhBaseline") ?: project.version}.json" }
+}
+
 tasks.javadoc {
     val options = options as CoreJavadocOptions
     options.encoding = "UTF-8"
@@ -0,0 +1,109 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.*;
+
+/**
+ * Проверяет согласованность пары объектов контейнера двух объектов при одновременных установке и чтении обоих объектов.
+ *
+ * @since 4.0.0-RC5
+ */
+public class BiContainerPairTest {
+
+    /**
+     * Проверяет {@linkplain BiContainer.Impl интегрированную реализацию контейнера двух объектов}, установка и
+     * снимок обоих объектов которой выполняются под общей блокировкой и потому атомарны.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = {"1, 1", "2, 2"}, expect = ACCEPTABLE, desc = "The pair is consistent.")
+    @Outcome(expect = FORBIDDEN, desc = "The pair is torn.")
+    @State
+    public static class Impl {
+
+        private final @NonNull BiContainer<Integer, Integer> container = new BiContainer.Impl<>(Container.with(1),
+                                                                                                Container.with(1));
+
+        @Actor
+        public void set() {
+            container.setBoth(2, 2);
+        }
+
+        @Actor
+        public void get(final @NonNull II_Result result) {
+            final var snapshot = container.snapshot();
+            result.r1 = snapshot.first().get();
+            result.r2 = snapshot.second().get();
+        }
+
+    }
+
+    /**
+     * Проверяет {@linkplain BiContainer.LockFree неблокирующую реализацию контейнера двух объектов}, установка и
+     * снимок обоих объектов которой атомарны.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = {"1, 1", "2, 2"}, expect = ACCEPTABLE, desc = "The pair is consistent.")
+    @Outcome(expect = FORBIDDEN, desc = "The pair is torn.")
+    @State
+    public static class LockFree {
+
+        private final @NonNull BiContainer<Integer, Integer> container = BiContainer.lockFree(1, 1);
+
+        @Actor
+        public void set() {
+            container.setBoth(2, 2);
+        }
+
+        @Actor
+        public void get(final @NonNull II_Result result) {
+            final var snapshot = container.snapshot();
+            result.r1 = snapshot.first().get();
+            result.r2 = snapshot.second().get();
+        }
+
+    }
+
+    /**
+     * Проверяет, что из двух одновременных сравнений с установкой обоих объектов
+     * {@linkplain BiContainer.LockFree неблокирующей реализации контейнера двух объектов} с одинаковыми ожидаемыми
+     * объектами успешно ровно одно.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = {"true, false", "false, true"}, expect = ACCEPTABLE, desc = "Only one update succeeds.")
+    @Outcome(expect = FORBIDDEN, desc = "Both or none of the updates succeed.")
+    @State
+    public static class LockFreeCompareAndSet {
+
+        private final @NonNull Integer expected = 1;
+
+        private final @NonNull BiContainer<Integer, Integer> container = BiContainer.lockFree(expected, expected);
+
+        @Actor
+        public void first(final @NonNull ZZ_Result result) {
+            result.r1 = container.compareAndSetBoth(expected, expected, 2, 2);
+        }
+
+        @Actor
+        public void second(final @NonNull ZZ_Result result) {
+            result.r2 = container.compareAndSetBoth(expected, expected, 3, 3);
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Проверяет безопасную публикацию объекта: объект, полученный из контейнера после его установки в другом потоке,
+ * должен быть виден полностью инициализированным.
+ *
+ * @since 4.0.0-RC5
+ */
+public class ContainerPublicationTest {
+
+    /**
+     * Проверяет {@linkplain Container.Impl интегрированную реализацию контейнера объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = "-1", expect = ACCEPTABLE, desc = "The object isn't set yet.")
+    @Outcome(id = "42", expect = ACCEPTABLE, desc = "The object is set and fully initialized.")
+    @Outcome(expect = FORBIDDEN, desc = "The object is set but not fully initialized.")
+    @State
+    public static class Impl {
+
+        private final @NonNull Container<Holder> container = new Container.Impl<>();
+
+        @Actor
+        public void set() {
+            container.set(new Holder(42));
+        }
+
+        @Actor
+        public void get(final @NonNull I_Result result) {
+            final var holder = container.withNullable();
+            result.r1 = holder != null ? holder.value : -1;
+        }
+
+    }
+
+    /**
+     * Проверяет {@linkplain Container.LockFree неблокирующую реализацию контейнера объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = "-1", expect = ACCEPTABLE, desc = "The object isn't set yet.")
+    @Outcome(id = "42", expect = ACCEPTABLE, desc = "The object is set and fully initialized.")
+    @Outcome(expect = FORBIDDEN, desc = "The object is set but not fully initialized.")
+    @State
+    public static class LockFree {
+
+        private final @NonNull Container<Holder> container = Container.lockFree();
+
+        @Actor
+        public void set() {
+            container.set(new Holder(42));
+        }
+
+        @Actor
+        public void get(final @NonNull I_Result result) {
+            final var holder = container.withNullable();
+            result.r1 = holder != null ? holder.value : -1;
+        }
+
+    }
+
+    /**
+     * Проверяет {@linkplain Container.Padded выровненную реализацию контейнера объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = "-1", expect = ACCEPTABLE, desc = "The object isn't set yet.")
+    @Outcome(id = "42", expect = ACCEPTABLE, desc = "The object is set and fully initialized.")
+    @Outcome(expect = FORBIDDEN, desc = "The object is set but not fully initialized.")
+    @State
+    public static class Padded {
+
+        private final @NonNull Container<Holder> container = Container.padded();
+
+        @Actor
+        public void set() {
+            container.set(new Holder(42));
+        }
+
+        @Actor
+        public void get(final @NonNull I_Result result) {
+            final var holder = container.withNullable();
+            result.r1 = holder != null ? holder.value : -1;
+        }
+
+    }
+
+    /**
+     * Объект с изменяемым полем, инициализируемым в конструкторе.
+     *
+     * @since 4.0.0-RC5
+     */
+    static class Holder {
+
+        int value;
+
+        Holder(final int value) {
+            this.value = value;
+        }
+
+    }
+
+}
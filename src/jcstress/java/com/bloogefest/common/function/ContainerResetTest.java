@@ -0,0 +1,120 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Проверяет, что из двух одновременных сбросов существующего объекта успешен ровно один, и что сброс не приводит к
+ * взаимной блокировке.
+ *
+ * @since 4.0.0-RC5
+ */
+public class ContainerResetTest {
+
+    /**
+     * Проверяет {@linkplain Container.Impl интегрированную реализацию контейнера объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = {"true, false", "false, true"}, expect = ACCEPTABLE, desc = "Only one reset succeeds.")
+    @Outcome(id = "true, true", expect = FORBIDDEN, desc = "The object is reset twice.")
+    @Outcome(id = "false, false", expect = FORBIDDEN, desc = "The object isn't reset.")
+    @State
+    public static class Impl {
+
+        private final @NonNull Container<Integer> container = new Container.Impl<>(1);
+
+        @Actor
+        public void first(final @NonNull ZZ_Result result) {
+            result.r1 = ContainerResetTest.reset(container);
+        }
+
+        @Actor
+        public void second(final @NonNull ZZ_Result result) {
+            result.r2 = ContainerResetTest.reset(container);
+        }
+
+    }
+
+    /**
+     * Проверяет {@linkplain Container.LockFree неблокирующую реализацию контейнера объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = {"true, false", "false, true"}, expect = ACCEPTABLE, desc = "Only one reset succeeds.")
+    @Outcome(id = "true, true", expect = FORBIDDEN, desc = "The object is reset twice.")
+    @Outcome(id = "false, false", expect = FORBIDDEN, desc = "The object isn't reset.")
+    @State
+    public static class LockFree {
+
+        private final @NonNull Container<Integer> container = Container.lockFree(1);
+
+        @Actor
+        public void first(final @NonNull ZZ_Result result) {
+            result.r1 = ContainerResetTest.reset(container);
+        }
+
+        @Actor
+        public void second(final @NonNull ZZ_Result result) {
+            result.r2 = ContainerResetTest.reset(container);
+        }
+
+    }
+
+    /**
+     * Проверяет {@linkplain Container.Padded выровненную реализацию контейнера объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = {"true, false", "false, true"}, expect = ACCEPTABLE, desc = "Only one reset succeeds.")
+    @Outcome(id = "true, true", expect = FORBIDDEN, desc = "The object is reset twice.")
+    @Outcome(id = "false, false", expect = FORBIDDEN, desc = "The object isn't reset.")
+    @State
+    public static class Padded {
+
+        private final @NonNull Container<Integer> container = Container.padded(1);
+
+        @Actor
+        public void first(final @NonNull ZZ_Result result) {
+            result.r1 = ContainerResetTest.reset(container);
+        }
+
+        @Actor
+        public void second(final @NonNull ZZ_Result result) {
+            result.r2 = ContainerResetTest.reset(container);
+        }
+
+    }
+
+    /**
+     * Сбрасывает объект переданного контейнера и возвращает параметр успешности сброса.
+     *
+     * @param container контейнер объекта.
+     *
+     * @return Параметр успешности сброса объекта.
+     *
+     * @since 4.0.0-RC5
+     */
+    static boolean reset(final @NonNull Container<?> container) {
+        try {
+            container.reset();
+            return true;
+        } catch (final @NonNull ResetException e) {
+            return false;
+        }
+    }
+
+}
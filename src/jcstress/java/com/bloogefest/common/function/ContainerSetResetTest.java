@@ -0,0 +1,123 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.ZZI_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Проверяет одновременные установку и сброс существующего объекта: сброс всегда успешен, а итоговое существование
+ * объекта соответствует одному из последовательных порядков.
+ *
+ * @since 4.0.0-RC5
+ */
+public class ContainerSetResetTest {
+
+    /**
+     * Проверяет {@linkplain Container.Impl интегрированную реализацию контейнера объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = "true, true, 2", expect = ACCEPTABLE, desc = "The reset precedes the set.")
+    @Outcome(id = "true, false, 0", expect = ACCEPTABLE, desc = "The set precedes the reset.")
+    @Outcome(expect = FORBIDDEN, desc = "The reset fails or the state is torn.")
+    @State
+    public static class Impl {
+
+        private final @NonNull Container<Integer> container = new Container.Impl<>(1);
+
+        @Actor
+        public void set() {
+            container.set(2);
+        }
+
+        @Actor
+        public void reset(final @NonNull ZZI_Result result) {
+            result.r1 = ContainerResetTest.reset(container);
+        }
+
+        @Arbiter
+        public void arbiter(final @NonNull ZZI_Result result) {
+            result.r2 = container.contains();
+            final var object = container.withNullable();
+            result.r3 = object != null ? object : 0;
+        }
+
+    }
+
+    /**
+     * Проверяет {@linkplain Container.LockFree неблокирующую реализацию контейнера объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = "true, true, 2", expect = ACCEPTABLE, desc = "The reset precedes the set.")
+    @Outcome(id = "true, false, 0", expect = ACCEPTABLE, desc = "The set precedes the reset.")
+    @Outcome(expect = FORBIDDEN, desc = "The reset fails or the state is torn.")
+    @State
+    public static class LockFree {
+
+        private final @NonNull Container<Integer> container = Container.lockFree(1);
+
+        @Actor
+        public void set() {
+            container.set(2);
+        }
+
+        @Actor
+        public void reset(final @NonNull ZZI_Result result) {
+            result.r1 = ContainerResetTest.reset(container);
+        }
+
+        @Arbiter
+        public void arbiter(final @NonNull ZZI_Result result) {
+            result.r2 = container.contains();
+            final var object = container.withNullable();
+            result.r3 = object != null ? object : 0;
+        }
+
+    }
+
+    /**
+     * Проверяет {@linkplain Container.Padded выровненную реализацию контейнера объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = "true, true, 2", expect = ACCEPTABLE, desc = "The reset precedes the set.")
+    @Outcome(id = "true, false, 0", expect = ACCEPTABLE, desc = "The set precedes the reset.")
+    @Outcome(expect = FORBIDDEN, desc = "The reset fails or the state is torn.")
+    @State
+    public static class Padded {
+
+        private final @NonNull Container<Integer> container = Container.padded(1);
+
+        @Actor
+        public void set() {
+            container.set(2);
+        }
+
+        @Actor
+        public void reset(final @NonNull ZZI_Result result) {
+            result.r1 = ContainerResetTest.reset(container);
+        }
+
+        @Arbiter
+        public void arbiter(final @NonNull ZZI_Result result) {
+            result.r2 = container.contains();
+            final var object = container.withNullable();
+            result.r3 = object != null ? object : 0;
+        }
+
+    }
+
+}
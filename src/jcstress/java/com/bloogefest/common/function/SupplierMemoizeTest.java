@@ -0,0 +1,124 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.IIZ_Result;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Проверяет, что при одновременных первых получениях объекта запоминающим поставщиком объект получается от исходного
+ * поставщика ровно один раз, а все потоки получают один и тот же полностью инициализированный объект.
+ *
+ * @since 4.0.0-RC5
+ */
+public class SupplierMemoizeTest {
+
+    /**
+     * Проверяет {@linkplain Supplier.Memoized интегрированную реализацию запоминающего поставщика объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = "42, 1, true", expect = ACCEPTABLE, desc = "The object is supplied once and shared.")
+    @Outcome(expect = FORBIDDEN, desc = "The object is supplied more than once or isn't shared.")
+    @State
+    public static class Memoized {
+
+        private final @NonNull AtomicInteger count = new AtomicInteger();
+
+        private final @NonNull Supplier<Holder> supplier = Supplier.memoize(() -> {
+            count.incrementAndGet();
+            return new Holder(42);
+        });
+
+        private Holder first;
+
+        private Holder second;
+
+        @Actor
+        public void first() {
+            first = supplier.get();
+        }
+
+        @Actor
+        public void second() {
+            second = supplier.get();
+        }
+
+        @Arbiter
+        public void arbiter(final @NonNull IIZ_Result result) {
+            result.r1 = first.value;
+            result.r2 = count.get();
+            result.r3 = first == second;
+        }
+
+    }
+
+    /**
+     * Проверяет {@linkplain Supplier.Expiring интегрированную реализацию запоминающего на срок поставщика объекта}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = "42, 1, true", expect = ACCEPTABLE, desc = "The object is supplied once and shared.")
+    @Outcome(expect = FORBIDDEN, desc = "The object is supplied more than once or isn't shared.")
+    @State
+    public static class Expiring {
+
+        private final @NonNull AtomicInteger count = new AtomicInteger();
+
+        private final @NonNull Supplier<Holder> supplier = Supplier.memoizeFor(() -> {
+            count.incrementAndGet();
+            return new Holder(42);
+        }, Duration.ofHours(1));
+
+        private Holder first;
+
+        private Holder second;
+
+        @Actor
+        public void first() {
+            first = supplier.get();
+        }
+
+        @Actor
+        public void second() {
+            second = supplier.get();
+        }
+
+        @Arbiter
+        public void arbiter(final @NonNull IIZ_Result result) {
+            result.r1 = first.value;
+            result.r2 = count.get();
+            result.r3 = first == second;
+        }
+
+    }
+
+    /**
+     * Объект с изменяемым полем, инициализируемым в конструкторе.
+     *
+     * @since 4.0.0-RC5
+     */
+    static class Holder {
+
+        int value;
+
+        Holder(final int value) {
+            this.value = value;
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.*;
+
+/**
+ * Проверяет согласованность тройки объектов контейнера трёх объектов при одновременных установке и чтении всех
+ * объектов.
+ *
+ * @since 4.0.0-RC5
+ */
+public class TriContainerTripleTest {
+
+    /**
+     * Проверяет {@linkplain TriContainer.Impl интегрированную реализацию контейнера трёх объектов}, установка и
+     * снимок всех объектов которой выполняются под общей блокировкой и потому атомарны.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = {"1, 1, 1", "2, 2, 2"}, expect = ACCEPTABLE, desc = "The triple is consistent.")
+    @Outcome(expect = FORBIDDEN, desc = "The triple is torn.")
+    @State
+    public static class Impl {
+
+        private final @NonNull TriContainer<Integer, Integer, Integer> container =
+                new TriContainer.Impl<>(Container.with(1), Container.with(1), Container.with(1));
+
+        @Actor
+        public void set() {
+            container.setAll(2, 2, 2);
+        }
+
+        @Actor
+        public void get(final @NonNull III_Result result) {
+            final var snapshot = container.snapshot();
+            result.r1 = snapshot.first().get();
+            result.r2 = snapshot.second().get();
+            result.r3 = snapshot.third().get();
+        }
+
+    }
+
+    /**
+     * Проверяет {@linkplain TriContainer.LockFree неблокирующую реализацию контейнера трёх объектов}, установка и
+     * снимок всех объектов которой атомарны.
+     *
+     * @since 4.0.0-RC5
+     */
+    @JCStressTest
+    @Outcome(id = {"1, 1, 1", "2, 2, 2"}, expect = ACCEPTABLE, desc = "The triple is consistent.")
+    @Outcome(expect = FORBIDDEN, desc = "The triple is torn.")
+    @State
+    public static class LockFree {
+
+        private final @NonNull TriContainer<Integer, Integer, Integer> container = TriContainer.lockFree(1, 1, 1);
+
+        @Actor
+        public void set() {
+            container.setAll(2, 2, 2);
+        }
+
+        @Actor
+        public void get(final @NonNull III_Result result) {
+            final var snapshot = container.snapshot();
+            result.r1 = snapshot.first().get();
+            result.r2 = snapshot.second().get();
+            result.r3 = snapshot.third().get();
+        }
+
+    }
+
+}
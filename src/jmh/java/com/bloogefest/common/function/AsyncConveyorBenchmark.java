@@ -0,0 +1,69 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Сравнивает передачу пакета объектов через цепочку {@linkplain Conveyor конвейеров} со стадией, блокирующей поток на
+ * время ввода-вывода, и через цепочку {@linkplain AsyncConveyor асинхронных конвейеров} с неблокирующей стадией той же
+ * задержки, ожидания которой перекрываются.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncConveyorBenchmark {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"256"})
+    public int size;
+
+    private final @NonNull Executor delayed = CompletableFuture.delayedExecutor(LATENCY, TimeUnit.NANOSECONDS);
+
+    private final @NonNull Conveyor<Integer, Integer> blocking = Conveyor.<Integer>checked()
+                                                                         .conveyor(object -> {
+                                                                             LockSupport.parkNanos(LATENCY);
+                                                                             return object + 1;
+                                                                         })
+                                                                         .conveyor(object -> object * 2);
+
+    private final @NonNull AsyncConveyor<Integer, Integer> async =
+            Conveyor.<Integer>checked()
+                    .async()
+                    .asyncConveyor(object -> CompletableFuture.supplyAsync(() -> object + 1, delayed))
+                    .conveyor(object -> object * 2);
+
+    @Benchmark
+    public int blocking() {
+        var sum = 0;
+        for (var index = 0; index < size; ++index) sum += blocking.convey(index);
+        return sum;
+    }
+
+    @Benchmark
+    public int async() {
+        @SuppressWarnings("unchecked")
+        final var futures = (CompletableFuture<Integer>[]) new CompletableFuture<?>[size];
+        for (var index = 0; index < size; ++index) futures[index] = async.convey(index).toCompletableFuture();
+        var sum = 0;
+        for (final var future : futures) sum += future.join();
+        return sum;
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет стоимость выполнения {@linkplain Catcher ловца} при успешном и неудачном анализе объекта, в том числе с
+ * записью в многократно используемый {@linkplain Catcher.Outcome исход}.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatcherBenchmark {
+
+    private final @NonNull Integer argument = 1;
+
+    private final @NonNull IllegalStateException failure = new IllegalStateException();
+
+    private final @NonNull Conveyor<Integer, Integer> identity = Conveyor.unchecked();
+
+    private final @NonNull Conveyor<Integer, Integer> throwing = object -> {
+        throw failure;
+    };
+
+    private final @NonNull Catcher<Integer, Integer, IllegalStateException> success =
+            Catcher.typed(identity, IllegalStateException.class);
+
+    private final @NonNull Catcher<Integer, Integer, IllegalStateException> fail =
+            Catcher.typed(throwing, IllegalStateException.class);
+
+    private final @NonNull Catcher<Integer, Integer, Throwable> untyped = Catcher.untyped(identity);
+
+    private final @NonNull Catcher.Outcome<Integer, IllegalStateException> outcome = new Catcher.Outcome<>();
+
+    @Benchmark
+    public @NonNull BiOptional<Integer, IllegalStateException> executeSuccess() {
+        return success.execute(argument);
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Integer, IllegalStateException> executeFailure() {
+        return fail.execute(argument);
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Integer, Throwable> executeUntyped() {
+        return untyped.execute(argument);
+    }
+
+    @Benchmark
+    public boolean executeIntoSuccess() {
+        return success.execute(argument, outcome);
+    }
+
+    @Benchmark
+    public boolean executeIntoFailure() {
+        return fail.execute(argument, outcome);
+    }
+
+    @Benchmark
+    public @NonNull Integer toResult() {
+        return success.toResult(argument);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает стоимость перехвата исключения {@linkplain Catcher.Dispatch ловцом с таблицей обработчиков} и ловцом,
+ * последовательно проверяющим каждый зарегистрированный тип, как это делает цепочка вложенных
+ * {@linkplain Catcher#typed(Conveyor, Class) типизированных ловцов}. Генерируемое исключение соответствует последнему
+ * зарегистрированному типу.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatcherDispatchBenchmark {
+
+    private static final @NonNull RuntimeException @NonNull [] FAILURES = {
+            new IllegalArgumentException(), new IllegalStateException(), new UnsupportedOperationException(),
+            new ArithmeticException(), new ArrayStoreException(), new ClassCastException(),
+            new NegativeArraySizeException(), new NullPointerException(), new IndexOutOfBoundsException(),
+            new SecurityException(), new NoSuchElementException(), new ConcurrentModificationException(),
+            new IllegalMonitorStateException(), new EmptyStackException(), new BufferOverflowException(),
+            new BufferUnderflowException()};
+
+    @Param({"1", "4", "16"})
+    public int types;
+
+    private final @NonNull Integer argument = 1;
+
+    private @NonNull Catcher<Integer, Integer, RuntimeException> dispatch;
+
+    private @NonNull Catcher<Integer, Integer, RuntimeException> linear;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        final var failure = FAILURES[types - 1];
+        final Conveyor<Integer, Integer> throwing = object -> {
+            throw failure;
+        };
+        final var builder = Catcher.<Integer, Integer, RuntimeException>dispatch();
+        final var classes = new Class<?>[types];
+        for (var index = 0; index < types; ++index) {
+            classes[index] = FAILURES[index].getClass();
+            builder.on((Class<RuntimeException>) classes[index], BiOptional::withSecond);
+        }
+        dispatch = builder.build(throwing);
+        linear = object -> {
+            try {
+                return BiOptional.withFirst(throwing.convey(object));
+            } catch (final @NonNull Throwable caught) {
+                for (final var type : classes) {
+                    if (type.isInstance(caught)) return BiOptional.withSecond((RuntimeException) caught);
+                }
+                throw new UncaughtException(caught);
+            }
+        };
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Integer, RuntimeException> dispatch() {
+        return dispatch.execute(argument);
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Integer, RuntimeException> linear() {
+        return linear.execute(argument);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает стоимость вызова медленной отказывающей зависимости через
+ * {@linkplain Catcher#typed(Conveyor, Class) типизированный ловец} и через разомкнутый
+ * {@linkplain Catcher.CircuitBreaker размыкающий ловец}, а также накладные расходы замкнутого размыкающего ловца на
+ * успешный вызов.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CircuitBreakerBenchmark {
+
+    private final @NonNull Integer argument = 1;
+
+    private final @NonNull IllegalStateException failure = new IllegalStateException();
+
+    private final @NonNull Conveyor<Integer, Integer> failing = object -> {
+        Blackhole.consumeCPU(1024);
+        throw failure;
+    };
+
+    private final @NonNull Conveyor<Integer, Integer> identity = Conveyor.unchecked();
+
+    private final @NonNull Catcher.CircuitBreaker.Policy policy =
+            new Catcher.CircuitBreaker.Policy(16, 4, 0.5, Duration.ofDays(1));
+
+    private final @NonNull Catcher<Integer, Integer, IllegalStateException> typedFailing =
+            Catcher.typed(failing, IllegalStateException.class);
+
+    private final @NonNull Catcher<Integer, Integer, IllegalStateException> typedSuccess =
+            Catcher.typed(identity, IllegalStateException.class);
+
+    private final @NonNull Catcher<Integer, Integer, IllegalStateException> open =
+            Catcher.circuitBreaker(failing, IllegalStateException.class, policy);
+
+    private final @NonNull Catcher<Integer, Integer, IllegalStateException> closed =
+            Catcher.circuitBreaker(identity, IllegalStateException.class, policy);
+
+    @Setup
+    public void setup() {
+        for (var index = 0; index < 4; ++index) open.execute(argument);
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Integer, IllegalStateException> failingTyped() {
+        return typedFailing.execute(argument);
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Integer, IllegalStateException> failingOpen() {
+        return open.execute(argument);
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Integer, IllegalStateException> successTyped() {
+        return typedSuccess.execute(argument);
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Integer, IllegalStateException> successClosed() {
+        return closed.execute(argument);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.annotation.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет стоимость создания и основных операций {@linkplain Container.Impl интегрированной},
+ * {@linkplain Container.LockFree неблокирующей} и {@linkplain Container.Padded выровненной реализаций контейнера
+ * объекта} в одном потоке.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainerBenchmark {
+
+    @Param({"impl", "lockFree", "padded"})
+    public @NonNull String implementation;
+
+    private final @NonNull Integer object = 1;
+
+    private @NonNull Container<Integer> container;
+
+    @Setup
+    public void setup() {
+        container = create();
+    }
+
+    @Benchmark
+    public @NonNull Container<Integer> create() {
+        return switch (implementation) {
+            case "impl" -> Container.with(object);
+            case "lockFree" -> Container.lockFree(object);
+            case "padded" -> Container.padded(object);
+            default -> throw new IllegalStateException(implementation);
+        };
+    }
+
+    @Benchmark
+    public @Nullable Integer get() {
+        return container.get();
+    }
+
+    @Benchmark
+    public @Nullable Integer withNullable() {
+        return container.withNullable();
+    }
+
+    @Benchmark
+    public @NonNull Container<Integer> set() {
+        return container.set(object);
+    }
+
+    @Benchmark
+    public boolean compareAndSet() {
+        return container.compareAndSet(object, object);
+    }
+
+    @Benchmark
+    public @Nullable Integer updateAndGet() {
+        return container.updateAndGet(current -> current);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.annotation.Nullable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает пропускную способность чтения {@linkplain Container.Impl интегрированной реализации контейнера объекта}
+ * с реализацией, захватывающей блокировку чтения при каждом обращении, при 1, 4, 16 и 64 читающих потоках.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainerContentionBenchmark {
+
+    @Param({"optimistic", "locked"})
+    public @NonNull String implementation;
+
+    private @NonNull Container<Object> container;
+
+    @Setup
+    public void setup() {
+        final var object = new Object();
+        container = switch (implementation) {
+            case "optimistic" -> new Container.Impl<>(object);
+            case "locked" -> new Locked<>(object);
+            default -> throw new IllegalStateException(implementation);
+        };
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void read1(final @NonNull Blackhole blackhole) {
+        read(blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void read4(final @NonNull Blackhole blackhole) {
+        read(blackhole);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void read16(final @NonNull Blackhole blackhole) {
+        read(blackhole);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void read64(final @NonNull Blackhole blackhole) {
+        read(blackhole);
+    }
+
+    private void read(final @NonNull Blackhole blackhole) {
+        blackhole.consume(container.get());
+        blackhole.consume(container.withNullable());
+        blackhole.consume(container.contains());
+    }
+
+    /**
+     * Реализация контейнера объекта, захватывающая блокировку чтения при каждом обращении.
+     *
+     * @param <T> тип объекта.
+     *
+     * @since 4.0.0-RC5
+     */
+    static class Locked<T> extends Container.Impl<T> {
+
+        Locked(final @Nullable T object) {
+            super(object);
+        }
+
+        @Override
+        public @Nullable T get() throws GetException {
+            final var stamp = lock.readLock();
+            try {
+                if (!contains) throw GetException.currentObject();
+                return object;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public @Nullable T withNullable() {
+            final var stamp = lock.readLock();
+            try {
+                return contains ? object : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public boolean contains() {
+            final var stamp = lock.readLock();
+            try {
+                return contains;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Демонстрирует ложное разделение кеш-линии: два потока изменяют каждый свой контейнер объекта, созданные друг за
+ * другом. Для {@linkplain Container.LockFree неблокирующей реализации} состояния соседних контейнеров попадают в одну
+ * кеш-линию, для {@linkplain Container.Padded выровненной} — нет.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainerFalseSharingBenchmark {
+
+    @Param({"lockFree", "padded"})
+    public @NonNull String implementation;
+
+    private @NonNull Container<Integer> first;
+
+    private @NonNull Container<Integer> second;
+
+    @Setup
+    public void setup() {
+        switch (implementation) {
+            case "lockFree" -> {
+                first = Container.lockFree(0);
+                second = Container.lockFree(0);
+            }
+            case "padded" -> {
+                first = Container.padded(0);
+                second = Container.padded(0);
+            }
+            default -> throw new IllegalStateException(implementation);
+        }
+    }
+
+    @Benchmark
+    @Group("write")
+    @GroupThreads(1)
+    public @NonNull Container<Integer> writeFirst() {
+        return first.set(1);
+    }
+
+    @Benchmark
+    @Group("write")
+    @GroupThreads(1)
+    public @NonNull Container<Integer> writeSecond() {
+        return second.set(2);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает поэлементную передачу пакета объектов через цепочку стадий с {@linkplain Conveyor#conveyAll(List)
+ * пакетной передачей}, когда одна из стадий имеет накладные расходы на каждый вызов (разбор, ввод-вывод) и
+ * {@linkplain Conveyor#batch(Conveyor) пакетную реализацию}.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConveyorBatchBenchmark {
+
+    private static final long CALL_COST = 256;
+
+    @Param({"1024"})
+    public int size;
+
+    private @NonNull Integer @NonNull [] input;
+
+    private @NonNull Integer @NonNull [] output;
+
+    private @NonNull List<Integer> list;
+
+    private final @NonNull Conveyor<Integer, Integer> stage = Conveyor.batch(objects -> {
+        Blackhole.consumeCPU(CALL_COST);
+        final var result = new ArrayList<Integer>(objects.size());
+        for (final Integer object : objects) result.add(object + 1);
+        return result;
+    });
+
+    private final @NonNull Conveyor<Integer, Integer> chain = Conveyor.<Integer>checked()
+                                                                      .conveyor(object -> object * 2)
+                                                                      .conveyor(stage)
+                                                                      .conveyor(object -> object - 1);
+
+    @Setup
+    public void setup() {
+        input = new Integer[size];
+        Arrays.setAll(input, Integer::valueOf);
+        output = new Integer[size];
+        list = Arrays.asList(input);
+    }
+
+    @Benchmark
+    public @NonNull Integer @NonNull [] convey() {
+        for (var index = 0; index < size; ++index) output[index] = chain.convey(input[index]);
+        return output;
+    }
+
+    @Benchmark
+    public @NonNull Integer @NonNull [] conveyAllArray() {
+        return chain.conveyAll(input, output);
+    }
+
+    @Benchmark
+    public @NonNull List<Integer> conveyAllList() {
+        return chain.conveyAll(list);
+    }
+
+}
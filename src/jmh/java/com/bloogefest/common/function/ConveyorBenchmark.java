@@ -0,0 +1,53 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет стоимость передачи объекта через {@linkplain Conveyor конвейер} из одной стадии и из цепочки стадий.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConveyorBenchmark {
+
+    private final @NonNull Integer input = 1;
+
+    private final @NonNull Conveyor<Integer, Integer> checked = Conveyor.checked();
+
+    private final @NonNull Conveyor<Integer, Integer> chain = Conveyor.<Integer>checked()
+                                                                      .conveyor(object -> object + 1)
+                                                                      .handler(object -> {})
+                                                                      .conveyor(object -> object - 1);
+
+    private final @NonNull Conveyor<Integer, Optional<Integer>> optional = Conveyor.<Integer>checked().optional();
+
+    @Benchmark
+    public @NonNull Integer convey() {
+        return checked.convey(input);
+    }
+
+    @Benchmark
+    public @NonNull Integer conveyChain() {
+        return chain.convey(input);
+    }
+
+    @Benchmark
+    public @NonNull Optional<Integer> conveyOptional() {
+        return optional.convey(input);
+    }
+
+}
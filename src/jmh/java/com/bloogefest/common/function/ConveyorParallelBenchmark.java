@@ -0,0 +1,73 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает последовательную передачу коллекции объектов {@linkplain Conveyor#failure() перехватывающему исключения}
+ * конвейеру с ресурсоёмкой стадией и {@linkplain Conveyor.Parallel параллельную передачу} в
+ * {@linkplain ForkJoinPool#commonPool() общем пуле потоков} с сохранением порядка и без него.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConveyorParallelBenchmark {
+
+    @Param({"16384"})
+    public int size;
+
+    private @NonNull List<Integer> input;
+
+    private final @NonNull Conveyor<Integer, Integer> stage = object -> {
+        Blackhole.consumeCPU(64);
+        return object + 1;
+    };
+
+    private final @NonNull Conveyor<Integer, BiOptional<Integer, Throwable>> sequential = stage.failure();
+
+    private final @NonNull Conveyor.Parallel<Integer, Integer> ordered = stage.parallel(ForkJoinPool.commonPool());
+
+    private final @NonNull Conveyor.Parallel<Integer, Integer> unordered =
+            stage.parallel(ForkJoinPool.commonPool(), false);
+
+    @Setup
+    public void setup() {
+        input = new ArrayList<>(size);
+        for (var index = 0; index < size; ++index) input.add(index);
+    }
+
+    @Benchmark
+    public @NonNull List<BiOptional<Integer, Throwable>> sequential() {
+        final var output = new ArrayList<BiOptional<Integer, Throwable>>(size);
+        for (final var object : input) output.add(sequential.convey(object));
+        return output;
+    }
+
+    @Benchmark
+    public @NonNull List<BiOptional<Integer, Throwable>> parallelOrdered() {
+        return ordered.convey(input);
+    }
+
+    @Benchmark
+    public @NonNull List<BiOptional<Integer, Throwable>> parallelUnordered() {
+        return unordered.convey(input);
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает передачу объекта через цепочку стадий заданной длины, составленную вложенными
+ * {@linkplain Conveyor#conveyor(Conveyor) методами композиции}, и через {@linkplain Conveyor.Pipeline плоский
+ * конвейер} из тех же стадий, а также через {@linkplain ConveyorCompiler скомпилированный} плоский конвейер. Стадии
+ * чередуют четыре разных реализации, как в реальных цепочках.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConveyorPipelineBenchmark {
+
+    @Param({"5", "20", "50"})
+    public int depth;
+
+    private final @NonNull Integer input = 1;
+
+    private @NonNull Conveyor<Integer, Integer> nested;
+
+    private @NonNull Conveyor<Integer, Integer> flat;
+
+    private @NonNull Conveyor<Integer, Integer> compiled;
+
+    @Setup
+    public void setup() {
+        nested = Conveyor.unchecked();
+        flat = Conveyor.pipeline();
+        for (var index = 0; index < depth; ++index) {
+            switch (index & 3) {
+                case 0 -> {
+                    nested = nested.conveyor(object -> object + 1);
+                    flat = flat.conveyor(object -> object + 1);
+                }
+                case 1 -> {
+                    nested = nested.analyzer(object -> object ^ 1);
+                    flat = flat.analyzer(object -> object ^ 1);
+                }
+                case 2 -> {
+                    nested = nested.handler(Blackhole::consumeCPU);
+                    flat = flat.handler(Blackhole::consumeCPU);
+                }
+                default -> {
+                    nested = nested.conveyor(object -> object - 1);
+                    flat = flat.conveyor(object -> object - 1);
+                }
+            }
+        }
+        compiled = ((Conveyor.Pipeline<Integer, Integer>) flat).compile();
+    }
+
+    @Benchmark
+    public @NonNull Integer nested() {
+        return nested.convey(input);
+    }
+
+    @Benchmark
+    public @NonNull Integer flat() {
+        return flat.convey(input);
+    }
+
+    @Benchmark
+    public @NonNull Integer compiled() {
+        return compiled.convey(input);
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает стоимость генерации и перехвата {@linkplain GetException исключения получения объекта} с трассировкой
+ * стека, без неё и {@linkplain GetException#CURRENT_OBJECT предварительно созданного} на заданной глубине стека.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionThrowBenchmark {
+
+    @Param({"writable", "stackless", "preallocated"})
+    public @NonNull String mode;
+
+    @Param({"1", "32"})
+    public int depth;
+
+    @Benchmark
+    public @NonNull String throwAndCatch() {
+        try {
+            return descend(depth);
+        } catch (final @NonNull GetException e) {
+            return e.getMessage();
+        }
+    }
+
+    private @NonNull String descend(final int depth) throws GetException {
+        if (depth > 1) return descend(depth - 1);
+        throw switch (mode) {
+            case "writable" -> new GetException(GetException.CURRENT_OBJECT_MESSAGE, null, false, true);
+            case "stackless" -> new GetException(GetException.CURRENT_OBJECT_MESSAGE, null, false, false);
+            case "preallocated" -> GetException.CURRENT_OBJECT;
+            default -> throw new IllegalStateException(mode);
+        };
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает объём памяти, выделяемой при создании обёрток двух и трёх объектов, для
+ * {@linkplain BiOptional.Impl интегрированной реализации на основе обёрток объектов} и
+ * {@linkplain BiOptional.Flat компактной реализации}. Объём выделяемой памяти на операцию (gc.alloc.rate.norm)
+ * измеряется профилировщиком сборщика мусора: {@code -prof gc}.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionalAllocationBenchmark {
+
+    @Param({"nested", "flat"})
+    public @NonNull String implementation;
+
+    private final @NonNull Object object = new Object();
+
+    private final @NonNull Exception failure = new Exception();
+
+    @Benchmark
+    public @NonNull BiOptional<Object, Exception> biWithFirst() {
+        return switch (implementation) {
+            case "nested" -> new BiOptional.Impl<>(new Optional.With<>(object), new Optional.Without<>());
+            case "flat" -> new BiOptional.Flat<>(object, null);
+            default -> throw new IllegalStateException(implementation);
+        };
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Object, Exception> biWithSecond() {
+        return switch (implementation) {
+            case "nested" -> new BiOptional.Impl<>(new Optional.Without<>(), new Optional.With<>(failure));
+            case "flat" -> new BiOptional.Flat<>(null, failure);
+            default -> throw new IllegalStateException(implementation);
+        };
+    }
+
+    @Benchmark
+    public @NonNull TriOptional<Object, Object, Exception> triWithFirstAndSecond() {
+        return switch (implementation) {
+            case "nested" -> new TriOptional.Impl<>(new Optional.With<>(object), new Optional.With<>(object),
+                                                    new Optional.Without<>());
+            case "flat" -> new TriOptional.Flat<>(object, object, null);
+            default -> throw new IllegalStateException(implementation);
+        };
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.annotation.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет стоимость фабричных методов и получения объектов {@linkplain Optional обёртки объекта} и
+ * {@linkplain BiOptional обёртки двух объектов}.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionalBenchmark {
+
+    private final @NonNull Object object = new Object();
+
+    private final @NonNull Optional<Object> with = Optional.with(object);
+
+    private final @NonNull Optional<Object> without = Optional.without();
+
+    private @Nullable Object nullable = object;
+
+    @Benchmark
+    public @NonNull Optional<Object> with() {
+        return Optional.with(object);
+    }
+
+    @Benchmark
+    public @NonNull Optional<Object> without() {
+        return Optional.without();
+    }
+
+    @Benchmark
+    public @NonNull Optional<Object> auto() {
+        return Optional.auto(nullable);
+    }
+
+    @Benchmark
+    public @NonNull Object get() {
+        return with.get();
+    }
+
+    @Benchmark
+    public @NonNull Object withAnother() {
+        return without.withAnother(object);
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Object, Object> biWithFirst() {
+        return BiOptional.withFirst(object);
+    }
+
+    @Benchmark
+    public @NonNull BiOptional<Object, Object> biAuto() {
+        return BiOptional.auto(nullable, null);
+    }
+
+}
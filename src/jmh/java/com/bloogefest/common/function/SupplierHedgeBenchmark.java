@@ -0,0 +1,65 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.annotation.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Сравнивает распределение задержки получения объекта от поставщика с редкими медленными ответами при
+ * последовательном обращении к основному поставщику и {@linkplain Supplier#hedged(Supplier, Supplier, Duration,
+ * java.util.concurrent.Executor) хеджировании} резервным поставщиком.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SupplierHedgeBenchmark {
+
+    @Param({"sequential", "hedged"})
+    public @NonNull String strategy;
+
+    private final @NonNull Supplier<Object> remote = () -> {
+        final var random = ThreadLocalRandom.current();
+        LockSupport.parkNanos(random.nextInt(100) < 5 ? 5_000_000 : 100_000);
+        return random;
+    };
+
+    private @NonNull ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public @Nullable Object get() throws Exception {
+        return switch (strategy) {
+            case "sequential" -> remote.get();
+            case "hedged" -> Supplier.hedged(remote, remote, Duration.ofMillis(1), executor).get();
+            default -> throw new IllegalStateException(strategy);
+        };
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.annotation.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет стоимость получения уже запомненного объекта {@linkplain Supplier.Memoized запоминающим} и
+ * {@linkplain Supplier.Expiring запоминающим на срок поставщиками} в сравнении с
+ * {@linkplain Supplier.With поставщиком существующего объекта}.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SupplierMemoizeBenchmark {
+
+    @Param({"with", "memoize", "memoizeFor"})
+    public @NonNull String implementation;
+
+    private @NonNull Supplier<Object> supplier;
+
+    @Setup
+    public void setup() {
+        final var object = new Object();
+        supplier = switch (implementation) {
+            case "with" -> Supplier.with(object);
+            case "memoize" -> Supplier.memoize(() -> object);
+            case "memoizeFor" -> Supplier.memoizeFor(() -> object, Duration.ofHours(1));
+            default -> throw new IllegalStateException(implementation);
+        };
+        supplier.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public @Nullable Object get1() {
+        return supplier.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public @Nullable Object get4() {
+        return supplier.get();
+    }
+
+}
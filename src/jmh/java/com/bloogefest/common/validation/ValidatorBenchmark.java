@@ -0,0 +1,63 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.validation;
+
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.annotation.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет стоимость успешной и неудачной валидации {@linkplain Validator валидатором}. Неудачная валидация включает
+ * создание и перехват исключения без получения его сообщения.
+ *
+ * @since 4.0.0-RC5
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private final @NonNull Object instance = new Object();
+
+    private final @NonNull Object another = new Object();
+
+    private @Nullable Object nullable;
+
+    @Benchmark
+    public @NonNull Object notNull() {
+        return Validator.notNull(instance, "instance");
+    }
+
+    @Benchmark
+    public @Nullable Object equals() {
+        return Validator.equals(instance, instance, "primary", "secondary");
+    }
+
+    @Benchmark
+    public @Nullable Object notNullFailure() {
+        try {
+            return Validator.notNull(nullable, "instance");
+        } catch (final @NonNull NullException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public @Nullable Object equalsFailure() {
+        try {
+            return Validator.equals(instance, another, "primary", "secondary");
+        } catch (final @NonNull NotEqualException e) {
+            return e;
+        }
+    }
+
+}
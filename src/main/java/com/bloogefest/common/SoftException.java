@@ -7,9 +7,14 @@
 package com.bloogefest.common;
 
 import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NonNull;
 import com.bloogefest.annotation.Null;
 import com.bloogefest.annotation.Nullable;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+
 /**
  * Мягкое исключение. Не требует немедленного реагирования.
  *
@@ -39,11 +44,51 @@ public class SoftException extends RuntimeException {
     public static final boolean DEFAULT_SUPPRESSION = false;
 
     /**
-     * Содержит параметр трассировки стека этого исключения по умолчанию.
+     * Содержит имя системного свойства, истинное значение которого включает режим исключений без трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final @NonNull String STACKLESS_PROPERTY = "com.bloogefest.common.stackless";
+
+    /**
+     * Содержит параметр режима исключений без трассировки стека, определяемый
+     * {@linkplain #STACKLESS_PROPERTY системным свойством} при загрузке класса. В этом режиме
+     * {@linkplain #DEFAULT_WRITABLE параметр трассировки стека по умолчанию} ложный, что позволяет использовать
+     * исключения в ожидаемых путях выполнения без затрат на заполнение трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    /**
+     * Содержит параметр трассировки стека этого исключения по умолчанию: ложный в
+     * {@linkplain #STACKLESS режиме исключений без трассировки стека}, в противном случае истинный.
      *
      * @since 4.0.0-RC3
      */
-    public static final boolean DEFAULT_WRITABLE = true;
+    public static final boolean DEFAULT_WRITABLE = !STACKLESS;
+
+    /**
+     * Содержит аргументы шаблонного сообщения этого исключения по умолчанию.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final @Nullable Object @Null [] DEFAULT_ARGUMENTS = null;
+
+    /**
+     * Содержит аргументы шаблонного сообщения этого исключения. Не сериализуются: перед сериализацией сообщение
+     * форматируется.
+     *
+     * @since 4.0.0-RC5
+     */
+    private final transient @Nullable Object @Nullable [] arguments;
+
+    /**
+     * Содержит отформатированное сообщение этого исключения.
+     *
+     * @since 4.0.0-RC5
+     */
+    private @Nullable String formattedMessage;
 
     /**
      * Создаёт экземпляр этого исключения на основе {@linkplain #DEFAULT_MESSAGE сообщения},
@@ -54,7 +99,7 @@ public class SoftException extends RuntimeException {
      */
     @Contract(value = "-> new", impact = Contract.Impact.INTERNAL)
     public SoftException() {
-        super(DEFAULT_MESSAGE, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+        this(DEFAULT_MESSAGE, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
     }
 
     /**
@@ -68,7 +113,7 @@ public class SoftException extends RuntimeException {
      */
     @Contract(value = "? -> new", impact = Contract.Impact.INTERNAL)
     public SoftException(final @Nullable String message) {
-        super(message, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+        this(message, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
     }
 
     /**
@@ -82,7 +127,7 @@ public class SoftException extends RuntimeException {
      */
     @Contract(value = "? -> new", impact = Contract.Impact.INTERNAL)
     public SoftException(final @Nullable Throwable cause) {
-        super(DEFAULT_MESSAGE, cause, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+        this(DEFAULT_MESSAGE, cause, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
     }
 
     /**
@@ -97,7 +142,7 @@ public class SoftException extends RuntimeException {
      */
     @Contract(value = "?, ? -> new", impact = Contract.Impact.INTERNAL)
     public SoftException(final @Nullable String message, final @Nullable Throwable cause) {
-        super(message, cause, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+        this(message, cause, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
     }
 
     /**
@@ -111,7 +156,7 @@ public class SoftException extends RuntimeException {
      */
     @Contract(value = "?, ? -> new", impact = Contract.Impact.INTERNAL)
     public SoftException(final boolean suppression, final boolean writable) {
-        super(DEFAULT_MESSAGE, DEFAULT_CAUSE, suppression, writable);
+        this(DEFAULT_MESSAGE, DEFAULT_CAUSE, suppression, writable);
     }
 
     /**
@@ -126,7 +171,7 @@ public class SoftException extends RuntimeException {
      */
     @Contract(value = "?, ?, ? -> new", impact = Contract.Impact.INTERNAL)
     public SoftException(final @Nullable String message, final boolean suppression, final boolean writable) {
-        super(message, DEFAULT_CAUSE, suppression, writable);
+        this(message, DEFAULT_CAUSE, suppression, writable);
     }
 
     /**
@@ -141,7 +186,7 @@ public class SoftException extends RuntimeException {
      */
     @Contract(value = "?, ?, ? -> new", impact = Contract.Impact.INTERNAL)
     public SoftException(final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
-        super(DEFAULT_MESSAGE, cause, suppression, writable);
+        this(DEFAULT_MESSAGE, cause, suppression, writable);
     }
 
     /**
@@ -159,6 +204,60 @@ public class SoftException extends RuntimeException {
     public SoftException(final @Nullable String message, final @Nullable Throwable cause, final boolean suppression,
                          final boolean writable) {
         super(message, cause, suppression, writable);
+        arguments = DEFAULT_ARGUMENTS;
+    }
+
+    /**
+     * Создаёт экземпляр этого исключения на основе переданных шаблонного сообщения, его аргументов, причины, параметров
+     * подавления и трассировки стека. Шаблонное сообщение форматируется только при первом
+     * {@linkplain #getMessage() получении сообщения}, поэтому перехваченные и отброшенные исключения не требуют затрат
+     * на форматирование.
+     *
+     * @param template шаблонное сообщение.
+     * @param arguments аргументы шаблонного сообщения.
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "?, ?, ?, ?, ? -> new", impact = Contract.Impact.INTERNAL)
+    public SoftException(final @Nullable String template, final @Nullable Object @Nullable [] arguments,
+                         final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
+        super(template, cause, suppression, writable);
+        this.arguments = arguments;
+    }
+
+    /**
+     * Возвращает сообщение этого исключения. Если это исключение создано на основе шаблонного сообщения, то форматирует
+     * его при первом вызове и запоминает результат.
+     *
+     * @return Сообщение этого исключения.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Override
+    @Contract(value = "-> ?", impact = Contract.Impact.INTERNAL)
+    public @Nullable String getMessage() {
+        final var formattedMessage = this.formattedMessage;
+        if (formattedMessage != null) return formattedMessage;
+        final var template = super.getMessage();
+        if (arguments == null || template == null) return template;
+        return this.formattedMessage = template.formatted(arguments);
+    }
+
+    /**
+     * Форматирует сообщение этого исключения и сериализует его.
+     *
+     * @param stream поток вывода объектов.
+     *
+     * @throws IOException исключение ввода-вывода.
+     * @since 4.0.0-RC5
+     */
+    @Serial
+    private void writeObject(final @NonNull ObjectOutputStream stream) throws IOException {
+        getMessage();
+        stream.defaultWriteObject();
     }
 
 }
@@ -7,6 +7,7 @@
 package com.bloogefest.common;
 
 import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NonNull;
 import com.bloogefest.annotation.Null;
 import com.bloogefest.annotation.Nullable;
 
@@ -39,11 +40,29 @@ public class StrictException extends Exception {
     public static final boolean DEFAULT_SUPPRESSION = false;
 
     /**
-     * Содержит параметр трассировки стека этого исключения по умолчанию.
+     * Содержит имя системного свойства, истинное значение которого включает режим исключений без трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final @NonNull String STACKLESS_PROPERTY = SoftException.STACKLESS_PROPERTY;
+
+    /**
+     * Содержит параметр режима исключений без трассировки стека, определяемый
+     * {@linkplain #STACKLESS_PROPERTY системным свойством} при загрузке класса. В этом режиме
+     * {@linkplain #DEFAULT_WRITABLE параметр трассировки стека по умолчанию} ложный, что позволяет использовать
+     * исключения в ожидаемых путях выполнения без затрат на заполнение трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    /**
+     * Содержит параметр трассировки стека этого исключения по умолчанию: ложный в
+     * {@linkplain #STACKLESS режиме исключений без трассировки стека}, в противном случае истинный.
      *
      * @since 4.0.0-RC3
      */
-    public static final boolean DEFAULT_WRITABLE = true;
+    public static final boolean DEFAULT_WRITABLE = !STACKLESS;
 
     /**
      * Создаёт экземпляр этого исключения на основе {@linkplain #DEFAULT_MESSAGE сообщения},
@@ -31,6 +31,24 @@ public class SingletonException extends CreationException {
      */
     public static final @NonNull String TEMPLATE_MESSAGE = "Only one instance of %s can be created";
 
+    /**
+     * Создаёт экземпляр этого исключения на основе {@linkplain #TEMPLATE_MESSAGE шаблонного сообщения} и переданных
+     * аргументов, {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}. Шаблонное сообщение форматируется только при
+     * первом получении сообщения.
+     *
+     * @param arguments аргументы шаблонного сообщения.
+     *
+     * @return Новый экземпляр этого исключения.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "? -> new", impact = Contract.Impact.NONE)
+    public static @NonNull SingletonException templated(final @Nullable Object @NonNull ... arguments) {
+        return new SingletonException(TEMPLATE_MESSAGE, arguments, DEFAULT_CAUSE, DEFAULT_SUPPRESSION,
+                                      DEFAULT_WRITABLE);
+    }
+
     /**
      * Создаёт экземпляр этого исключения на основе {@linkplain #DEFAULT_MESSAGE сообщения},
      * {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
@@ -147,4 +165,22 @@ public class SingletonException extends CreationException {
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Создаёт экземпляр этого исключения на основе переданных шаблонного сообщения, его аргументов, причины, параметров
+     * подавления и трассировки стека. Шаблонное сообщение форматируется только при первом получении сообщения.
+     *
+     * @param template шаблонное сообщение.
+     * @param arguments аргументы шаблонного сообщения.
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "?, ?, ?, ?, ? -> new", impact = Contract.Impact.INTERNAL)
+    public SingletonException(final @Nullable String template, final @Nullable Object @Nullable [] arguments,
+                              final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
+        super(template, arguments, cause, suppression, writable);
+    }
+
 }
@@ -31,6 +31,23 @@ public class UtilityException extends CreationException {
      */
     public static final @NonNull String TEMPLATE_MESSAGE = "An instance of %s mustn't be created";
 
+    /**
+     * Создаёт экземпляр этого исключения на основе {@linkplain #TEMPLATE_MESSAGE шаблонного сообщения} и переданных
+     * аргументов, {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}. Шаблонное сообщение форматируется только при
+     * первом получении сообщения.
+     *
+     * @param arguments аргументы шаблонного сообщения.
+     *
+     * @return Новый экземпляр этого исключения.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "? -> new", impact = Contract.Impact.NONE)
+    public static @NonNull UtilityException templated(final @Nullable Object @NonNull ... arguments) {
+        return new UtilityException(TEMPLATE_MESSAGE, arguments, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+    }
+
     /**
      * Создаёт экземпляр этого исключения на основе {@linkplain #DEFAULT_MESSAGE сообщения},
      * {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
@@ -147,4 +164,22 @@ public class UtilityException extends CreationException {
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Создаёт экземпляр этого исключения на основе переданных шаблонного сообщения, его аргументов, причины, параметров
+     * подавления и трассировки стека. Шаблонное сообщение форматируется только при первом получении сообщения.
+     *
+     * @param template шаблонное сообщение.
+     * @param arguments аргументы шаблонного сообщения.
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "?, ?, ?, ?, ? -> new", impact = Contract.Impact.INTERNAL)
+    public UtilityException(final @Nullable String template, final @Nullable Object @Nullable [] arguments,
+                            final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
+        super(template, arguments, cause, suppression, writable);
+    }
+
 }
@@ -0,0 +1,187 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.annotation.Nullable;
+
+/**
+ * Исключение накопления объекта.
+ *
+ * @since 4.0.0-RC5
+ */
+public class AccumulateException extends FunctionException {
+
+    /**
+     * Сообщение по умолчанию.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final @NonNull String DEFAULT_MESSAGE = "Failed to accumulate the object";
+
+    /**
+     * Шаблонное сообщение.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final @NonNull String TEMPLATE_MESSAGE = "Failed to accumulate %s";
+
+    /**
+     * Создаёт исключение накопления объекта на основе {@linkplain #TEMPLATE_MESSAGE шаблонного сообщения} и переданных
+     * аргументов, {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}. Шаблонное сообщение форматируется только при
+     * первом получении сообщения.
+     *
+     * @param arguments аргументы шаблонного сообщения.
+     *
+     * @return Новое исключение накопления объекта.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    public static @NonNull AccumulateException templated(final @Nullable Object @NonNull ... arguments) {
+        return new AccumulateException(TEMPLATE_MESSAGE, arguments, DEFAULT_CAUSE, DEFAULT_SUPPRESSION,
+                                       DEFAULT_WRITABLE);
+    }
+
+    /**
+     * Создаёт исключение накопления объекта на основе {@linkplain #DEFAULT_MESSAGE сообщения},
+     * {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> new")
+    public AccumulateException() {
+        this(DEFAULT_MESSAGE, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+    }
+
+    /**
+     * Создаёт исключение накопления объекта на основе переданного сообщения, {@linkplain #DEFAULT_CAUSE причины},
+     * {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}.
+     *
+     * @param message сообщение.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    public AccumulateException(final @Nullable String message) {
+        this(message, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+    }
+
+    /**
+     * Создаёт исключение накопления объекта на основе {@linkplain #DEFAULT_MESSAGE сообщения по умолчанию}, переданной
+     * причины, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}.
+     *
+     * @param cause причина.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    public AccumulateException(final @Nullable Throwable cause) {
+        this(DEFAULT_MESSAGE, cause, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+    }
+
+    /**
+     * Создаёт исключение накопления объекта на основе переданного сообщения и причины,
+     * {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}.
+     *
+     * @param message сообщение.
+     * @param cause причина.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_, _ -> new")
+    public AccumulateException(final @Nullable String message, final @Nullable Throwable cause) {
+        this(message, cause, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+    }
+
+    /**
+     * Создаёт исключение накопления объекта на основе {@linkplain #DEFAULT_MESSAGE сообщения} и
+     * {@linkplain #DEFAULT_CAUSE причины по умолчанию}, переданных параметров подавления и трассировки стека.
+     *
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_, _ -> new")
+    public AccumulateException(final boolean suppression, final boolean writable) {
+        this(DEFAULT_MESSAGE, DEFAULT_CAUSE, suppression, writable);
+    }
+
+    /**
+     * Создаёт исключение накопления объекта на основе переданного сообщения,
+     * {@linkplain #DEFAULT_CAUSE причины по умолчанию}, переданных параметров подавления и трассировки стека.
+     *
+     * @param message сообщение.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_, _, _ -> new")
+    public AccumulateException(final @Nullable String message, final boolean suppression, final boolean writable) {
+        this(message, DEFAULT_CAUSE, suppression, writable);
+    }
+
+    /**
+     * Создаёт исключение накопления объекта на основе {@linkplain #DEFAULT_MESSAGE сообщения по умолчанию}, переданной
+     * причины, параметров подавления и трассировки стека.
+     *
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_, _, _ -> new")
+    public AccumulateException(final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
+        this(DEFAULT_MESSAGE, cause, suppression, writable);
+    }
+
+    /**
+     * Создаёт исключение накопления объекта на основе переданного сообщения, причины, параметров подавления и
+     * трассировки стека.
+     *
+     * @param message сообщение.
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_, _, _, _ -> new")
+    public AccumulateException(final @Nullable String message, final @Nullable Throwable cause,
+                               final boolean suppression, final boolean writable) {
+        super(message, cause, suppression, writable);
+    }
+
+    /**
+     * Создаёт исключение накопления объекта на основе переданных шаблонного сообщения, его аргументов, причины,
+     * параметров подавления и трассировки стека. Шаблонное сообщение форматируется только при первом получении
+     * сообщения.
+     *
+     * @param template шаблонное сообщение.
+     * @param arguments аргументы шаблонного сообщения.
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_, _, _, _, _ -> new")
+    public AccumulateException(final @Nullable String template, final @Nullable Object @Nullable [] arguments,
+                               final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
+        super(template, arguments, cause, suppression, writable);
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.annotation.Nullable;
+
+/**
+ * Функциональный интерфейс накопителя объекта.
+ *
+ * @param <T> тип накапливаемого объекта.
+ *
+ * @since 4.0.0-RC5
+ */
+@Experimental(from = "4.0.0-RC5")
+@FunctionalInterface
+public interface Accumulator<T> {
+
+    /**
+     * Возвращает переданный накопитель.
+     *
+     * @param accumulator накопитель объекта.
+     *
+     * @return Переданный накопитель.
+     *
+     * @apiNote Этот метод можно использовать для приведения лямбда-выражений к типу накопителя объекта.
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> 1")
+    static <T> @NonNull Accumulator<T> lambda(final @NonNull Accumulator<T> accumulator) {
+        return accumulator;
+    }
+
+    /**
+     * Накапливает переданный объект в переданном текущем объекте и возвращает результирующий объект.
+     *
+     * @param current текущий объект.
+     * @param object накапливаемый объект.
+     *
+     * @return Результирующий объект этого накопителя.
+     *
+     * @throws AccumulateException исключение накопления объекта (переданного накапливаемого объекта).
+     * @since 4.0.0-RC5
+     */
+    @Nullable T accumulate(final @Nullable T current, final @Nullable T object) throws AccumulateException;
+
+}
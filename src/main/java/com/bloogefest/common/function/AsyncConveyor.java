@@ -0,0 +1,292 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Асинхронный конвейер — неблокирующий аналог {@linkplain Conveyor конвейера}, метод передачи которого возвращает
+ * {@linkplain CompletionStage этап завершения} выходного объекта. Стадии цепочки асинхронных конвейеров выполняются по
+ * завершении предыдущих, не занимая поток на время ожидания, поэтому тысячи объектов могут одновременно ожидать
+ * ввода-вывода без выделения потока на каждый объект.
+ *
+ * @param <I> тип входного объекта.
+ * @param <O> тип выходного объекта.
+ *
+ * @see #of(Conveyor)
+ * @see #of(Conveyor, Executor)
+ * @see #ofAnalyzer(Analyzer)
+ * @see Conveyor#async()
+ * @see Conveyor#async(Executor)
+ * @since 4.0.0-RC5
+ */
+@Experimental(from = "4.0.0-RC5")
+@FunctionalInterface
+public interface AsyncConveyor<I, O> {
+
+    /**
+     * Создаёт асинхронный конвейер, синхронно передающий входной объект переданному конвейеру в вызывающем потоке и
+     * возвращающий завершённый этап его выходного объекта либо исключения.
+     *
+     * @param conveyor конвейер.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного конвейера.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null -> new; _ -> fail")
+    static <I, O> @NonNull AsyncConveyor<I, O> of(final @NonNull Conveyor<? super I, ? extends O> conveyor)
+            throws NullException {
+        Validator.notNull(conveyor, "conveyor");
+        return input -> {
+            try {
+                return CompletableFuture.completedFuture(conveyor.convey(input));
+            } catch (final @NonNull Throwable failure) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        };
+    }
+
+    /**
+     * Создаёт асинхронный конвейер, передающий входной объект переданному конвейеру в переданном исполнителе.
+     *
+     * @param conveyor конвейер.
+     * @param executor исполнитель.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного конвейера или исполнителя.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    static <I, O> @NonNull AsyncConveyor<I, O> of(final @NonNull Conveyor<? super I, ? extends O> conveyor,
+                                                  final @NonNull Executor executor) throws NullException {
+        Validator.notNull(conveyor, "conveyor");
+        Validator.notNull(executor, "executor");
+        return input -> CompletableFuture.supplyAsync(() -> conveyor.convey(input), executor);
+    }
+
+    /**
+     * Создаёт асинхронный конвейер, синхронно анализирующий входной объект переданным анализатором в вызывающем потоке
+     * и возвращающий завершённый этап его результирующего объекта либо исключения.
+     *
+     * @param analyzer анализатор объекта.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного анализатора.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null -> new; _ -> fail")
+    static <I, O> @NonNull AsyncConveyor<I, O> ofAnalyzer(final @NonNull Analyzer<? super I, ? extends O> analyzer)
+            throws NullException {
+        Validator.notNull(analyzer, "analyzer");
+        return of((Conveyor<? super I, ? extends O>) analyzer::analyze);
+    }
+
+    /**
+     * Возвращает переданный асинхронный конвейер.
+     *
+     * @param conveyor асинхронный конвейер.
+     *
+     * @return Переданный асинхронный конвейер.
+     *
+     * @apiNote Этот метод можно использовать для приведения лямбда-выражений к типу асинхронного конвейера.
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> 1")
+    static <I, O> @NonNull AsyncConveyor<I, O> lambda(final @NonNull AsyncConveyor<I, O> conveyor) {
+        return conveyor;
+    }
+
+    /**
+     * Передаёт входной объект этому асинхронному конвейеру и возвращает этап завершения выходного объекта.
+     *
+     * @param input входной объект.
+     *
+     * @return Этап завершения выходного объекта.
+     *
+     * @since 4.0.0-RC5
+     */
+    @NonNull CompletionStage<O> convey(final @NonNull I input);
+
+    /**
+     * Создаёт асинхронный конвейер, передающий выходной объект этого асинхронного конвейера переданному конвейеру по
+     * завершении.
+     *
+     * @param conveyor конвейер.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного конвейера.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null -> new; _ -> fail")
+    default <O_> @NonNull AsyncConveyor<I, O_> conveyor(final @NonNull Conveyor<? super O, O_> conveyor)
+            throws NullException {
+        Validator.notNull(conveyor, "conveyor");
+        return input -> convey(input).thenApply(conveyor::convey);
+    }
+
+    /**
+     * Создаёт асинхронный конвейер, анализирующий выходной объект этого асинхронного конвейера переданным
+     * анализатором по завершении.
+     *
+     * @param analyzer анализатор объекта.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного анализатора.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null -> new; _ -> fail")
+    default <O_> @NonNull AsyncConveyor<I, O_> analyzer(final @NonNull Analyzer<? super O, O_> analyzer)
+            throws NullException {
+        Validator.notNull(analyzer, "analyzer");
+        return input -> convey(input).thenApply(analyzer::analyze);
+    }
+
+    /**
+     * Создаёт асинхронный конвейер, передающий выходной объект этого асинхронного конвейера переданному обработчику по
+     * завершении и возвращающий тот же объект.
+     *
+     * @param handler обработчик объекта.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного обработчика.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null -> new; _ -> fail")
+    default @NonNull AsyncConveyor<I, O> handler(final @NonNull Handler<? super O> handler) throws NullException {
+        Validator.notNull(handler, "handler");
+        return input -> convey(input).thenApply(output -> {
+            handler.handle(output);
+            return output;
+        });
+    }
+
+    /**
+     * Создаёт асинхронный конвейер, вызывающий переданный обратный вызов по завершении этого асинхронного конвейера и
+     * возвращающий его выходной объект.
+     *
+     * @param callback обратный вызов.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного обратного вызова.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null -> new; _ -> fail")
+    default @NonNull AsyncConveyor<I, O> callback(final @NonNull Callback callback) throws NullException {
+        Validator.notNull(callback, "callback");
+        return input -> convey(input).thenApply(output -> {
+            callback.call();
+            return output;
+        });
+    }
+
+    /**
+     * Создаёт асинхронный конвейер, передающий выходной объект этого асинхронного конвейера переданному асинхронному
+     * конвейеру по завершении и завершающийся вместе с ним.
+     *
+     * @param conveyor асинхронный конвейер.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного асинхронного конвейера.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null -> new; _ -> fail")
+    default <O_> @NonNull AsyncConveyor<I, O_> asyncConveyor(final @NonNull AsyncConveyor<? super O, O_> conveyor)
+            throws NullException {
+        Validator.notNull(conveyor, "conveyor");
+        return input -> convey(input).thenCompose(conveyor::convey);
+    }
+
+    /**
+     * Создаёт асинхронный конвейер, завершающийся выходным объектом этого асинхронного конвейера в переданном
+     * исполнителе, а не в потоке, завершившем эту стадию.
+     *
+     * @param executor исполнитель.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного исполнителя.
+     * @implNote Последующие стадии, присоединённые {@linkplain #conveyor(Conveyor) синхронными комбинаторами},
+     * выполняются в потоке исполнителя, только если присоединены до завершения; иначе они выполняются в
+     * присоединяющем потоке. Чтобы гарантированно выполнить стадию в исполнителе, используйте
+     * {@linkplain #thenConveyAsync(Conveyor, Executor)}.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null -> new; _ -> fail")
+    default @NonNull AsyncConveyor<I, O> thenConveyAsync(final @NonNull Executor executor) throws NullException {
+        Validator.notNull(executor, "executor");
+        return input -> convey(input).thenApplyAsync(output -> output, executor);
+    }
+
+    /**
+     * Создаёт асинхронный конвейер, передающий выходной объект этого асинхронного конвейера переданному конвейеру в
+     * переданном исполнителе по завершении.
+     *
+     * @param conveyor конвейер.
+     * @param executor исполнитель.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного конвейера или исполнителя.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    default <O_> @NonNull AsyncConveyor<I, O_> thenConveyAsync(final @NonNull Conveyor<? super O, O_> conveyor,
+                                                               final @NonNull Executor executor) throws NullException {
+        Validator.notNull(conveyor, "conveyor");
+        Validator.notNull(executor, "executor");
+        return input -> convey(input).thenApplyAsync(conveyor::convey, executor);
+    }
+
+    /**
+     * Создаёт асинхронный конвейер, завершающийся обёрткой выходного объекта этого асинхронного конвейера либо
+     * исключения, с которым завершилась или которое сгенерировала передача, вместо исключительного завершения.
+     * Нулевой выходной объект, как и в {@linkplain Conveyor#failure() синхронном аналоге}, оборачивается в виде
+     * {@linkplain NullException исключения валидации}.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @see Conveyor#failure()
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> new")
+    default @NonNull AsyncConveyor<I, BiOptional<O, Throwable>> failure() {
+        return input -> {
+            final CompletionStage<O> stage;
+            try {
+                stage = convey(input);
+            } catch (final @NonNull Throwable failure) {
+                return CompletableFuture.completedFuture(BiOptional.withSecond(failure));
+            }
+            return stage.handle((output, failure) -> {
+                if (failure != null) return BiOptional.withSecond(
+                        failure instanceof CompletionException && failure.getCause() != null ? failure.getCause()
+                                                                                             : failure);
+                return output != null ? BiOptional.withFirst(output)
+                                      : BiOptional.withSecond(NullException.templated("The passed first object"));
+            });
+        };
+    }
+
+}
@@ -7,19 +7,27 @@
 package com.bloogefest.common.function;
 
 import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
 import com.bloogefest.annotation.NonNull;
 import com.bloogefest.annotation.Nullable;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.StampedLock;
+
 /**
  * Контейнер двух объектов — это функциональный инструмент, способный содержать два объекта. Он предоставляет методы для
- * получения их контейнеров ({@linkplain #first()}, {@linkplain #second()}).
+ * получения их контейнеров ({@linkplain #first()}, {@linkplain #second()}), совместной установки
+ * ({@linkplain #setBoth(Object, Object)}, {@linkplain #compareAndSetBoth(Object, Object, Object, Object)}) и
+ * копирования ({@linkplain #snapshot()}).
  *
  * @param <T1> тип первого объекта.
  * @param <T2> тип второго объекта.
  *
  * @see Impl
+ * @see LockFree
  * @see #without()
  * @see #withFirst(Object)
  * @see #withSecond(Object)
@@ -27,6 +35,7 @@ import com.bloogefest.common.validation.Validator;
  * @see #autoFirst(Object, Object)
  * @see #autoSecond(Object, Object)
  * @see #auto(Object, Object)
+ * @see #lockFree()
  * @since 4.0.0-RC2
  */
 public interface BiContainer<T1, T2> {
@@ -39,8 +48,8 @@ public interface BiContainer<T1, T2> {
      *
      * @return Контейнер двух несуществующих объектов.
      *
-     * @see Impl
-     * @see Impl#Impl()
+     * @see LockFree
+     * @see LockFree#LockFree()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
      * @see #with(Object, Object)
@@ -51,7 +60,7 @@ public interface BiContainer<T1, T2> {
      */
     @Contract("-> new")
     static <T1, T2> @NonNull BiContainer<T1, T2> without() {
-        return new Impl<>();
+        return new LockFree<>();
     }
 
     /**
@@ -64,8 +73,8 @@ public interface BiContainer<T1, T2> {
      * @return Контейнер переданного первого и несуществующего объекта.
      *
      * @throws NullException исключение валидации нулевого переданного первого объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean)
      * @see #without()
      * @see #withSecond(Object)
      * @see #with(Object, Object)
@@ -76,7 +85,7 @@ public interface BiContainer<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2> @NonNull BiContainer<T1, T2> withFirst(final @NonNull T1 object) throws NullException {
-        return new Impl<>(Container.with(object), Container.without());
+        return new LockFree<>(object, true, null, false);
     }
 
     /**
@@ -89,8 +98,8 @@ public interface BiContainer<T1, T2> {
      * @return Контейнер несуществующего объекта и переданного второго объекта.
      *
      * @throws NullException исключение валидации нулевого переданного второго объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #with(Object, Object)
@@ -101,7 +110,7 @@ public interface BiContainer<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2> @NonNull BiContainer<T1, T2> withSecond(final @NonNull T2 object) throws NullException {
-        return new Impl<>(Container.without(), Container.with(object));
+        return new LockFree<>(null, false, object, true);
     }
 
     /**
@@ -115,8 +124,8 @@ public interface BiContainer<T1, T2> {
      * @return Контейнер переданного первого и второго объектов.
      *
      * @throws NullException исключение валидации нулевого переданного первого или второго объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -128,7 +137,7 @@ public interface BiContainer<T1, T2> {
     @Contract("!null, !null -> new; _, _ -> fail")
     static <T1, T2> @NonNull BiContainer<T1, T2> with(final @NonNull T1 first,
                                                       final @NonNull T2 second) throws NullException {
-        return new Impl<>(Container.with(first), Container.with(second));
+        return new LockFree<>(first, second);
     }
 
     /**
@@ -144,8 +153,8 @@ public interface BiContainer<T1, T2> {
      * объекта.
      *
      * @throws NullException исключение валидации нулевого переданного второго объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -173,8 +182,8 @@ public interface BiContainer<T1, T2> {
      * объекта.
      *
      * @throws NullException исключение валидации нулевого переданного первого объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -203,8 +212,8 @@ public interface BiContainer<T1, T2> {
      * @return Контейнер переданного первого и второго объектов, или переданного первого объекта и несуществующего
      * объекта, или несуществующего объекта и переданного второго объекта, или двух несуществующих объектов.
      *
-     * @see Impl#Impl()
-     * @see Impl#Impl(Container, Container)
+     * @see LockFree#LockFree()
+     * @see LockFree#LockFree(Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -219,6 +228,71 @@ public interface BiContainer<T1, T2> {
                second != null ? withSecond(second) : without();
     }
 
+    /**
+     * Создаёт и возвращает неблокирующий контейнер двух несуществующих объектов.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     *
+     * @return Неблокирующий контейнер двух несуществующих объектов.
+     *
+     * @see LockFree
+     * @see #lockFree(Object, Object)
+     * @see #lockFree(Object, boolean, Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    static <T1, T2> @NonNull BiContainer<T1, T2> lockFree() {
+        return new LockFree<>();
+    }
+
+    /**
+     * Создаёт и возвращает неблокирующий контейнер переданного первого и второго объектов.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     * @param first первый объект.
+     * @param second второй объект.
+     *
+     * @return Неблокирующий контейнер переданного первого и второго объектов.
+     *
+     * @see LockFree
+     * @see #lockFree()
+     * @see #lockFree(Object, boolean, Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("_, _ -> new")
+    static <T1, T2> @NonNull BiContainer<T1, T2> lockFree(final @Nullable T1 first, final @Nullable T2 second) {
+        return new LockFree<>(first, second);
+    }
+
+    /**
+     * Создаёт и возвращает неблокирующий контейнер переданного первого и второго объектов на основе переданных
+     * параметров их существования.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     * @param first первый объект.
+     * @param containsFirst параметр существования первого объекта.
+     * @param second второй объект.
+     * @param containsSecond параметр существования второго объекта.
+     *
+     * @return Неблокирующий контейнер переданных или несуществующих первого и второго объектов.
+     *
+     * @see LockFree
+     * @see #lockFree()
+     * @see #lockFree(Object, Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("_, _, _, _ -> new")
+    static <T1, T2> @NonNull BiContainer<T1, T2> lockFree(final @Nullable T1 first, final boolean containsFirst,
+                                                          final @Nullable T2 second, final boolean containsSecond) {
+        return new LockFree<>(first, containsFirst, second, containsSecond);
+    }
+
     /**
      * Возвращает контейнер текущего первого объекта.
      *
@@ -239,12 +313,62 @@ public interface BiContainer<T1, T2> {
     @Contract("-> !null")
     @NonNull Container<T2> second();
 
+    /**
+     * Атомарно устанавливает переданные первый и второй объекты. Возвращает текущий контейнер переданных объектов.
+     *
+     * @param first первый объект.
+     * @param second второй объект.
+     *
+     * @return Текущий контейнер переданных объектов.
+     *
+     * @see #compareAndSetBoth(Object, Object, Object, Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract(value = "_, _ -> this", impact = Contract.Impact.INTERNAL)
+    @NonNull BiContainer<T1, T2> setBoth(final @Nullable T1 first, final @Nullable T2 second);
+
+    /**
+     * Если текущие первый и второй объекты существуют и идентичны ожидаемым, то атомарно устанавливает переданные
+     * первый и второй объекты и возвращает истину, в противном случае — ложь.
+     *
+     * @param expectedFirst ожидаемый первый объект.
+     * @param expectedSecond ожидаемый второй объект.
+     * @param first первый объект.
+     * @param second второй объект.
+     *
+     * @return Параметр успешности установки переданных объектов.
+     *
+     * @see #setBoth(Object, Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract(value = "_, _, _, _ -> _", impact = Contract.Impact.INTERNAL)
+    boolean compareAndSetBoth(final @Nullable T1 expectedFirst, final @Nullable T2 expectedSecond,
+                              final @Nullable T1 first, final @Nullable T2 second);
+
+    /**
+     * Создаёт и возвращает независимый контейнер, содержащий согласованную копию текущих объектов.
+     *
+     * @return Независимый контейнер копии текущих объектов.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    @NonNull BiContainer<T1, T2> snapshot();
+
     /**
      * Интегрированная реализация контейнера двух объектов.
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      *
+     * @implNote Составные операции над объектами выполняются под {@linkplain #lock инструментом для управления
+     * доступом} и атомарны относительно друг друга. Контейнеры {@linkplain #first() первого} и
+     * {@linkplain #second() второго} объектов являются переданными независимыми контейнерами, поэтому их прямые
+     * изменения эту блокировку не захватывают; атомарность относительно них обеспечивает
+     * {@linkplain LockFree неблокирующая реализация контейнера двух объектов}, создаваемая фабричными методами.
      * @see BiContainer
      * @see #Impl()
      * @see #Impl(Container, Container)
@@ -252,6 +376,13 @@ public interface BiContainer<T1, T2> {
      */
     class Impl<T1, T2> implements BiContainer<T1, T2> {
 
+        /**
+         * Инструмент для управления доступом, под которым выполняются составные операции над объектами.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull StampedLock lock = new StampedLock();
+
         /**
          * Контейнер текущего первого объекта.
          *
@@ -319,6 +450,704 @@ public interface BiContainer<T1, T2> {
             return second;
         }
 
+        /**
+         * Устанавливает переданные первый и второй объекты в {@linkplain #first контейнер текущего первого объекта} и
+         * {@linkplain #second контейнер текущего второго объекта}. Возвращает текущий контейнер переданных объектов.
+         *
+         * @param first первый объект.
+         * @param second второй объект.
+         *
+         * @return Текущий контейнер переданных объектов.
+         *
+         * @implNote Объекты устанавливаются под блокировкой записи {@linkplain #lock инструмента для управления
+         * доступом}.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _ -> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull BiContainer<T1, T2> setBoth(final @Nullable T1 first, final @Nullable T2 second) {
+            final var stamp = lock.writeLock();
+            try {
+                this.first.set(first);
+                this.second.set(second);
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если текущие первый и второй объекты существуют и идентичны ожидаемым, то устанавливает переданные первый и
+         * второй объекты и возвращает истину, в противном случае — ложь.
+         *
+         * @param expectedFirst ожидаемый первый объект.
+         * @param expectedSecond ожидаемый второй объект.
+         * @param first первый объект.
+         * @param second второй объект.
+         *
+         * @return Параметр успешности установки переданных объектов.
+         *
+         * @implNote Сравнение и установка выполняются под одной блокировкой записи {@linkplain #lock инструмента для
+         * управления доступом}.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _, _, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSetBoth(final @Nullable T1 expectedFirst, final @Nullable T2 expectedSecond,
+                                         final @Nullable T1 first, final @Nullable T2 second) {
+            final var stamp = lock.writeLock();
+            try {
+                if (!matches(this.first, expectedFirst) || !matches(this.second, expectedSecond)) return false;
+                this.first.set(first);
+                this.second.set(second);
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Создаёт и возвращает интегрированную реализацию контейнера двух объектов на основе копий
+         * {@linkplain #first контейнера текущего первого объекта} и {@linkplain #second контейнера текущего второго
+         * объекта}.
+         *
+         * @return Независимый контейнер копии текущих объектов.
+         *
+         * @implNote Контейнеры копируются под блокировкой чтения {@linkplain #lock инструмента для управления
+         * доступом}.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> new")
+        public @NonNull BiContainer<T1, T2> snapshot() {
+            final var stamp = lock.readLock();
+            try {
+                return new Impl<>(copy(first), copy(second));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * Создаёт и возвращает контейнер объекта, содержащий текущий объект переданного контейнера, если он существует,
+         * в противном случае — контейнер несуществующего объекта.
+         *
+         * @param <T> тип объекта.
+         * @param container контейнер объекта.
+         *
+         * @return Копия переданного контейнера объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        protected static <T> @NonNull Container<T> copy(final @NonNull Container<T> container) {
+            try {
+                return Container.with(container.get());
+            } catch (final @NonNull GetException ignored) {
+                return Container.without();
+            }
+        }
+
+        /**
+         * Возвращает параметр существования текущего объекта переданного контейнера и его идентичности ожидаемому.
+         *
+         * @param <T> тип объекта.
+         * @param container контейнер объекта.
+         * @param expected ожидаемый объект.
+         *
+         * @return Параметр существования и идентичности текущего объекта переданного контейнера.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> _")
+        protected static <T> boolean matches(final @NonNull Container<T> container, final @Nullable T expected) {
+            try {
+                return container.get() == expected;
+            } catch (final @NonNull GetException ignored) {
+                return false;
+            }
+        }
+
+    }
+
+    /**
+     * Неблокирующая реализация контейнера двух объектов. Хранит текущие объекты или
+     * {@linkplain #ABSENT маркеры несуществующего объекта} в неизменяемом массиве {@linkplain #state текущего
+     * состояния}, который при каждом изменении заменяется новым через сравнение с обменом, поэтому объекты всегда
+     * публикуются и наблюдаются согласованно.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     *
+     * @implNote Чтение любого объекта выполняет ровно одно чтение с семантикой захвата. Каждое изменение копирует
+     * массив текущего состояния, поэтому {@linkplain #snapshot() копия} создаётся без копирования и синхронизации.
+     * Контейнеры {@linkplain #first() первого} и {@linkplain #second() второго} объектов являются
+     * {@linkplain Slot представлениями} текущего состояния.
+     * @see BiContainer
+     * @see #LockFree()
+     * @see #LockFree(Object, Object)
+     * @see #LockFree(Object, boolean, Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class LockFree<T1, T2> implements BiContainer<T1, T2> {
+
+        /**
+         * Маркер несуществующего объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull Object ABSENT = Container.LockFree.ABSENT;
+
+        /**
+         * Дескриптор переменной {@linkplain #state текущего состояния}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull VarHandle STATE;
+
+        static {
+            try {
+                STATE = MethodHandles.lookup().findVarHandle(LockFree.class, "state", Object[].class);
+            } catch (final @NonNull ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * Текущее состояние: неизменяемый массив текущих объектов или
+         * {@linkplain #ABSENT маркеров несуществующего объекта}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected @Nullable Object @NonNull [] state;
+
+        /**
+         * Контейнер текущего первого объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Container<T1> first = new Slot<>(this, 0);
+
+        /**
+         * Контейнер текущего второго объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Container<T2> second = new Slot<>(this, 1);
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера двух несуществующих объектов.
+         *
+         * @see #LockFree(Object, Object)
+         * @see #LockFree(Object, boolean, Object, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> new")
+        public LockFree() {
+            this(null, false, null, false);
+        }
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера переданного первого и второго объектов.
+         *
+         * @param first первый объект.
+         * @param second второй объект.
+         *
+         * @see #LockFree()
+         * @see #LockFree(Object, boolean, Object, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> new")
+        public LockFree(final @Nullable T1 first, final @Nullable T2 second) {
+            this(first, true, second, true);
+        }
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера переданного первого и второго объектов на основе переданных
+         * параметров их существования.
+         *
+         * @param first первый объект.
+         * @param containsFirst параметр существования первого объекта.
+         * @param second второй объект.
+         * @param containsSecond параметр существования второго объекта.
+         *
+         * @see #LockFree()
+         * @see #LockFree(Object, Object)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _, _, _ -> new")
+        public LockFree(final @Nullable T1 first, final boolean containsFirst, final @Nullable T2 second,
+                        final boolean containsSecond) {
+            this(new Object[]{containsFirst ? first : ABSENT, containsSecond ? second : ABSENT});
+        }
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера объектов на основе переданного текущего состояния.
+         *
+         * @param state текущее состояние, которое не должно изменяться после передачи.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        protected LockFree(final @Nullable Object @NonNull [] state) {
+            STATE.setRelease(this, state);
+        }
+
+        /**
+         * Возвращает {@linkplain #first контейнер текущего первого объекта}.
+         *
+         * @return {@linkplain #first Контейнер текущего первого объекта}.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> const")
+        public @NonNull Container<T1> first() {
+            return first;
+        }
+
+        /**
+         * Возвращает {@linkplain #second контейнер текущего второго объекта}.
+         *
+         * @return {@linkplain #second Контейнер текущего второго объекта}.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> const")
+        public @NonNull Container<T2> second() {
+            return second;
+        }
+
+        /**
+         * Устанавливает переданные первый и второй объекты одной заменой {@linkplain #state текущего состояния}.
+         * Возвращает текущий контейнер переданных объектов.
+         *
+         * @param first первый объект.
+         * @param second второй объект.
+         *
+         * @return Текущий контейнер переданных объектов.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _ -> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull BiContainer<T1, T2> setBoth(final @Nullable T1 first, final @Nullable T2 second) {
+            Object[] state, next;
+            do {
+                state = acquire();
+                next = state.clone();
+                next[0] = first;
+                next[1] = second;
+            } while (!STATE.compareAndSet(this, state, next));
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #state текущее состояние} содержит первый и второй объекты, идентичные ожидаемым, то
+         * устанавливает переданные первый и второй объекты одной его заменой и возвращает истину, в противном случае —
+         * ложь.
+         *
+         * @param expectedFirst ожидаемый первый объект.
+         * @param expectedSecond ожидаемый второй объект.
+         * @param first первый объект.
+         * @param second второй объект.
+         *
+         * @return Параметр успешности установки переданных объектов.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _, _, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSetBoth(final @Nullable T1 expectedFirst, final @Nullable T2 expectedSecond,
+                                         final @Nullable T1 first, final @Nullable T2 second) {
+            Object[] state, next;
+            do {
+                state = acquire();
+                if (state[0] != expectedFirst || state[1] != expectedSecond) return false;
+                next = state.clone();
+                next[0] = first;
+                next[1] = second;
+            } while (!STATE.compareAndSet(this, state, next));
+            return true;
+        }
+
+        /**
+         * Создаёт и возвращает неблокирующую реализацию контейнера двух объектов, разделяющую с текущим контейнером
+         * неизменяемое {@linkplain #state текущее состояние}.
+         *
+         * @return Независимый контейнер копии текущих объектов.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> new")
+        public @NonNull BiContainer<T1, T2> snapshot() {
+            return new LockFree<>(acquire());
+        }
+
+        /**
+         * Возвращает {@linkplain #state текущее состояние}, прочитанное с семантикой захвата.
+         *
+         * @return {@linkplain #state Текущее состояние}.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> !null")
+        protected @Nullable Object @NonNull [] acquire() {
+            return (Object[]) STATE.getAcquire(this);
+        }
+
+        /**
+         * Создаёт и возвращает копию переданного состояния с переданным объектом по переданному индексу.
+         *
+         * @param state состояние.
+         * @param index индекс объекта.
+         * @param object объект или {@linkplain #ABSENT маркер несуществующего объекта}.
+         *
+         * @return Копия переданного состояния.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _, _ -> new")
+        protected static @Nullable Object @NonNull [] replace(final @Nullable Object @NonNull [] state,
+                                                             final int index, final @Nullable Object object) {
+            final var next = state.clone();
+            next[index] = object;
+            return next;
+        }
+
+        /**
+         * Контейнер объекта, являющийся представлением одного из объектов
+         * {@linkplain LockFree#state текущего состояния} неблокирующей реализации контейнера объектов.
+         *
+         * @param <T> тип объекта.
+         *
+         * @implNote Каждое изменение заменяет всё текущее состояние через сравнение с обменом, поэтому оно атомарно
+         * относительно изменений других объектов того же контейнера.
+         * @see LockFree
+         * @since 4.0.0-RC5
+         */
+        protected static class Slot<T> implements Container<T> {
+
+            /**
+             * Неблокирующая реализация контейнера объектов, текущее состояние которой представляется.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final @NonNull BiContainer.LockFree<?, ?> owner;
+
+            /**
+             * Индекс представляемого объекта.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final int index;
+
+            /**
+             * Создаёт представление объекта по переданному индексу текущего состояния переданной неблокирующей
+             * реализации контейнера объектов.
+             *
+             * @param owner неблокирующая реализация контейнера объектов.
+             * @param index индекс объекта.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Contract("_, _ -> new")
+            protected Slot(final @NonNull BiContainer.LockFree<?, ?> owner, final int index) {
+                this.owner = owner;
+                this.index = index;
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, то возвращает его, в противном случае генерирует
+             * {@linkplain GetException исключение получения объекта} (текущего объекта).
+             *
+             * @return Текущий объект.
+             *
+             * @throws GetException исключение получения объекта (текущего объекта).
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract("-> _")
+            @SuppressWarnings("unchecked")
+            public @Nullable T get() throws GetException {
+                final var object = owner.acquire()[index];
+                if (object == ABSENT) throw GetException.currentObject();
+                return (T) object;
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, то возвращает его, в противном случае — нулевой.
+             *
+             * @return Текущий или нулевой объект.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract("-> _")
+            public @Nullable T withNullable() {
+                return withAnother(null);
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, то возвращает его, в противном случае —
+             * переданный.
+             *
+             * @param object объект.
+             *
+             * @return Текущий или переданный объект.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract("_ -> _")
+            @SuppressWarnings("unchecked")
+            public @Nullable T withAnother(final @Nullable T object) {
+                final var current = owner.acquire()[index];
+                return current != ABSENT ? (T) current : object;
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, то возвращает его, в противном случае получает и
+             * возвращает объект от переданного поставщика объекта.
+             *
+             * @param supplier поставщик объекта.
+             *
+             * @return Текущий или полученный от переданного поставщика объект.
+             *
+             * @throws NullException исключение валидации нулевого объекта (переданного поставщика объекта).
+             * @throws GetException исключение получения объекта (поставляемого переданным поставщиком объекта).
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract("!null -> _; _ -> fail")
+            @SuppressWarnings("unchecked")
+            public @Nullable T withSupplier(
+                    final @NonNull Supplier<? extends T> supplier) throws NullException, GetException {
+                Validator.notNull(supplier, "The passed supplier of an object");
+                final var current = owner.acquire()[index];
+                return current != ABSENT ? (T) current : supplier.get();
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, то возвращает его, в противном случае получает и
+             * бросает исключение от переданного поставщика исключения.
+             *
+             * @param supplier поставщик исключения.
+             *
+             * @return Текущий объект.
+             *
+             * @throws NullException исключение валидации нулевого объекта (переданного поставщика исключения или
+             * поставляемого им исключения).
+             * @throws GetException исключение получения объекта (поставляемого переданным поставщиком исключения).
+             * @throws F поставляемое переданным поставщиком исключение.
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract("!null -> _; _ -> fail")
+            @SuppressWarnings("unchecked")
+            public <F extends Throwable> @Nullable T withThrowable(
+                    final @NonNull Supplier<F> supplier) throws NullException, GetException, F {
+                Validator.notNull(supplier, "The passed supplier of a throwable");
+                final var current = owner.acquire()[index];
+                if (current == ABSENT)
+                    throw Validator.notNull(supplier.get(), "A throwable supplied by the passed supplier");
+                return (T) current;
+            }
+
+            /**
+             * Устанавливает переданный объект. Возвращает текущий контейнер переданного объекта.
+             *
+             * @param object объект.
+             *
+             * @return Текущий контейнер переданного объекта.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+            public @NonNull Container<T> set(final @Nullable T object) {
+                Object[] state;
+                do {
+                    state = owner.acquire();
+                } while (!STATE.compareAndSet(owner, state, replace(state, index, object)));
+                return this;
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, то сбрасывает его, в противном случае генерирует
+             * {@linkplain ResetException исключение сброса объекта} (текущего объекта). Возвращает текущий контейнер
+             * несуществующего объекта.
+             *
+             * @return Текущий контейнер несуществующего объекта.
+             *
+             * @throws ResetException исключение сброса объекта (текущего объекта).
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+            public @NonNull Container<T> reset() throws ResetException {
+                Object[] state;
+                do {
+                    state = owner.acquire();
+                    if (state[index] == ABSENT) throw ResetException.currentObject();
+                } while (!STATE.compareAndSet(owner, state, replace(state, index, ABSENT)));
+                return this;
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, идентичный ожидаемому, то устанавливает
+             * переданный объект и возвращает истину, в противном случае — ложь.
+             *
+             * @param expected ожидаемый объект.
+             * @param object объект.
+             *
+             * @return Параметр успешности установки переданного объекта.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+            public boolean compareAndSet(final @Nullable T expected, final @Nullable T object) {
+                Object[] state;
+                do {
+                    state = owner.acquire();
+                    if (state[index] != expected) return false;
+                } while (!STATE.compareAndSet(owner, state, replace(state, index, object)));
+                return true;
+            }
+
+            /**
+             * Устанавливает переданный объект. Если предыдущее состояние содержало представляемый объект, то
+             * возвращает его, в противном случае — нулевой.
+             *
+             * @param object объект.
+             *
+             * @return Предыдущий текущий или нулевой объект.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+            @SuppressWarnings("unchecked")
+            public @Nullable T getAndSet(final @Nullable T object) {
+                Object[] state;
+                do {
+                    state = owner.acquire();
+                } while (!STATE.compareAndSet(owner, state, replace(state, index, object)));
+                return state[index] != ABSENT ? (T) state[index] : null;
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, то устанавливает и возвращает результат
+             * выполнения переданной функции над ним, в противном случае генерирует
+             * {@linkplain GetException исключение получения объекта} (текущего объекта).
+             *
+             * @param function функция.
+             *
+             * @return Результат выполнения переданной функции над текущим объектом.
+             *
+             * @throws NullException исключение валидации нулевого объекта (переданной функции).
+             * @throws GetException исключение получения объекта (текущего объекта).
+             * @implNote При конкурентном изменении переданная функция может быть выполнена повторно, поэтому она не
+             * должна иметь побочных эффектов.
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract(value = "!null -> _; _ -> fail", impact = Contract.Impact.INTERNAL)
+            @SuppressWarnings("unchecked")
+            public @Nullable T updateAndGet(
+                    final @NonNull Function<? super T, ? extends T> function) throws NullException, GetException {
+                Validator.notNull(function, "The passed function");
+                Object[] state;
+                T object;
+                do {
+                    state = owner.acquire();
+                    if (state[index] == ABSENT) throw GetException.currentObject();
+                    object = function.execute((T) state[index]);
+                } while (!STATE.compareAndSet(owner, state, replace(state, index, object)));
+                return object;
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, то устанавливает и возвращает результат
+             * накопления в нём переданного объекта переданным накопителем, в противном случае генерирует
+             * {@linkplain GetException исключение получения объекта} (текущего объекта).
+             *
+             * @param object накапливаемый объект.
+             * @param accumulator накопитель объекта.
+             *
+             * @return Результат накопления переданного объекта в текущем объекте.
+             *
+             * @throws NullException исключение валидации нулевого объекта (переданного накопителя).
+             * @throws GetException исключение получения объекта (текущего объекта).
+             * @implNote При конкурентном изменении переданный накопитель может быть выполнен повторно, поэтому он не
+             * должен иметь побочных эффектов.
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract(value = "_, !null -> _; _, _ -> fail", impact = Contract.Impact.INTERNAL)
+            @SuppressWarnings("unchecked")
+            public @Nullable T accumulateAndGet(final @Nullable T object,
+                                                final @NonNull Accumulator<T> accumulator) throws NullException,
+                                                                                                  GetException {
+                Validator.notNull(accumulator, "The passed accumulator");
+                Object[] state;
+                T result;
+                do {
+                    state = owner.acquire();
+                    if (state[index] == ABSENT) throw GetException.currentObject();
+                    result = accumulator.accumulate((T) state[index], object);
+                } while (!STATE.compareAndSet(owner, state, replace(state, index, result)));
+                return result;
+            }
+
+            /**
+             * Если текущее состояние содержит представляемый объект, то возвращает его, в противном случае
+             * устанавливает и возвращает объект, полученный от переданного поставщика объекта.
+             *
+             * @param supplier поставщик объекта.
+             *
+             * @return Текущий или полученный от переданного поставщика объект.
+             *
+             * @throws NullException исключение валидации нулевого объекта (переданного поставщика объекта).
+             * @throws GetException исключение получения объекта (поставляемого переданным поставщиком объекта).
+             * @implNote При конкурентном вызове переданный поставщик может быть выполнен несколькими потоками, однако
+             * устанавливается и возвращается всем потокам только один из полученных объектов.
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract(value = "!null -> _; _ -> fail", impact = Contract.Impact.INTERNAL)
+            @SuppressWarnings("unchecked")
+            public @Nullable T computeIfAbsent(
+                    final @NonNull Supplier<? extends T> supplier) throws NullException, GetException {
+                Validator.notNull(supplier, "The passed supplier of an object");
+                var state = owner.acquire();
+                if (state[index] != ABSENT) return (T) state[index];
+                final T object = supplier.get();
+                while (!STATE.compareAndSet(owner, state, replace(state, index, object))) {
+                    state = owner.acquire();
+                    if (state[index] != ABSENT) return (T) state[index];
+                }
+                return object;
+            }
+
+            /**
+             * Возвращает параметр существования представляемого объекта в текущем состоянии.
+             *
+             * @return Параметр существования текущего объекта.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Override
+            @Contract("-> _")
+            public boolean contains() {
+                return owner.acquire()[index] != ABSENT;
+            }
+
+        }
+
     }
 
 }
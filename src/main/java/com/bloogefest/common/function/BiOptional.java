@@ -7,6 +7,7 @@
 package com.bloogefest.common.function;
 
 import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
 import com.bloogefest.annotation.NonNull;
 import com.bloogefest.annotation.Nullable;
 import com.bloogefest.common.validation.NullException;
@@ -20,6 +21,7 @@ import com.bloogefest.common.validation.Validator;
  * @param <T2> тип второго объекта.
  *
  * @see Impl
+ * @see Flat
  * @see #without()
  * @see #withFirst(Object)
  * @see #withSecond(Object)
@@ -32,18 +34,15 @@ import com.bloogefest.common.validation.Validator;
 public interface BiOptional<T1, T2> {
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl() интегрированную реализацию обёртки двух объектов на основе двух обёрток несуществующего
-     * объекта}.
+     * Возвращает {@linkplain Flat#WITHOUT общую компактную реализацию обёртки двух несуществующих объектов}.
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      *
-     * @return {@linkplain Impl#Impl() Интегрированную реализацию обёртки двух объектов на основе двух обёрток
-     * несуществующего объекта}.
+     * @return {@linkplain Flat#WITHOUT Общая компактная реализация обёртки двух несуществующих объектов}.
      *
-     * @see Impl
-     * @see Impl#Impl()
+     * @see Flat
+     * @see Flat#WITHOUT
      * @see #withFirst(Object)
      * @see #withSecond(Object)
      * @see #with(Object, Object)
@@ -52,26 +51,26 @@ public interface BiOptional<T1, T2> {
      * @see #auto(Object, Object)
      * @since 4.0.0-RC3
      */
-    @Contract("-> new")
+    @Contract("-> const")
+    @SuppressWarnings("unchecked")
     static <T1, T2> @NonNull BiOptional<T1, T2> without() {
-        return new Impl<>();
+        return (BiOptional<T1, T2>) Flat.WITHOUT;
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объекта} (обёртки переданного первого объекта и обёртки несуществующего объекта).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов}
+     * (переданного первого объекта и несуществующего объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param object первый объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional) Интегрированную реализацию обёртки на основе переданных обёрток
-     * первого и второго объектов} (обёртки переданного первого объекта и обёртки несуществующего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object) Компактную реализацию обёртки двух объектов} (переданного первого
+     * объекта и несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object)
      * @see #without()
      * @see #withSecond(Object)
      * @see #with(Object, Object)
@@ -82,24 +81,23 @@ public interface BiOptional<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2> @NonNull BiOptional<T1, T2> withFirst(final @NonNull T1 object) throws NullException {
-        return new Impl<>(Optional.with(object), Optional.without());
+        return new Flat<>(Validator.notNull(object, "The passed first object"), null);
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёртки несуществующего объекта и обёртки переданного второго объекта).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов}
+     * (несуществующего объекта и переданного второго объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param object второй объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional) Интегрированную реализацию обёртки на основе переданных обёрток
-     * первого и второго объекта} (обёртки несуществующего объекта и обёртки переданного второго объекта).
+     * @return {@linkplain Flat#Flat(Object, Object) Компактную реализацию обёртки двух объектов} (несуществующего
+     * объекта и переданного второго объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #with(Object, Object)
@@ -110,25 +108,24 @@ public interface BiOptional<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2> @NonNull BiOptional<T1, T2> withSecond(final @NonNull T2 object) throws NullException {
-        return new Impl<>(Optional.without(), Optional.with(object));
+        return new Flat<>(null, Validator.notNull(object, "The passed second object"));
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёрток переданного первого и второго объектов).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов}
+     * (переданного первого и второго объектов).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param first первый объект.
      * @param second второй объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional) Интегрированную реализацию обёртки двух объектов на основе
-     * переданных обёрток первого и второго объектов} (обёрток переданного первого и второго объектов).
+     * @return {@linkplain Flat#Flat(Object, Object) Компактную реализацию обёртки двух объектов} (переданного первого и
+     * второго объектов).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -140,29 +137,28 @@ public interface BiOptional<T1, T2> {
     @Contract("!null, !null -> new; _, _ -> fail")
     static <T1, T2> @NonNull BiOptional<T1, T2> with(final @NonNull T1 first,
                                                      final @NonNull T2 second) throws NullException {
-        return new Impl<>(Optional.with(first), Optional.with(second));
+        return new Flat<>(Validator.notNull(first, "The passed first object"),
+                          Validator.notNull(second, "The passed second object"));
     }
 
     /**
-     * Если переданный первый объект ненулевой, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёрток переданного первого и второго объектов), в противном случае —
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёртки несуществующего объекта и обёртки переданного второго объекта).
+     * Если переданный первый объект ненулевой, то создаёт и возвращает {@linkplain Flat#Flat(Object, Object) компактную
+     * реализацию обёртки двух объектов} (переданного первого и второго объектов), в противном случае —
+     * {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов} (несуществующего объекта и
+     * переданного второго объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param first первый объект.
      * @param second второй объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional) Интегрированную реализацию обёртки на основе переданных обёрток
-     * первого и второго объектов} (обёрток переданного первого и второго объектов) или
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёртки несуществующего объекта и обёртки переданного второго объекта).
+     * @return {@linkplain Flat#Flat(Object, Object) Компактную реализацию обёртки двух объектов} (переданного первого и
+     * второго объектов) или {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов}
+     * (несуществующего объекта и переданного второго объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -178,25 +174,23 @@ public interface BiOptional<T1, T2> {
     }
 
     /**
-     * Если переданный второй объект ненулевой, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёрток переданного первого и второго объектов), в противном случае —
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёртки переданного первого объекта и обёртки несуществующего объекта).
+     * Если переданный второй объект ненулевой, то создаёт и возвращает {@linkplain Flat#Flat(Object, Object) компактную
+     * реализацию обёртки двух объектов} (переданного первого и второго объектов), в противном случае —
+     * {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов} (переданного первого объекта и
+     * несуществующего объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param first первый объект.
      * @param second второй объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional) Интегрированную реализацию обёртки на основе переданных обёрток
-     * первого и второго объектов} (обёрток переданного первого и второго объектов) или
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёртки переданного первого объекта и обёртки несуществующего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object) Компактную реализацию обёртки двух объектов} (переданного первого и
+     * второго объектов) или {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов}
+     * (переданного первого объекта и несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -213,33 +207,26 @@ public interface BiOptional<T1, T2> {
 
     /**
      * Если переданные первый и второй объекты ненулевые, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёрток переданного первого и второго объектов), в противном случае если только переданный
-     * первый объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёртки переданного первого объекта и обёртки несуществующего объекта), в противном случае
-     * если только переданный второй объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёртки несуществующего объекта и обёртки переданного второго объекта), в противном случае —
-     * {@linkplain Impl#Impl() интегрированную реализацию обёртки двух объектов на основе двух обёрток несуществующего
-     * объекта}.
+     * {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов} (переданного первого и второго
+     * объектов), в противном случае если только переданный первый объект ненулевой, то —
+     * {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов} (переданного первого объекта и
+     * несуществующего объекта), в противном случае если только переданный второй объект ненулевой, то —
+     * {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов} (несуществующего объекта и
+     * переданного второго объекта), в противном случае — {@linkplain Flat#Flat(Object, Object) компактную реализацию
+     * обёртки двух объектов} (двух несуществующих объектов).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param first первый объект.
      * @param second второй объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток
-     * первого и второго объектов} (обёрток переданного первого и второго объектов), или
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёртки переданного первого объекта и обёртки несуществующего объекта), или
-     * {@linkplain Impl#Impl(Optional, Optional) интегрированную реализацию обёртки на основе переданных обёрток первого
-     * и второго объектов} (обёртки несуществующего объекта и обёртки переданного второго объекта), или
-     * {@linkplain Impl#Impl() интегрированную реализацию обёртки двух объектов на основе двух обёрток несуществующего
-     * объекта}
+     * @return {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов} (переданного первого и
+     * второго объектов), или {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов}
+     * (переданного первого объекта и несуществующего объекта), или {@linkplain Flat#Flat(Object, Object) компактную
+     * реализацию обёртки двух объектов} (несуществующего объекта и переданного второго объекта), или
+     * {@linkplain Flat#Flat(Object, Object) компактную реализацию обёртки двух объектов} (двух несуществующих объектов)
      *
-     * @see Impl#Impl()
-     * @see Impl#Impl(Optional, Optional)
+     * @see Flat#Flat(Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -356,4 +343,87 @@ public interface BiOptional<T1, T2> {
 
     }
 
+    /**
+     * Компактная реализация обёртки двух объектов. Хранит текущие объекты непосредственно в своих полях и создаёт их
+     * обёртки только при обращении к ним, поэтому занимает один объект вместо трёх.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     *
+     * @implNote Поскольку обёртка объекта не может содержать нулевой объект, нулевое поле означает несуществующий
+     * объект, поэтому параметры существования объектов отдельно не хранятся. Для несуществующего объекта возвращается
+     * {@linkplain Optional#without() обёртка несуществующего объекта}.
+     * @see BiOptional
+     * @see Impl
+     * @see #Flat(Object, Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Flat<T1, T2> implements BiOptional<T1, T2> {
+
+        /**
+         * Общая компактная реализация обёртки двух несуществующих объектов.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull Flat<?, ?> WITHOUT = new Flat<>(null, null);
+
+        /**
+         * Текущий первый объект или нулевой, если он не существует.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @Nullable T1 first;
+
+        /**
+         * Текущий второй объект или нулевой, если он не существует.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @Nullable T2 second;
+
+        /**
+         * Создаёт компактную реализацию обёртки двух объектов на основе переданных первого и второго объектов. Нулевой
+         * объект считается несуществующим.
+         *
+         * @param first первый или нулевой объект.
+         * @param second второй или нулевой объект.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> new")
+        public Flat(final @Nullable T1 first, final @Nullable T2 second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        /**
+         * Если {@linkplain #first текущий первый объект} существует, то создаёт и возвращает его обёртку, в противном
+         * случае — обёртку несуществующего объекта.
+         *
+         * @return Обёртка текущего первого объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> !null")
+        public @NonNull Optional<T1> first() {
+            return first != null ? new Optional.With<>(first) : Optional.without();
+        }
+
+        /**
+         * Если {@linkplain #second текущий второй объект} существует, то создаёт и возвращает его обёртку, в противном
+         * случае — обёртку несуществующего объекта.
+         *
+         * @return Обёртка текущего второго объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> !null")
+        public @NonNull Optional<T2> second() {
+            return second != null ? new Optional.With<>(second) : Optional.without();
+        }
+
+    }
+
 }
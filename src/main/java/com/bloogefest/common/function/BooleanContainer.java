@@ -0,0 +1,426 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
+import com.bloogefest.annotation.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Контейнер логического значения — это функциональный инструмент, способный содержать логическое значение без упаковки.
+ * Он предоставляет методы для получения ({@linkplain #get()}, {@linkplain #withAnother(boolean)}), установки
+ * ({@linkplain #set(boolean)}), сброса ({@linkplain #reset()}), проверки его существования ({@linkplain #contains()}) и
+ * атомарного изменения ({@linkplain #compareAndSet(boolean, boolean)} и {@linkplain #getAndSet(boolean)}).
+ *
+ * @see Container
+ * @see Impl
+ * @see #without()
+ * @see #with(boolean)
+ * @since 4.0.0-RC5
+ */
+@Experimental(from = "4.0.0-RC5")
+public interface BooleanContainer {
+
+    /**
+     * Создаёт и возвращает контейнер несуществующего логического значения.
+     *
+     * @return Контейнер несуществующего логического значения.
+     *
+     * @see #with(boolean)
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> new")
+    static @NonNull BooleanContainer without() {
+        return new Impl();
+    }
+
+    /**
+     * Создаёт и возвращает контейнер переданного логического значения.
+     *
+     * @param value логическое значение.
+     *
+     * @return Контейнер переданного логического значения.
+     *
+     * @see #without()
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    static @NonNull BooleanContainer with(final boolean value) {
+        return new Impl(value);
+    }
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего логического значения} истинный, то возвращает
+     * текущее логическое значение, в противном случае генерирует {@linkplain GetException исключение получения объекта}
+     * (текущего логического значения).
+     *
+     * @return Текущее логическое значение.
+     *
+     * @throws GetException исключение получения объекта (текущего логического значения).
+     * @see #withAnother(boolean)
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> _")
+    boolean get() throws GetException;
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего логического значения} истинный, то возвращает
+     * текущее логическое значение, в противном случае — переданное.
+     *
+     * @param value логическое значение.
+     *
+     * @return Текущее или переданное логическое значение.
+     *
+     * @see #get()
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> _")
+    default boolean withAnother(final boolean value) {
+        return contains() ? get() : value;
+    }
+
+    /**
+     * Устанавливает переданное логическое значение. Возвращает текущий контейнер переданного логического значения.
+     *
+     * @param value логическое значение.
+     *
+     * @return Текущий контейнер переданного логического значения.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+    @NonNull BooleanContainer set(final boolean value);
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего логического значения} истинный, то сбрасывает
+     * текущее логическое значение, в противном случае генерирует {@linkplain ResetException исключение сброса объекта}
+     * (текущего логического значения). Возвращает текущий контейнер несуществующего логического значения.
+     *
+     * @return Текущий контейнер несуществующего логического значения.
+     *
+     * @throws ResetException исключение сброса объекта (текущего логического значения).
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+    @NonNull BooleanContainer reset() throws ResetException;
+
+    /**
+     * Возвращает параметр существования текущего логического значения.
+     *
+     * @return Параметр существования текущего логического значения.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> _")
+    boolean contains();
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего логического значения} истинный и текущее логическое
+     * значение равно ожидаемому, то атомарно устанавливает переданное логическое значение и возвращает истину, в
+     * противном случае — ложь.
+     *
+     * @param expected ожидаемое логическое значение.
+     * @param value логическое значение.
+     *
+     * @return Параметр успешности установки переданного логического значения.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+    boolean compareAndSet(final boolean expected, final boolean value);
+
+    /**
+     * Атомарно устанавливает переданное логическое значение. Если {@linkplain #contains() параметр существования
+     * текущего логического значения} был истинный, то возвращает предыдущее текущее логическое значение, в противном
+     * случае — переданное.
+     *
+     * @param value логическое значение.
+     *
+     * @return Предыдущее текущее или переданное логическое значение.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    boolean getAndSet(final boolean value);
+
+
+
+
+
+    /**
+     * Интегрированная реализация контейнера логического значения.
+     *
+     * @implNote Методы получения и проверки существования выполняют оптимистичное чтение, методы, изменяющие
+     * существование значения, — захватывают блокировку записи {@linkplain #lock инструмента для управления
+     * доступом}, а сравнение с установкой выполняется без блокировки через {@linkplain #VALUE дескриптор
+     * переменной}. Сброс не изменяет текущее значение, поэтому сравнение с установкой, совпавшее со сбросом,
+     * упорядочивается перед ним.
+     * @see BooleanContainer
+     * @see #Impl()
+     * @see #Impl(boolean)
+     * @see #Impl(boolean, boolean)
+     * @since 4.0.0-RC5
+     */
+    class Impl implements BooleanContainer {
+
+        /**
+         * Инструмент для управления доступом.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull StampedLock lock = new StampedLock();
+
+        /**
+         * Дескриптор переменной {@linkplain #value текущего значения}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Impl.class, "value", boolean.class);
+            } catch (final @NonNull ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * Текущее логическое значение.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile boolean value;
+
+        /**
+         * Параметр существования текущего логического значения.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile boolean contains;
+
+        /**
+         * Создаёт интегрированную реализацию контейнера логического значения на основе ложного значения и ложного
+         * параметра его существования.
+         *
+         * @see #Impl(boolean)
+         * @see #Impl(boolean, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> new")
+        public Impl() {
+            this(false, false);
+        }
+
+        /**
+         * Создаёт интегрированную реализацию контейнера логического значения на основе переданного логического значения
+         * и истинного параметра его существования.
+         *
+         * @param value логическое значение.
+         *
+         * @see #Impl()
+         * @see #Impl(boolean, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        public Impl(final boolean value) {
+            this(value, true);
+        }
+
+        /**
+         * Создаёт интегрированную реализацию контейнера логического значения на основе переданного логического значения
+         * и параметра его существования.
+         *
+         * @param value логическое значение.
+         * @param contains параметр существования логического значения.
+         *
+         * @see #Impl()
+         * @see #Impl(boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> new")
+        public Impl(final boolean value, final boolean contains) {
+            this.value = value;
+            this.contains = contains;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего логического значения} истинный, то возвращает
+         * {@linkplain #value текущее логическое значение}, в противном случае генерирует
+         * {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего логического значения}).
+         *
+         * @return {@linkplain #value Текущее логическое значение}.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего логического значения}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public boolean get() throws GetException {
+            var stamp = lock.tryOptimisticRead();
+            var value = this.value;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    value = this.value;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            if (!contains) throw GetException.templated("the current value");
+            return value;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего логического значения} истинный, то возвращает
+         * {@linkplain #value текущее логическое значение}, в противном случае — переданное.
+         *
+         * @param value логическое значение.
+         *
+         * @return {@linkplain #value Текущее} или переданное логическое значение.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("_ -> _")
+        public boolean withAnother(final boolean value) {
+            var stamp = lock.tryOptimisticRead();
+            var current = this.value;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    current = this.value;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return contains ? current : value;
+        }
+
+        /**
+         * Устанавливает переданное логическое значение. Возвращает текущий контейнер переданного логического значения.
+         *
+         * @param value логическое значение.
+         *
+         * @return Текущий контейнер переданного логического значения.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull BooleanContainer set(final boolean value) {
+            final var stamp = lock.writeLock();
+            try {
+                this.value = value;
+                contains = true;
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего логического значения} истинный, то сбрасывает
+         * {@linkplain #value текущее логическое значение}, в противном случае генерирует
+         * {@linkplain ResetException исключение сброса объекта} ({@linkplain #value текущего логического значения}).
+         * Возвращает текущий контейнер несуществующего логического значения.
+         *
+         * @return Текущий контейнер несуществующего логического значения.
+         *
+         * @throws ResetException исключение сброса объекта ({@linkplain #value текущего логического значения}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull BooleanContainer reset() throws ResetException {
+            final var stamp = lock.writeLock();
+            try {
+                if (!contains) throw ResetException.templated("the current value");
+                contains = false;
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Возвращает {@linkplain #contains параметр существования текущего логического значения}.
+         *
+         * @return {@linkplain #contains Параметр существования текущего логического значения}.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public boolean contains() {
+            var stamp = lock.tryOptimisticRead();
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return contains;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего логического значения} истинный и
+         * {@linkplain #value текущее логическое значение} равно ожидаемому, то устанавливает переданное логическое
+         * значение и возвращает истину, в противном случае — ложь.
+         *
+         * @param expected ожидаемое логическое значение.
+         * @param value логическое значение.
+         *
+         * @return Параметр успешности установки переданного логического значения.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSet(final boolean expected, final boolean value) {
+            return contains && VALUE.compareAndSet(this, expected, value);
+        }
+
+        /**
+         * Устанавливает переданное логическое значение. Если {@linkplain #contains параметр существования текущего
+         * логического значения} был истинный, то возвращает предыдущее {@linkplain #value текущее логическое значение},
+         * в противном случае — переданное.
+         *
+         * @param value логическое значение.
+         *
+         * @return Предыдущее {@linkplain #value текущее} или переданное логическое значение.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean getAndSet(final boolean value) {
+            final var stamp = lock.writeLock();
+            try {
+                final var current = (boolean) VALUE.getAndSet(this, value);
+                final var previous = contains ? current : value;
+                contains = true;
+                return previous;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+    }
+
+}
@@ -140,4 +140,22 @@ public class CallbackException extends FunctionException {
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Создаёт экземпляр этого исключения на основе переданных шаблонного сообщения, его аргументов, причины, параметров
+     * подавления и трассировки стека. Шаблонное сообщение форматируется только при первом получении сообщения.
+     *
+     * @param template шаблонное сообщение.
+     * @param arguments аргументы шаблонного сообщения.
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "?, ?, ?, ?, ? -> new", impact = Contract.Impact.INTERNAL)
+    public CallbackException(final @Nullable String template, final @Nullable Object @Nullable [] arguments,
+                             final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
+        super(template, arguments, cause, suppression, writable);
+    }
+
 }
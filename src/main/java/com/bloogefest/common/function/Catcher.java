@@ -6,12 +6,24 @@
 
 package com.bloogefest.common.function;
 
+import com.bloogefest.annotation.Contract;
 import com.bloogefest.annotation.Experimental;
 import com.bloogefest.annotation.NonNull;
 import com.bloogefest.annotation.Nullable;
 import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.ValidationException;
 import com.bloogefest.common.validation.Validator;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * @since 4.0.0-RC3
  */
@@ -30,135 +42,83 @@ public interface Catcher<A, R, F extends Throwable> {
      * @since 4.0.0-RC3
      */
     @Experimental
-    @SuppressWarnings("unchecked")
     static <A, R, F extends Throwable> @NonNull Catcher<A, R, F> typed(final @NonNull Analyzer<? super A, R> analyzer,
                                                                        final @NonNull Class<F> type) throws NullException {
         Validator.notNull(analyzer, "analyzer");
         Validator.notNull(type, "type");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(analyzer.analyze(argument));
-            } catch (final @NonNull Throwable failure) {
-                if (type.isInstance(failure)) return BiOptional.withSecond((F) failure);
-                throw new UncaughtException(failure);
-            }
-        };
+        return new Typed<>(analyzer::analyze, type, true);
     }
 
     /**
      * @since 4.0.0-RC3
      */
     @Experimental
-    @SuppressWarnings("unchecked")
     static <A, R, F extends Throwable> @NonNull Catcher<A, R, F> typed(final @NonNull Callback callback,
                                                                        final @NonNull Class<F> type) throws NullException {
         Validator.notNull(callback, "callback");
         Validator.notNull(type, "type");
-        return argument -> {
-            try {
-                callback.call();
-                return BiOptional.without();
-            } catch (final @NonNull Throwable failure) {
-                if (type.isInstance(failure)) return BiOptional.withSecond((F) failure);
-                throw new UncaughtException(failure);
-            }
-        };
+        return new Typed<>(argument -> {
+            callback.call();
+            return null;
+        }, type, false);
     }
 
     /**
      * @since 4.0.0-RC3
      */
     @Experimental
-    @SuppressWarnings("unchecked")
     static <A, F extends Throwable> @NonNull Catcher<A, Boolean, F> typed(final @NonNull Condition condition,
                                                                           final @NonNull Class<F> type) throws NullException {
         Validator.notNull(condition, "condition");
         Validator.notNull(type, "type");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(condition.compute());
-            } catch (final @NonNull Throwable failure) {
-                if (type.isInstance(failure)) return BiOptional.withSecond((F) failure);
-                throw new UncaughtException(failure);
-            }
-        };
+        return new Typed<>(argument -> condition.compute(), type, true);
     }
 
     /**
      * @since 4.0.0-RC3
      */
     @Experimental
-    @SuppressWarnings("unchecked")
     static <A, R, F extends Throwable> @NonNull Catcher<A, R, F> typed(final @NonNull Conveyor<? super A, R> conveyor,
                                                                        final @NonNull Class<F> type) throws NullException {
         Validator.notNull(conveyor, "conveyor");
         Validator.notNull(type, "type");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(conveyor.convey(argument));
-            } catch (final @NonNull Throwable failure) {
-                if (type.isInstance(failure)) return BiOptional.withSecond((F) failure);
-                throw new UncaughtException(failure);
-            }
-        };
+        return new Typed<>(conveyor, type, true);
     }
 
     /**
      * @since 4.0.0-RC3
      */
     @Experimental
-    @SuppressWarnings("unchecked")
     static <A, R, F extends Throwable> @NonNull Catcher<A, R, F> typed(final @NonNull Handler<? super A> handler,
                                                                        final @NonNull Class<F> type) throws NullException {
         Validator.notNull(handler, "handler");
         Validator.notNull(type, "type");
-        return argument -> {
-            try {
-                handler.handle(argument);
-                return BiOptional.without();
-            } catch (final @NonNull Throwable failure) {
-                if (type.isInstance(failure)) return BiOptional.withSecond((F) failure);
-                throw new UncaughtException(failure);
-            }
-        };
+        return new Typed<>(argument -> {
+            handler.handle(argument);
+            return null;
+        }, type, false);
     }
 
     /**
      * @since 4.0.0-RC3
      */
     @Experimental
-    @SuppressWarnings("unchecked")
     static <A, F extends Throwable> @NonNull Catcher<A, Boolean, F> typed(final @NonNull Predicate<? super A> predicate,
                                                                           final @NonNull Class<F> type) throws NullException {
         Validator.notNull(predicate, "predicate");
         Validator.notNull(type, "type");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(predicate.evaluate(argument));
-            } catch (final @NonNull Throwable failure) {
-                if (type.isInstance(failure)) return BiOptional.withSecond((F) failure);
-                throw new UncaughtException(failure);
-            }
-        };
+        return new Typed<>(predicate::evaluate, type, true);
     }
 
     /**
      * @since 4.0.0-RC3
      */
     @Experimental
-    @SuppressWarnings("unchecked")
     static <A, R, F extends Throwable> @NonNull Catcher<A, R, F> typed(final @NonNull Supplier<R> supplier,
                                                                        final @NonNull Class<F> type) throws NullException {
         Validator.notNull(supplier, "supplier");
         Validator.notNull(type, "type");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(supplier.get());
-            } catch (final @NonNull Throwable failure) {
-                if (type.isInstance(failure)) return BiOptional.withSecond((F) failure);
-                throw new UncaughtException(failure);
-            }
-        };
+        return new Typed<>(argument -> supplier.get(), type, true);
     }
 
     /**
@@ -310,13 +270,7 @@ public interface Catcher<A, R, F extends Throwable> {
     static <A, R> @NonNull Catcher<A, R, Throwable> untyped(
             final @NonNull Analyzer<? super A, R> analyzer) throws NullException {
         Validator.notNull(analyzer, "analyzer");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(analyzer.analyze(argument));
-            } catch (final @NonNull Throwable failure) {
-                return BiOptional.withSecond(failure);
-            }
-        };
+        return new Typed<>(analyzer::analyze, Throwable.class, true);
     }
 
     /**
@@ -325,14 +279,10 @@ public interface Catcher<A, R, F extends Throwable> {
     @Experimental
     static <A, R> @NonNull Catcher<A, R, Throwable> untyped(final @NonNull Callback callback) throws NullException {
         Validator.notNull(callback, "callback");
-        return argument -> {
-            try {
-                callback.call();
-                return BiOptional.without();
-            } catch (final @NonNull Throwable failure) {
-                return BiOptional.withSecond(failure);
-            }
-        };
+        return new Typed<>(argument -> {
+            callback.call();
+            return null;
+        }, Throwable.class, false);
     }
 
     /**
@@ -342,13 +292,7 @@ public interface Catcher<A, R, F extends Throwable> {
     static <A> @NonNull Catcher<A, Boolean, Throwable> untyped(
             final @NonNull Condition condition) throws NullException {
         Validator.notNull(condition, "condition");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(condition.compute());
-            } catch (final @NonNull Throwable failure) {
-                return BiOptional.withSecond(failure);
-            }
-        };
+        return new Typed<>(argument -> condition.compute(), Throwable.class, true);
     }
 
     /**
@@ -358,13 +302,7 @@ public interface Catcher<A, R, F extends Throwable> {
     static <A, R> @NonNull Catcher<A, R, Throwable> untyped(
             final @NonNull Conveyor<? super A, R> conveyor) throws NullException {
         Validator.notNull(conveyor, "conveyor");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(conveyor.convey(argument));
-            } catch (final @NonNull Throwable failure) {
-                return BiOptional.withSecond(failure);
-            }
-        };
+        return new Typed<>(conveyor, Throwable.class, true);
     }
 
     /**
@@ -374,14 +312,10 @@ public interface Catcher<A, R, F extends Throwable> {
     static <A, R> @NonNull Catcher<A, R, Throwable> untyped(
             final @NonNull Handler<? super A> handler) throws NullException {
         Validator.notNull(handler, "handler");
-        return argument -> {
-            try {
-                handler.handle(argument);
-                return BiOptional.without();
-            } catch (final @NonNull Throwable failure) {
-                return BiOptional.withSecond(failure);
-            }
-        };
+        return new Typed<>(argument -> {
+            handler.handle(argument);
+            return null;
+        }, Throwable.class, false);
     }
 
     /**
@@ -391,13 +325,7 @@ public interface Catcher<A, R, F extends Throwable> {
     static <A> @NonNull Catcher<A, Boolean, Throwable> untyped(
             final @NonNull Predicate<? super A> predicate) throws NullException {
         Validator.notNull(predicate, "predicate");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(predicate.evaluate(argument));
-            } catch (final @NonNull Throwable failure) {
-                return BiOptional.withSecond(failure);
-            }
-        };
+        return new Typed<>(predicate::evaluate, Throwable.class, true);
     }
 
     /**
@@ -406,13 +334,7 @@ public interface Catcher<A, R, F extends Throwable> {
     @Experimental
     static <A, R> @NonNull Catcher<A, R, Throwable> untyped(final @NonNull Supplier<R> supplier) throws NullException {
         Validator.notNull(supplier, "supplier");
-        return argument -> {
-            try {
-                return BiOptional.withFirst(supplier.get());
-            } catch (final @NonNull Throwable failure) {
-                return BiOptional.withSecond(failure);
-            }
-        };
+        return new Typed<>(argument -> supplier.get(), Throwable.class, true);
     }
 
     /**
@@ -536,11 +458,142 @@ public interface Catcher<A, R, F extends Throwable> {
         };
     }
 
+    /**
+     * Создаёт построитель {@linkplain Dispatch ловца с таблицей обработчиков}, сопоставляющего типам исключений
+     * анализаторы перехваченных исключений.
+     *
+     * @return Новый построитель ловца с таблицей обработчиков.
+     *
+     * @see Dispatch
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    static <A, R, F extends Throwable> Dispatch.@NonNull Builder<A, R, F> dispatch() {
+        return new Dispatch.Builder<>();
+    }
+
+    /**
+     * Создаёт {@linkplain Retrying повторяющий ловец}, передающий аргумент переданному конвейеру и повторяющий вызов
+     * при исключениях переданного типа согласно переданной политике повторов.
+     *
+     * @param conveyor конвейер.
+     * @param type тип перехватываемого исключения.
+     * @param policy политика повторов.
+     *
+     * @return Новый повторяющий ловец.
+     *
+     * @throws NullException исключение валидации нулевого переданного конвейера, типа исключения или политики.
+     * @see Retrying
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null, !null -> new; _, _, _ -> fail")
+    static <A, R, F extends Throwable> @NonNull Retrying<A, R, F> retrying(
+            final @NonNull Conveyor<? super A, ? extends R> conveyor, final @NonNull Class<F> type,
+            final @NonNull Retrying.Policy policy) throws NullException {
+        return new Retrying<>(conveyor, type, policy);
+    }
+
+    /**
+     * Создаёт {@linkplain Retrying повторяющий ловец}, передающий аргумент переданному анализатору и повторяющий вызов
+     * при исключениях переданного типа согласно переданной политике повторов.
+     *
+     * @param analyzer анализатор.
+     * @param type тип перехватываемого исключения.
+     * @param policy политика повторов.
+     *
+     * @return Новый повторяющий ловец.
+     *
+     * @throws NullException исключение валидации нулевого переданного анализатора, типа исключения или политики.
+     * @see Retrying
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null, !null -> new; _, _, _ -> fail")
+    static <A, R, F extends Throwable> @NonNull Retrying<A, R, F> retrying(
+            final @NonNull Analyzer<? super A, ? extends R> analyzer, final @NonNull Class<F> type,
+            final @NonNull Retrying.Policy policy) throws NullException {
+        Validator.notNull(analyzer, "analyzer");
+        return new Retrying<>(analyzer::analyze, type, policy);
+    }
+
+    /**
+     * Создаёт {@linkplain Retrying повторяющий ловец}, получающий объект от переданного поставщика и повторяющий
+     * получение при исключениях переданного типа согласно переданной политике повторов.
+     *
+     * @param supplier поставщик объекта.
+     * @param type тип перехватываемого исключения.
+     * @param policy политика повторов.
+     *
+     * @return Новый повторяющий ловец.
+     *
+     * @throws NullException исключение валидации нулевого переданного поставщика, типа исключения или политики.
+     * @see Retrying
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null, !null -> new; _, _, _ -> fail")
+    static <A, R, F extends Throwable> @NonNull Retrying<A, R, F> retrying(
+            final @NonNull Supplier<? extends R> supplier, final @NonNull Class<F> type,
+            final @NonNull Retrying.Policy policy) throws NullException {
+        Validator.notNull(supplier, "supplier");
+        return new Retrying<>(argument -> supplier.get(), type, policy);
+    }
+
+    /**
+     * Создаёт {@linkplain CircuitBreaker размыкающий ловец}, передающий аргумент переданному конвейеру и размыкающий
+     * цепь при превышении доли исключений переданного типа, заданной переданной политикой.
+     *
+     * @param conveyor конвейер.
+     * @param type тип перехватываемого исключения.
+     * @param policy политика размыкания.
+     *
+     * @return Новый размыкающий ловец.
+     *
+     * @throws NullException исключение валидации нулевого переданного конвейера, типа исключения или политики.
+     * @see CircuitBreaker
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null, !null -> new; _, _, _ -> fail")
+    static <A, R, F extends Throwable> @NonNull CircuitBreaker<A, R, F> circuitBreaker(
+            final @NonNull Conveyor<? super A, ? extends R> conveyor, final @NonNull Class<F> type,
+            final @NonNull CircuitBreaker.Policy policy) throws NullException {
+        return new CircuitBreaker<>(conveyor, type, policy);
+    }
+
     /**
      * @since 4.0.0-RC3
      */
     @Experimental @NonNull BiOptional<R, F> execute(final @NonNull A argument) throws UncaughtException;
 
+    /**
+     * Выполняет этот ловец и записывает результат и перехваченное исключение в переданный исход, не создавая обёртку
+     * результата и исключения. Возвращает ложь, если исключение перехвачено, в противном случае — истину.
+     *
+     * @implSpec Реализация по умолчанию вызывает {@linkplain #execute(Object)} и копирует его обёртку в переданный
+     * исход. {@linkplain Typed Типизированная реализация} ловца, возвращаемая фабричными методами {@code typed} и
+     * {@code untyped}, записывает исход напрямую и не выделяет память.
+     *
+     * @param argument аргумент.
+     * @param outcome исход.
+     *
+     * @return Параметр отсутствия перехваченного исключения.
+     *
+     * @throws UncaughtException исключение, не перехваченное этим ловцом.
+     * @see Outcome
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    default boolean execute(final @NonNull A argument,
+                            final @NonNull Outcome<? super R, ? super F> outcome) throws UncaughtException {
+        final var optional = execute(argument);
+        final var failure = optional.second();
+        outcome.set(optional.first().withNullable(), failure.withNullable());
+        return !failure.contains();
+    }
+
     /**
      * @since 4.0.0-RC3
      */
@@ -589,4 +642,1137 @@ public interface Catcher<A, R, F extends Throwable> {
         return execute(argument).second();
     }
 
+    /**
+     * Исход выполнения ловца — изменяемый держатель результата и перехваченного исключения. Предназначен для
+     * многократного использования одним потоком (например, в поле обработчика сообщений) и не является
+     * потокобезопасным.
+     *
+     * @param <R> тип результата.
+     * @param <F> тип исключения.
+     *
+     * @see #execute(Object, Outcome)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Outcome<R, F extends Throwable> {
+
+        /**
+         * Результат или {@code null}, если он отсутствует.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected @Nullable R result;
+
+        /**
+         * Перехваченное исключение или {@code null}, если оно отсутствует.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected @Nullable F failure;
+
+        /**
+         * Создаёт пустой исход выполнения ловца.
+         *
+         * @since 4.0.0-RC5
+         */
+        public Outcome() {}
+
+        /**
+         * Устанавливает переданные результат и перехваченное исключение.
+         *
+         * @param result результат.
+         * @param failure перехваченное исключение.
+         *
+         * @since 4.0.0-RC5
+         */
+        public void set(final @Nullable R result, final @Nullable F failure) {
+            this.result = result;
+            this.failure = failure;
+        }
+
+        /**
+         * Возвращает {@linkplain #result результат}.
+         *
+         * @return {@linkplain #result Результат}.
+         *
+         * @since 4.0.0-RC5
+         */
+        public @Nullable R result() {
+            return result;
+        }
+
+        /**
+         * Возвращает {@linkplain #failure перехваченное исключение}.
+         *
+         * @return {@linkplain #failure Перехваченное исключение}.
+         *
+         * @since 4.0.0-RC5
+         */
+        public @Nullable F failure() {
+            return failure;
+        }
+
+        /**
+         * Возвращает истину, если {@linkplain #failure исключение} перехвачено.
+         *
+         * @return Параметр существования перехваченного исключения.
+         *
+         * @since 4.0.0-RC5
+         */
+        public boolean failed() {
+            return failure != null;
+        }
+
+    }
+
+    /**
+     * Типизированная реализация ловца. Передаёт аргумент {@linkplain #conveyor конвейеру} и перехватывает исключения
+     * {@linkplain #type переданного типа}, остальные исключения оборачивает в
+     * {@linkplain UncaughtException исключение ловли}.
+     *
+     * @param <A> тип аргумента.
+     * @param <R> тип результата.
+     * @param <F> тип исключения.
+     *
+     * @see #execute(Object, Outcome)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Typed<A, R, F extends Throwable> implements Catcher<A, R, F> {
+
+        /**
+         * Конвейер, вычисляющий результат.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Conveyor<? super A, ? extends R> conveyor;
+
+        /**
+         * Тип перехватываемого исключения.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Class<F> type;
+
+        /**
+         * Параметр существования результата: если ложный, то результат {@linkplain #conveyor конвейера} игнорируется.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final boolean valued;
+
+        /**
+         * Создаёт типизированную реализацию ловца на основе переданных конвейера, типа перехватываемого исключения и
+         * параметра существования результата.
+         *
+         * @param conveyor конвейер.
+         * @param type тип перехватываемого исключения.
+         * @param valued параметр существования результата.
+         *
+         * @throws NullException исключение валидации нулевого переданного конвейера или типа исключения.
+         * @since 4.0.0-RC5
+         */
+        public Typed(final @NonNull Conveyor<? super A, ? extends R> conveyor, final @NonNull Class<F> type,
+                     final boolean valued) throws NullException {
+            this.conveyor = Validator.notNull(conveyor, "The passed conveyor");
+            this.type = Validator.notNull(type, "The passed type");
+            this.valued = valued;
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull BiOptional<R, F> execute(final @NonNull A argument) throws UncaughtException {
+            try {
+                final R result = conveyor.convey(argument);
+                return valued ? BiOptional.withFirst(result) : BiOptional.without();
+            } catch (final @NonNull Throwable failure) {
+                if (type.isInstance(failure)) return BiOptional.withSecond((F) failure);
+                throw new UncaughtException(failure);
+            }
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean execute(final @NonNull A argument,
+                               final @NonNull Outcome<? super R, ? super F> outcome) throws UncaughtException {
+            try {
+                final R result = conveyor.convey(argument);
+                outcome.set(valued ? Validator.notNull(result, "The passed first object") : null, null);
+                return true;
+            } catch (final @NonNull Throwable failure) {
+                if (!type.isInstance(failure)) throw new UncaughtException(failure);
+                outcome.set(null, (F) failure);
+                return false;
+            }
+        }
+
+    }
+
+    /**
+     * Ловец с таблицей обработчиков. Передаёт аргумент {@linkplain #conveyor конвейеру} и передаёт перехваченное
+     * исключение анализатору, зарегистрированному для ближайшего типа в иерархии классов исключения, остальные
+     * исключения оборачивает в {@linkplain UncaughtException исключение ловли}. Результат поиска анализатора
+     * кешируется для каждого класса исключения в {@linkplain ClassValue значении класса}, поэтому стоимость поиска не
+     * зависит от количества зарегистрированных типов.
+     *
+     * @param <A> тип аргумента.
+     * @param <R> тип результата.
+     * @param <F> тип исключения.
+     *
+     * @see #dispatch()
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Dispatch<A, R, F extends Throwable> implements Catcher<A, R, F> {
+
+        /**
+         * Конвейер, вычисляющий результат.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Conveyor<? super A, ? extends R> conveyor;
+
+        /**
+         * Неизменяемая таблица анализаторов перехваченных исключений по зарегистрированным типам исключений.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Map<Class<?>, Analyzer<Throwable, BiOptional<R, F>>> analyzers;
+
+        /**
+         * Кеш анализаторов по классам исключений. Для класса, ни один предок которого не зарегистрирован, хранит
+         * {@linkplain #uncaught анализатор неперехватываемых исключений}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull ClassValue<Analyzer<Throwable, BiOptional<R, F>>> cache = new ClassValue<>() {
+
+            @Override
+            protected @NonNull Analyzer<Throwable, BiOptional<R, F>> computeValue(final @NonNull Class<?> type) {
+                return resolve(type);
+            }
+
+        };
+
+        /**
+         * Анализатор неперехватываемых исключений — маркер отсутствия зарегистрированного типа.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Analyzer<Throwable, BiOptional<R, F>> uncaught = failure -> {
+            throw new UncaughtException(failure);
+        };
+
+        /**
+         * Создаёт ловец с таблицей обработчиков на основе переданных конвейера и таблицы анализаторов.
+         *
+         * @param conveyor конвейер.
+         * @param analyzers таблица анализаторов по типам исключений.
+         *
+         * @throws NullException исключение валидации нулевого переданного конвейера или таблицы анализаторов.
+         * @since 4.0.0-RC5
+         */
+        protected Dispatch(final @NonNull Conveyor<? super A, ? extends R> conveyor,
+                           final @NonNull Map<Class<?>, Analyzer<Throwable, BiOptional<R, F>>> analyzers)
+                throws NullException {
+            this.conveyor = Validator.notNull(conveyor, "The passed conveyor");
+            this.analyzers = Map.copyOf(Validator.notNull(analyzers, "The passed analyzers"));
+        }
+
+        /**
+         * Возвращает анализатор, зарегистрированный для ближайшего типа в иерархии переданного класса исключения, или
+         * {@linkplain #uncaught анализатор неперехватываемых исключений}, если ни один тип не зарегистрирован.
+         *
+         * @param type класс исключения.
+         *
+         * @return Анализатор перехваченного исключения.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected @NonNull Analyzer<Throwable, BiOptional<R, F>> resolve(final @NonNull Class<?> type) {
+            for (var current = type; current != null; current = current.getSuperclass()) {
+                final var analyzer = analyzers.get(current);
+                if (analyzer != null) return analyzer;
+            }
+            return uncaught;
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public @NonNull BiOptional<R, F> execute(final @NonNull A argument) throws UncaughtException {
+            try {
+                return BiOptional.withFirst(conveyor.convey(argument));
+            } catch (final @NonNull Throwable failure) {
+                return cache.get(failure.getClass()).analyze(failure);
+            }
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public boolean execute(final @NonNull A argument,
+                               final @NonNull Outcome<? super R, ? super F> outcome) throws UncaughtException {
+            final BiOptional<R, F> optional;
+            try {
+                outcome.set(Validator.notNull(conveyor.convey(argument), "The passed first object"), null);
+                return true;
+            } catch (final @NonNull Throwable failure) {
+                optional = cache.get(failure.getClass()).analyze(failure);
+            }
+            final var caught = optional.second();
+            outcome.set(optional.first().withNullable(), caught.withNullable());
+            return !caught.contains();
+        }
+
+        /**
+         * Построитель ловца с таблицей обработчиков. Не является потокобезопасным; построенные ловцы не зависят от
+         * последующих изменений построителя.
+         *
+         * @param <A> тип аргумента.
+         * @param <R> тип результата.
+         * @param <F> тип исключения.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Experimental(from = "4.0.0-RC5")
+        public static class Builder<A, R, F extends Throwable> {
+
+            /**
+             * Таблица анализаторов перехваченных исключений по зарегистрированным типам исключений.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final @NonNull Map<Class<?>, Analyzer<Throwable, BiOptional<R, F>>> analyzers =
+                    new HashMap<>();
+
+            /**
+             * Создаёт пустой построитель ловца с таблицей обработчиков.
+             *
+             * @since 4.0.0-RC5
+             */
+            public Builder() {}
+
+            /**
+             * Регистрирует переданный анализатор для исключений переданного типа и его подтипов, для которых не
+             * зарегистрирован более близкий тип. Повторная регистрация типа заменяет анализатор.
+             *
+             * @param type тип перехватываемого исключения.
+             * @param analyzer анализатор перехваченного исключения.
+             * @param <X> тип перехватываемого исключения.
+             *
+             * @return Этот построитель.
+             *
+             * @throws NullException исключение валидации нулевого переданного типа или анализатора.
+             * @since 4.0.0-RC5
+             */
+            @Contract("_, _ -> this")
+            @SuppressWarnings("unchecked")
+            public <X extends F> @NonNull Builder<A, R, F> on(
+                    final @NonNull Class<X> type, final @NonNull Analyzer<? super X, BiOptional<R, F>> analyzer)
+                    throws NullException {
+                Validator.notNull(type, "The passed type");
+                Validator.notNull(analyzer, "The passed analyzer");
+                analyzers.put(type, failure -> analyzer.analyze((X) failure));
+                return this;
+            }
+
+            /**
+             * Создаёт ловец с таблицей обработчиков на основе переданного конвейера и зарегистрированных
+             * анализаторов.
+             *
+             * @param conveyor конвейер.
+             *
+             * @return Новый ловец с таблицей обработчиков.
+             *
+             * @throws NullException исключение валидации нулевого переданного конвейера.
+             * @since 4.0.0-RC5
+             */
+            @Contract("_ -> new")
+            public @NonNull Dispatch<A, R, F> build(final @NonNull Conveyor<? super A, ? extends R> conveyor)
+                    throws NullException {
+                return new Dispatch<>(conveyor, analyzers);
+            }
+
+        }
+
+    }
+
+    /**
+     * Повторяющий ловец. Передаёт аргумент {@linkplain #conveyor конвейеру} и при исключении
+     * {@linkplain #type переданного типа} повторяет вызов согласно {@linkplain Policy политике повторов}: не более
+     * заданного количества попыток, с экспоненциально растущей и случайно уменьшаемой паузой между попытками и в
+     * пределах общего срока. Возвращает результат первой успешной попытки либо исключение последней; остальные
+     * исключения оборачивает в {@linkplain UncaughtException исключение ловли} без повторов.
+     * <p>
+     * Счётчики выполнений, повторов, восстановлений и исчерпаний доступны для наблюдения за всплесками повторов и
+     * потокобезопасны.
+     *
+     * @param <A> тип аргумента.
+     * @param <R> тип результата.
+     * @param <F> тип исключения.
+     *
+     * @see #retrying(Conveyor, Class, Policy)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Retrying<A, R, F extends Throwable> implements Catcher<A, R, F> {
+
+        /**
+         * Конвейер, вычисляющий результат.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Conveyor<? super A, ? extends R> conveyor;
+
+        /**
+         * Тип перехватываемого и повторяемого исключения.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Class<F> type;
+
+        /**
+         * Политика повторов.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Policy policy;
+
+        /**
+         * Количество выполнений этого ловца.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull LongAdder executions = new LongAdder();
+
+        /**
+         * Количество повторных попыток.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull LongAdder retries = new LongAdder();
+
+        /**
+         * Количество выполнений, завершившихся успехом после хотя бы одного повтора.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull LongAdder recoveries = new LongAdder();
+
+        /**
+         * Количество выполнений, завершившихся перехваченным исключением.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull LongAdder exhaustions = new LongAdder();
+
+        /**
+         * Создаёт повторяющий ловец на основе переданных конвейера, типа перехватываемого исключения и политики
+         * повторов.
+         *
+         * @param conveyor конвейер.
+         * @param type тип перехватываемого исключения.
+         * @param policy политика повторов.
+         *
+         * @throws NullException исключение валидации нулевого переданного конвейера, типа исключения или политики.
+         * @since 4.0.0-RC5
+         */
+        @Contract("!null, !null, !null -> new; _, _, _ -> fail")
+        public Retrying(final @NonNull Conveyor<? super A, ? extends R> conveyor, final @NonNull Class<F> type,
+                        final @NonNull Policy policy) throws NullException {
+            this.conveyor = Validator.notNull(conveyor, "The passed conveyor");
+            this.type = Validator.notNull(type, "The passed type");
+            this.policy = Validator.notNull(policy, "The passed policy");
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull BiOptional<R, F> execute(final @NonNull A argument) throws UncaughtException {
+            executions.increment();
+            final var start = System.nanoTime();
+            for (var attempt = 1; ; ++attempt) {
+                final BiOptional<R, F> optional;
+                try {
+                    optional = BiOptional.withFirst(conveyor.convey(argument));
+                } catch (final @NonNull Throwable failure) {
+                    if (!type.isInstance(failure)) throw new UncaughtException(failure);
+                    if (attempt >= policy.attempts || !pause(start, policy.delay(attempt))) {
+                        exhaustions.increment();
+                        return BiOptional.withSecond((F) failure);
+                    }
+                    retries.increment();
+                    continue;
+                }
+                if (attempt > 1) recoveries.increment();
+                return optional;
+            }
+        }
+
+        /**
+         * Приостанавливает текущий поток на переданную паузу, если она не выходит за общий срок политики повторов,
+         * отсчитываемый от переданного момента. Возвращает ложь, если пауза выходит за срок или поток прерван; флаг
+         * прерывания при этом сохраняется.
+         *
+         * @param start момент начала выполнения в наносекундах.
+         * @param delay пауза в наносекундах.
+         *
+         * @return Параметр допустимости следующей попытки.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected boolean pause(final long start, final long delay) {
+            if (delay > policy.deadline - (System.nanoTime() - start)) return false;
+            final var end = System.nanoTime() + delay;
+            for (var remaining = delay; remaining > 0; remaining = end - System.nanoTime()) {
+                if (Thread.currentThread().isInterrupted()) return false;
+                LockSupport.parkNanos(this, remaining);
+            }
+            return !Thread.currentThread().isInterrupted();
+        }
+
+        /**
+         * Возвращает {@linkplain #executions количество выполнений} этого ловца.
+         *
+         * @return Количество выполнений.
+         *
+         * @since 4.0.0-RC5
+         */
+        public long executions() {
+            return executions.sum();
+        }
+
+        /**
+         * Возвращает {@linkplain #retries количество повторных попыток}.
+         *
+         * @return Количество повторных попыток.
+         *
+         * @since 4.0.0-RC5
+         */
+        public long retries() {
+            return retries.sum();
+        }
+
+        /**
+         * Возвращает {@linkplain #recoveries количество выполнений}, завершившихся успехом после повтора.
+         *
+         * @return Количество восстановлений.
+         *
+         * @since 4.0.0-RC5
+         */
+        public long recoveries() {
+            return recoveries.sum();
+        }
+
+        /**
+         * Возвращает {@linkplain #exhaustions количество выполнений}, завершившихся перехваченным исключением.
+         *
+         * @return Количество исчерпаний.
+         *
+         * @since 4.0.0-RC5
+         */
+        public long exhaustions() {
+            return exhaustions.sum();
+        }
+
+        /**
+         * Неизменяемая политика повторов: количество попыток, начальная и максимальная паузы, множитель паузы, доля
+         * случайного уменьшения паузы и общий срок. Пауза перед повтором с номером {@code n} равна
+         * {@code min(maxDelay, delay * multiplier^(n - 1))}, уменьшенной на случайную долю не более {@code jitter}.
+         * Некорректные значения отклоняются при создании.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Experimental(from = "4.0.0-RC5")
+        public static class Policy {
+
+            /**
+             * Максимальное количество попыток, не меньше единицы.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final int attempts;
+
+            /**
+             * Начальная пауза в наносекундах.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final long delay;
+
+            /**
+             * Максимальная пауза в наносекундах.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final long maxDelay;
+
+            /**
+             * Множитель паузы, не меньше единицы.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final double multiplier;
+
+            /**
+             * Максимальная доля случайного уменьшения паузы, от нуля до единицы.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final double jitter;
+
+            /**
+             * Общий срок выполнения в наносекундах.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final long deadline;
+
+            /**
+             * Создаёт политику повторов на основе переданных параметров.
+             *
+             * @param attempts максимальное количество попыток.
+             * @param delay начальная пауза.
+             * @param maxDelay максимальная пауза.
+             * @param multiplier множитель паузы.
+             * @param jitter максимальная доля случайного уменьшения паузы.
+             * @param deadline общий срок выполнения.
+             *
+             * @throws ValidationException исключение валидации количества попыток меньше единицы, множителя паузы
+             * меньше единицы или доли уменьшения паузы вне диапазона от нуля до единицы.
+             * @throws NullException исключение валидации нулевой переданной паузы или срока.
+             * @since 4.0.0-RC5
+             */
+            @Contract("_, !null, !null, _, _, !null -> new; _, _, _, _, _, _ -> fail")
+            public Policy(final int attempts, final @NonNull Duration delay, final @NonNull Duration maxDelay,
+                          final double multiplier, final double jitter, final @NonNull Duration deadline)
+                    throws ValidationException, NullException {
+                if (attempts < 1) throw ValidationException.templated("the passed attempts");
+                if (!(multiplier >= 1)) throw ValidationException.templated("the passed multiplier");
+                if (!(jitter >= 0 && jitter <= 1)) throw ValidationException.templated("the passed jitter");
+                this.attempts = attempts;
+                this.delay = Durations.nanos(Validator.notNull(delay, "The passed delay"));
+                this.maxDelay = Durations.nanos(Validator.notNull(maxDelay, "The passed max delay"));
+                this.multiplier = multiplier;
+                this.jitter = jitter;
+                this.deadline = Durations.nanos(Validator.notNull(deadline, "The passed deadline"));
+            }
+
+            /**
+             * Создаёт политику повторов с переданными количеством попыток и начальной паузой, удваивающейся с каждым
+             * повтором и случайно уменьшаемой не более чем вдвое, без ограничения максимальной паузы и общего срока.
+             *
+             * @param attempts максимальное количество попыток.
+             * @param delay начальная пауза.
+             *
+             * @throws ValidationException исключение валидации количества попыток меньше единицы.
+             * @throws NullException исключение валидации нулевой переданной паузы.
+             * @since 4.0.0-RC5
+             */
+            @Contract("_, !null -> new; _, _ -> fail")
+            public Policy(final int attempts, final @NonNull Duration delay) throws ValidationException, NullException {
+                this(attempts, delay, ChronoUnit.FOREVER.getDuration(), 2, 0.5, ChronoUnit.FOREVER.getDuration());
+            }
+
+            /**
+             * Возвращает паузу перед повтором с переданным номером в наносекундах.
+             *
+             * @param retry номер повтора, начиная с единицы.
+             *
+             * @return Пауза в наносекундах.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected long delay(final int retry) {
+                final var base = (long) Math.min(maxDelay, delay * Math.pow(multiplier, retry - 1));
+                if (jitter == 0 || base == 0) return base;
+                return base - (long) (base * jitter * ThreadLocalRandom.current().nextDouble());
+            }
+
+        }
+
+    }
+
+    /**
+     * Размыкающий ловец (предохранитель). Передаёт аргумент {@linkplain #conveyor конвейеру} и учитывает исходы
+     * последних вызовов в скользящем окне; когда доля исключений {@linkplain #type переданного типа} достигает порога
+     * {@linkplain Policy политики}, цепь размыкается и в течение заданного срока ловец возвращает обёртку исключения,
+     * разомкнувшего цепь, не вызывая конвейер и не выделяя память. По истечении срока один вызов пропускается в
+     * качестве пробного: его успех замыкает цепь, исключение — снова размыкает. Остальные исключения оборачиваются в
+     * {@linkplain UncaughtException исключение ловли} и не учитываются.
+     * <p>
+     * Переходы между состояниями выполняются сравнением с обменом {@linkplain State неизменяемого состояния}, учёт
+     * исходов — атомарными операциями над окном без блокировок.
+     *
+     * @param <A> тип аргумента.
+     * @param <R> тип результата.
+     * @param <F> тип исключения.
+     *
+     * @see #circuitBreaker(Conveyor, Class, Policy)
+     * @see Conveyor#circuitBreaker(Class, Policy)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class CircuitBreaker<A, R, F extends Throwable> implements Catcher<A, R, F> {
+
+        /**
+         * Дескриптор переменной {@linkplain #state текущего состояния}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull VarHandle STATE;
+
+        static {
+            try {
+                STATE = MethodHandles.lookup().findVarHandle(CircuitBreaker.class, "state", State.class);
+            } catch (final @NonNull ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * Конвейер, вычисляющий результат.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Conveyor<? super A, ? extends R> conveyor;
+
+        /**
+         * Тип перехватываемого и учитываемого исключения.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Class<F> type;
+
+        /**
+         * Политика размыкания.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Policy policy;
+
+        /**
+         * Количество вызовов, отклонённых без обращения к конвейеру.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull LongAdder rejections = new LongAdder();
+
+        /**
+         * Текущее состояние.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile @NonNull State<R, F> state;
+
+        /**
+         * Создаёт замкнутый размыкающий ловец на основе переданных конвейера, типа перехватываемого исключения и
+         * политики размыкания.
+         *
+         * @param conveyor конвейер.
+         * @param type тип перехватываемого исключения.
+         * @param policy политика размыкания.
+         *
+         * @throws NullException исключение валидации нулевого переданного конвейера, типа исключения или политики.
+         * @since 4.0.0-RC5
+         */
+        @Contract("!null, !null, !null -> new; _, _, _ -> fail")
+        public CircuitBreaker(final @NonNull Conveyor<? super A, ? extends R> conveyor, final @NonNull Class<F> type,
+                              final @NonNull Policy policy) throws NullException {
+            this.conveyor = Validator.notNull(conveyor, "The passed conveyor");
+            this.type = Validator.notNull(type, "The passed type");
+            this.policy = Validator.notNull(policy, "The passed policy");
+            state = State.closed(policy.window);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull BiOptional<R, F> execute(final @NonNull A argument) throws UncaughtException {
+            final var state = this.state;
+            if (state.status != Status.CLOSED) {
+                if (state.status == Status.HALF_OPEN || System.nanoTime() - state.opened < policy.open
+                    || !STATE.compareAndSet(this, state, state.probe())) {
+                    rejections.increment();
+                    return state.rejection;
+                }
+                return probe(argument, state);
+            }
+            final BiOptional<R, F> optional;
+            try {
+                optional = BiOptional.withFirst(conveyor.convey(argument));
+            } catch (final @NonNull Throwable failure) {
+                if (!type.isInstance(failure)) throw new UncaughtException(failure);
+                if (state.window.record(true, policy)) STATE.compareAndSet(this, state, State.open((F) failure));
+                return BiOptional.withSecond((F) failure);
+            }
+            state.window.record(false, policy);
+            return optional;
+        }
+
+        /**
+         * Выполняет пробный вызов {@linkplain #conveyor конвейера} в полуразомкнутом состоянии: при успехе замыкает
+         * цепь, в противном случае снова размыкает её.
+         *
+         * @param argument аргумент.
+         * @param open разомкнутое состояние, из которого выполнен переход.
+         *
+         * @return Обёртка результата либо перехваченного исключения.
+         *
+         * @throws UncaughtException исключение, не перехваченное этим ловцом.
+         * @since 4.0.0-RC5
+         */
+        @SuppressWarnings("unchecked")
+        protected @NonNull BiOptional<R, F> probe(final @NonNull A argument, final @NonNull State<R, F> open)
+                throws UncaughtException {
+            final BiOptional<R, F> optional;
+            try {
+                optional = BiOptional.withFirst(conveyor.convey(argument));
+            } catch (final @NonNull Throwable failure) {
+                if (!type.isInstance(failure)) {
+                    state = State.open(open.failure);
+                    throw new UncaughtException(failure);
+                }
+                state = State.open((F) failure);
+                return BiOptional.withSecond((F) failure);
+            }
+            state = State.closed(policy.window);
+            return optional;
+        }
+
+        /**
+         * Возвращает {@linkplain Status состояние цепи}.
+         *
+         * @return Состояние цепи.
+         *
+         * @since 4.0.0-RC5
+         */
+        public @NonNull Status status() {
+            return state.status;
+        }
+
+        /**
+         * Возвращает {@linkplain #rejections количество отклонённых вызовов}.
+         *
+         * @return Количество отклонённых вызовов.
+         *
+         * @since 4.0.0-RC5
+         */
+        public long rejections() {
+            return rejections.sum();
+        }
+
+        /**
+         * Состояние цепи размыкающего ловца.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Experimental(from = "4.0.0-RC5")
+        public enum Status {
+
+            /**
+             * Цепь замкнута: вызовы передаются конвейеру и учитываются.
+             *
+             * @since 4.0.0-RC5
+             */
+            CLOSED,
+
+            /**
+             * Цепь разомкнута: вызовы отклоняются.
+             *
+             * @since 4.0.0-RC5
+             */
+            OPEN,
+
+            /**
+             * Цепь полуразомкнута: выполняется пробный вызов, остальные вызовы отклоняются.
+             *
+             * @since 4.0.0-RC5
+             */
+            HALF_OPEN
+
+        }
+
+        /**
+         * Неизменяемая политика размыкания: размер скользящего окна последних вызовов, минимальное количество вызовов
+         * для оценки доли исключений, пороговая доля исключений и срок размыкания. Некорректные значения
+         * отклоняются при создании.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Experimental(from = "4.0.0-RC5")
+        public static class Policy {
+
+            /**
+             * Размер скользящего окна, не меньше единицы.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final int window;
+
+            /**
+             * Минимальное количество учтённых вызовов, не меньше единицы и не больше размера окна.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final int minimum;
+
+            /**
+             * Пороговая доля исключений, от нуля до единицы.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final double threshold;
+
+            /**
+             * Срок размыкания в наносекундах.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final long open;
+
+            /**
+             * Создаёт политику размыкания на основе переданных параметров.
+             *
+             * @param window размер скользящего окна.
+             * @param minimum минимальное количество учтённых вызовов.
+             * @param threshold пороговая доля исключений.
+             * @param open срок размыкания.
+             *
+             * @throws ValidationException исключение валидации размера окна меньше единицы, минимального количества
+             * вызовов вне диапазона от единицы до размера окна или пороговой доли вне диапазона от нуля до единицы.
+             * @throws NullException исключение валидации нулевого переданного срока.
+             * @since 4.0.0-RC5
+             */
+            @Contract("_, _, _, !null -> new; _, _, _, _ -> fail")
+            public Policy(final int window, final int minimum, final double threshold, final @NonNull Duration open)
+                    throws ValidationException, NullException {
+                if (window < 1) throw ValidationException.templated("the passed window");
+                if (minimum < 1 || minimum > window) throw ValidationException.templated("the passed minimum");
+                if (!(threshold >= 0 && threshold <= 1)) throw ValidationException.templated("the passed threshold");
+                this.window = window;
+                this.minimum = minimum;
+                this.threshold = threshold;
+                this.open = Durations.nanos(Validator.notNull(open, "The passed open"));
+            }
+
+        }
+
+        /**
+         * Неизменяемое состояние размыкающего ловца. Замкнутое состояние содержит собственное
+         * {@linkplain Window скользящее окно}, поэтому вызовы, завершившиеся после перехода, не влияют на новое окно.
+         *
+         * @param <R> тип результата.
+         * @param <F> тип исключения.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static class State<R, F extends Throwable> {
+
+            /**
+             * Состояние цепи.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final @NonNull Status status;
+
+            /**
+             * Момент размыкания в наносекундах.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final long opened;
+
+            /**
+             * Исключение, разомкнувшее цепь, или {@code null} для замкнутого состояния.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final @Nullable F failure;
+
+            /**
+             * Предварительно созданная обёртка {@linkplain #failure исключения}, возвращаемая отклонённым вызовам.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final @Nullable BiOptional<R, F> rejection;
+
+            /**
+             * Скользящее окно или {@code null} для незамкнутого состояния.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final @Nullable Window window;
+
+            /**
+             * Создаёт состояние размыкающего ловца на основе переданных параметров.
+             *
+             * @param status состояние цепи.
+             * @param opened момент размыкания в наносекундах.
+             * @param failure исключение, разомкнувшее цепь.
+             * @param rejection обёртка исключения, разомкнувшего цепь.
+             * @param window скользящее окно.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected State(final @NonNull Status status, final long opened, final @Nullable F failure,
+                            final @Nullable BiOptional<R, F> rejection, final @Nullable Window window) {
+                this.status = status;
+                this.opened = opened;
+                this.failure = failure;
+                this.rejection = rejection;
+                this.window = window;
+            }
+
+            /**
+             * Создаёт замкнутое состояние с пустым скользящим окном переданного размера.
+             *
+             * @param window размер скользящего окна.
+             *
+             * @return Новое замкнутое состояние.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Contract("_ -> new")
+            protected static <R, F extends Throwable> @NonNull State<R, F> closed(final int window) {
+                return new State<>(Status.CLOSED, 0, null, null, new Window(window));
+            }
+
+            /**
+             * Создаёт разомкнутое текущим моментом состояние на основе переданного исключения.
+             *
+             * @param failure исключение, разомкнувшее цепь.
+             *
+             * @return Новое разомкнутое состояние.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Contract("_ -> new")
+            protected static <R, F extends Throwable> @NonNull State<R, F> open(final @NonNull F failure) {
+                return new State<>(Status.OPEN, System.nanoTime(), failure, BiOptional.withSecond(failure), null);
+            }
+
+            /**
+             * Создаёт полуразомкнутое состояние на основе этого разомкнутого.
+             *
+             * @return Новое полуразомкнутое состояние.
+             *
+             * @since 4.0.0-RC5
+             */
+            @Contract("-> new")
+            protected @NonNull State<R, F> probe() {
+                return new State<>(Status.HALF_OPEN, opened, failure, rejection, null);
+            }
+
+        }
+
+        /**
+         * Скользящее окно исходов последних вызовов. Кольцевой массив исходов и счётчик исключений обновляются
+         * атомарными операциями без блокировок; под конкурентной нагрузкой доля исключений вычисляется приближённо.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static class Window {
+
+            /**
+             * Дескриптор переменной элементов {@linkplain #outcomes массива исходов}.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected static final @NonNull VarHandle OUTCOMES = MethodHandles.arrayElementVarHandle(int[].class);
+
+            /**
+             * Дескриптор переменной {@linkplain #cursor количества учтённых вызовов}.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected static final @NonNull VarHandle CURSOR;
+
+            /**
+             * Дескриптор переменной {@linkplain #failures количества исключений}.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected static final @NonNull VarHandle FAILURES;
+
+            static {
+                try {
+                    final var lookup = MethodHandles.lookup();
+                    CURSOR = lookup.findVarHandle(Window.class, "cursor", long.class);
+                    FAILURES = lookup.findVarHandle(Window.class, "failures", int.class);
+                } catch (final @NonNull ReflectiveOperationException e) {
+                    throw new ExceptionInInitializerError(e);
+                }
+            }
+
+            /**
+             * Кольцевой массив исходов: единица — исключение, ноль — успех или отсутствие вызова.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final int @NonNull [] outcomes;
+
+            /**
+             * Количество учтённых вызовов.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected long cursor;
+
+            /**
+             * Количество исключений в окне.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected int failures;
+
+            /**
+             * Создаёт пустое скользящее окно переданного размера.
+             *
+             * @param size размер окна.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected Window(final int size) {
+                outcomes = new int[size];
+            }
+
+            /**
+             * Учитывает переданный исход вызова и возвращает истину, если вызов завершился исключением и доля
+             * исключений в окне достигла порога переданной политики.
+             *
+             * @param failed параметр существования исключения.
+             * @param policy политика размыкания.
+             *
+             * @return Параметр достижения порога.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected boolean record(final boolean failed, final @NonNull Policy policy) {
+                final var calls = (long) CURSOR.getAndAdd(this, 1L) + 1;
+                final var slot = (int) ((calls - 1) % outcomes.length);
+                final var outcome = failed ? 1 : 0;
+                if ((int) OUTCOMES.getVolatile(outcomes, slot) == outcome) {
+                    if (!failed) return false;
+                } else {
+                    final var delta = outcome - (int) OUTCOMES.getAndSet(outcomes, slot, outcome);
+                    if (delta != 0) FAILURES.getAndAdd(this, delta);
+                    if (!failed) return false;
+                }
+                return calls >= policy.minimum
+                       && (int) FAILURES.getVolatile(this) >= policy.threshold * Math.min(calls, outcomes.length);
+            }
+
+        }
+
+    }
+
 }
@@ -31,6 +31,23 @@ public class ComputeException extends FunctionException {
      */
     public static final @NonNull String TEMPLATE_MESSAGE = "Failed to compute %s";
 
+    /**
+     * Создаёт исключение вычисления функции на основе {@linkplain #TEMPLATE_MESSAGE шаблонного сообщения} и переданных
+     * аргументов, {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}. Шаблонное сообщение форматируется только при
+     * первом получении сообщения.
+     *
+     * @param arguments аргументы шаблонного сообщения.
+     *
+     * @return Новое исключение вычисления функции.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    public static @NonNull ComputeException templated(final @Nullable Object @NonNull ... arguments) {
+        return new ComputeException(TEMPLATE_MESSAGE, arguments, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+    }
+
     /**
      * Создаёт исключение вычисления функции на основе {@linkplain #DEFAULT_MESSAGE сообщения},
      * {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
@@ -147,4 +164,23 @@ public class ComputeException extends FunctionException {
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Создаёт исключение вычисления функции на основе переданных шаблонного сообщения, его аргументов, причины,
+     * параметров подавления и трассировки стека. Шаблонное сообщение форматируется только при первом получении
+     * сообщения.
+     *
+     * @param template шаблонное сообщение.
+     * @param arguments аргументы шаблонного сообщения.
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_, _, _, _, _ -> new")
+    public ComputeException(final @Nullable String template, final @Nullable Object @Nullable [] arguments,
+                            final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
+        super(template, arguments, cause, suppression, writable);
+    }
+
 }
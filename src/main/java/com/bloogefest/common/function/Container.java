@@ -13,6 +13,8 @@ import com.bloogefest.annotation.Nullable;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.locks.StampedLock;
 
 /**
@@ -24,9 +26,14 @@ import java.util.concurrent.locks.StampedLock;
  * @param <T> тип объекта.
  *
  * @see Impl
+ * @see Atomic
+ * @see LockFree
+ * @see Padded
  * @see #without()
  * @see #with(Object)
  * @see #auto(Object)
+ * @see #lockFree()
+ * @see #padded()
  * @since 4.0.0-RC3
  */
 @Experimental(from = "4.0.0-RC5")
@@ -85,6 +92,122 @@ public interface Container<T> {
         return new Impl<>(object, object != null);
     }
 
+    /**
+     * Создаёт и возвращает неблокирующий контейнер несуществующего объекта.
+     *
+     * @param <T> тип объекта.
+     *
+     * @return Неблокирующий контейнер несуществующего объекта.
+     *
+     * @see LockFree
+     * @see #lockFree(Object)
+     * @see #lockFree(Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    static <T> @NonNull Container<T> lockFree() {
+        return new LockFree<>();
+    }
+
+    /**
+     * Создаёт и возвращает неблокирующий контейнер переданного объекта.
+     *
+     * @param <T> тип объекта.
+     * @param object объект.
+     *
+     * @return Неблокирующий контейнер переданного объекта.
+     *
+     * @see LockFree
+     * @see #lockFree()
+     * @see #lockFree(Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("_ -> new")
+    static <T> @NonNull Container<T> lockFree(final @Nullable T object) {
+        return new LockFree<>(object);
+    }
+
+    /**
+     * Создаёт и возвращает неблокирующий контейнер переданного объекта на основе переданного параметра его
+     * существования.
+     *
+     * @param <T> тип объекта.
+     * @param object объект.
+     * @param contains параметр существования объекта.
+     *
+     * @return Неблокирующий контейнер переданного или несуществующего объекта.
+     *
+     * @see LockFree
+     * @see #lockFree()
+     * @see #lockFree(Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("_, _ -> new")
+    static <T> @NonNull Container<T> lockFree(final @Nullable T object, final boolean contains) {
+        return new LockFree<>(object, contains);
+    }
+
+    /**
+     * Создаёт и возвращает выровненный контейнер несуществующего объекта.
+     *
+     * @param <T> тип объекта.
+     *
+     * @return Выровненный контейнер несуществующего объекта.
+     *
+     * @see Padded
+     * @see #padded(Object)
+     * @see #padded(Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    static <T> @NonNull Container<T> padded() {
+        return new Padded<>();
+    }
+
+    /**
+     * Создаёт и возвращает выровненный контейнер переданного объекта.
+     *
+     * @param <T> тип объекта.
+     * @param object объект.
+     *
+     * @return Выровненный контейнер переданного объекта.
+     *
+     * @see Padded
+     * @see #padded()
+     * @see #padded(Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("_ -> new")
+    static <T> @NonNull Container<T> padded(final @Nullable T object) {
+        return new Padded<>(object);
+    }
+
+    /**
+     * Создаёт и возвращает выровненный контейнер переданного объекта на основе переданного параметра его
+     * существования.
+     *
+     * @param <T> тип объекта.
+     * @param object объект.
+     * @param contains параметр существования объекта.
+     *
+     * @return Выровненный контейнер переданного или несуществующего объекта.
+     *
+     * @see Padded
+     * @see #padded()
+     * @see #padded(Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("_, _ -> new")
+    static <T> @NonNull Container<T> padded(final @Nullable T object, final boolean contains) {
+        return new Padded<>(object, contains);
+    }
+
     /**
      * Если {@linkplain #contains() параметр существования текущего объекта} истинный, то возвращает текущий объект, в
      * противном случае генерирует {@linkplain GetException исключение получения объекта} (текущего объекта).
@@ -218,6 +341,90 @@ public interface Container<T> {
     @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
     @NonNull Container<T> reset() throws ResetException;
 
+    /**
+     * Если {@linkplain #contains() параметр существования текущего объекта} истинный и текущий объект идентичен
+     * ожидаемому, то атомарно устанавливает переданный объект и возвращает истину, в противном случае — ложь.
+     *
+     * @param expected ожидаемый объект.
+     * @param object объект.
+     *
+     * @return Параметр успешности установки переданного объекта.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+    boolean compareAndSet(final @Nullable T expected, final @Nullable T object);
+
+    /**
+     * Атомарно устанавливает переданный объект. Если {@linkplain #contains() параметр существования текущего объекта}
+     * был истинный, то возвращает предыдущий текущий объект, в противном случае — нулевой.
+     *
+     * @param object объект.
+     *
+     * @return Предыдущий текущий или нулевой объект.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    @Nullable T getAndSet(final @Nullable T object);
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего объекта} истинный, то атомарно устанавливает и
+     * возвращает результат выполнения переданной функции над текущим объектом, в противном случае генерирует
+     * {@linkplain GetException исключение получения объекта} (текущего объекта).
+     *
+     * @param function функция.
+     *
+     * @return Результат выполнения переданной функции над текущим объектом.
+     *
+     * @throws NullException исключение валидации нулевого объекта (переданной функции).
+     * @throws GetException исключение получения объекта (текущего объекта).
+     * @see #accumulateAndGet(Object, Accumulator)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract(value = "!null -> _; _ -> fail", impact = Contract.Impact.INTERNAL)
+    @Nullable T updateAndGet(final @NonNull Function<? super T, ? extends T> function) throws NullException,
+                                                                                              GetException;
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего объекта} истинный, то атомарно устанавливает и
+     * возвращает результат накопления переданного объекта в текущем объекте переданным накопителем, в противном случае
+     * генерирует {@linkplain GetException исключение получения объекта} (текущего объекта).
+     *
+     * @param object накапливаемый объект.
+     * @param accumulator накопитель объекта.
+     *
+     * @return Результат накопления переданного объекта в текущем объекте.
+     *
+     * @throws NullException исключение валидации нулевого объекта (переданного накопителя).
+     * @throws GetException исключение получения объекта (текущего объекта).
+     * @see #updateAndGet(Function)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract(value = "_, !null -> _; _, _ -> fail", impact = Contract.Impact.INTERNAL)
+    @Nullable T accumulateAndGet(final @Nullable T object,
+                                 final @NonNull Accumulator<T> accumulator) throws NullException, GetException;
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего объекта} истинный, то возвращает текущий объект, в
+     * противном случае атомарно устанавливает и возвращает объект, полученный от переданного поставщика объекта.
+     *
+     * @param supplier поставщик объекта.
+     *
+     * @return Текущий или полученный от переданного поставщика объект.
+     *
+     * @throws NullException исключение валидации нулевого объекта (переданного поставщика объекта).
+     * @throws GetException исключение получения объекта (поставляемого переданным поставщиком объекта).
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract(value = "!null -> _; _ -> fail", impact = Contract.Impact.INTERNAL)
+    @Nullable T computeIfAbsent(final @NonNull Supplier<? extends T> supplier) throws NullException, GetException;
+
     /**
      * Возвращает параметр существования текущего объекта.
      *
@@ -234,6 +441,9 @@ public interface Container<T> {
      *
      * @param <T> тип объекта.
      *
+     * @implNote Методы получения объекта и проверки его существования сначала выполняют оптимистичное чтение и
+     * захватывают блокировку чтения только в случае его неудачи, поэтому неконкурентное чтение не изменяет состояние
+     * {@linkplain #lock инструмента для управления доступом}.
      * @see Container
      * @see #Impl()
      * @see #Impl(Object)
@@ -332,13 +542,20 @@ public interface Container<T> {
         @Experimental(from = "4.0.0-RC4")
         @Contract("-> _")
         public @Nullable T get() throws GetException {
-            final var stamp = lock.readLock();
-            try {
-                if (!contains) throw new GetException(GetException.TEMPLATE_MESSAGE.formatted("the current object"));
-                return object;
-            } finally {
-                lock.unlockRead(stamp);
+            var stamp = lock.tryOptimisticRead();
+            var object = this.object;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    object = this.object;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
             }
+            if (!contains) throw GetException.currentObject();
+            return object;
         }
 
         /**
@@ -356,12 +573,7 @@ public interface Container<T> {
         @Experimental(from = "4.0.0-RC5")
         @Contract("-> _")
         public @Nullable T withNullable() {
-            final var stamp = lock.readLock();
-            try {
-                return contains ? object : null;
-            } finally {
-                lock.unlockRead(stamp);
-            }
+            return withAnother(null);
         }
 
         /**
@@ -382,12 +594,19 @@ public interface Container<T> {
         @Experimental(from = "4.0.0-RC5")
         @Contract("_ -> _")
         public @Nullable T withAnother(final @Nullable T object) {
-            final var stamp = lock.readLock();
-            try {
-                return contains ? this.object : object;
-            } finally {
-                lock.unlockRead(stamp);
+            var stamp = lock.tryOptimisticRead();
+            var current = this.object;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    current = this.object;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
             }
+            return contains ? current : object;
         }
 
         /**
@@ -413,12 +632,19 @@ public interface Container<T> {
         public @Nullable T withSupplier(
                 final @NonNull Supplier<? extends T> supplier) throws NullException, GetException {
             Validator.notNull(supplier, "The passed supplier of an object");
-            final var stamp = lock.readLock();
-            try {
-                return contains ? object : supplier.get();
-            } finally {
-                lock.unlockRead(stamp);
+            var stamp = lock.tryOptimisticRead();
+            var object = this.object;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    object = this.object;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
             }
+            return contains ? object : supplier.get();
         }
 
         /**
@@ -446,13 +672,20 @@ public interface Container<T> {
         public <F extends Throwable> @Nullable T withThrowable(
                 final @NonNull Supplier<F> supplier) throws NullException, GetException, F {
             Validator.notNull(supplier, "The passed supplier of a throwable");
-            final var stamp = lock.readLock();
-            try {
-                if (!contains) throw Validator.notNull(supplier.get(), "A throwable supplied by the passed supplier");
-                return object;
-            } finally {
-                lock.unlockRead(stamp);
+            var stamp = lock.tryOptimisticRead();
+            var object = this.object;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    object = this.object;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
             }
+            if (!contains) throw Validator.notNull(supplier.get(), "A throwable supplied by the passed supplier");
+            return object;
         }
 
         /**
@@ -496,18 +729,172 @@ public interface Container<T> {
         public @NonNull Container<T> reset() throws ResetException {
             var stamp = lock.readLock();
             try {
-                if (!contains)
-                    throw new ResetException(ResetException.TEMPLATE_MESSAGE.formatted("the current object"));
-                stamp = lock.tryConvertToWriteLock(stamp);
-                if (stamp == 0) stamp = lock.writeLock();
-                object = null;
-                contains = false;
-                return this;
+                while (true) {
+                    if (!contains) throw ResetException.currentObject();
+                    final var writeStamp = lock.tryConvertToWriteLock(stamp);
+                    if (writeStamp != 0) {
+                        stamp = writeStamp;
+                        object = null;
+                        contains = false;
+                        return this;
+                    }
+                    lock.unlockRead(stamp);
+                    stamp = lock.writeLock();
+                }
             } finally {
                 lock.unlock(stamp);
             }
         }
 
+        /**
+         * Если {@linkplain #contains параметр существования текущего объекта} истинный и
+         * {@linkplain #object текущий объект} идентичен ожидаемому, то устанавливает переданный объект и возвращает
+         * истину, в противном случае — ложь.
+         *
+         * @param expected ожидаемый объект.
+         * @param object объект.
+         *
+         * @return Параметр успешности установки переданного объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Experimental(from = "4.0.0-RC5")
+        @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSet(final @Nullable T expected, final @Nullable T object) {
+            final var stamp = lock.writeLock();
+            try {
+                if (!contains || this.object != expected) return false;
+                this.object = object;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Устанавливает переданный объект. Если {@linkplain #contains параметр существования текущего объекта} был
+         * истинный, то возвращает предыдущий {@linkplain #object текущий объект}, в противном случае — нулевой.
+         *
+         * @param object объект.
+         *
+         * @return Предыдущий {@linkplain #object текущий} или нулевой объект.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Experimental(from = "4.0.0-RC5")
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public @Nullable T getAndSet(final @Nullable T object) {
+            final var stamp = lock.writeLock();
+            try {
+                final var previous = contains ? this.object : null;
+                this.object = object;
+                contains = true;
+                return previous;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего объекта} истинный, то устанавливает и возвращает
+         * результат выполнения переданной функции над {@linkplain #object текущим объектом}, в противном случае
+         * генерирует {@linkplain GetException исключение получения объекта} ({@linkplain #object текущего объекта}).
+         *
+         * @param function функция.
+         *
+         * @return Результат выполнения переданной функции над {@linkplain #object текущим объектом}.
+         *
+         * @throws NullException исключение валидации нулевого объекта (переданной функции).
+         * @throws GetException исключение получения объекта ({@linkplain #object текущего объекта}).
+         * @implNote Переданная функция выполняется ровно один раз под блокировкой записи.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Experimental(from = "4.0.0-RC5")
+        @Contract(value = "!null -> _; _ -> fail", impact = Contract.Impact.INTERNAL)
+        public @Nullable T updateAndGet(final @NonNull Function<? super T, ? extends T> function) throws NullException,
+                                                                                                         GetException {
+            Validator.notNull(function, "The passed function");
+            final var stamp = lock.writeLock();
+            try {
+                if (!contains) throw GetException.currentObject();
+                return object = function.execute(object);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего объекта} истинный, то устанавливает и возвращает
+         * результат накопления переданного объекта в {@linkplain #object текущем объекте} переданным накопителем, в
+         * противном случае генерирует {@linkplain GetException исключение получения объекта}
+         * ({@linkplain #object текущего объекта}).
+         *
+         * @param object накапливаемый объект.
+         * @param accumulator накопитель объекта.
+         *
+         * @return Результат накопления переданного объекта в {@linkplain #object текущем объекте}.
+         *
+         * @throws NullException исключение валидации нулевого объекта (переданного накопителя).
+         * @throws GetException исключение получения объекта ({@linkplain #object текущего объекта}).
+         * @implNote Переданный накопитель выполняется ровно один раз под блокировкой записи.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Experimental(from = "4.0.0-RC5")
+        @Contract(value = "_, !null -> _; _, _ -> fail", impact = Contract.Impact.INTERNAL)
+        public @Nullable T accumulateAndGet(final @Nullable T object,
+                                            final @NonNull Accumulator<T> accumulator) throws NullException,
+                                                                                              GetException {
+            Validator.notNull(accumulator, "The passed accumulator");
+            final var stamp = lock.writeLock();
+            try {
+                if (!contains) throw GetException.currentObject();
+                return this.object = accumulator.accumulate(this.object, object);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего объекта} истинный, то возвращает
+         * {@linkplain #object текущий объект}, в противном случае устанавливает и возвращает объект, полученный от
+         * переданного поставщика объекта.
+         *
+         * @param supplier поставщик объекта.
+         *
+         * @return {@linkplain #object Текущий} или полученный от переданного поставщика объект.
+         *
+         * @throws NullException исключение валидации нулевого объекта (переданного поставщика объекта).
+         * @throws GetException исключение получения объекта (поставляемого переданным поставщиком объекта).
+         * @implNote Если объект существует, то блокировка записи не захватывается. В противном случае переданный
+         * поставщик выполняется не более одного раза под блокировкой записи.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Experimental(from = "4.0.0-RC5")
+        @Contract(value = "!null -> _; _ -> fail", impact = Contract.Impact.INTERNAL)
+        public @Nullable T computeIfAbsent(
+                final @NonNull Supplier<? extends T> supplier) throws NullException, GetException {
+            Validator.notNull(supplier, "The passed supplier of an object");
+            var stamp = lock.tryOptimisticRead();
+            final var object = this.object;
+            final var contains = this.contains;
+            if (lock.validate(stamp) && contains) return object;
+            stamp = lock.writeLock();
+            try {
+                if (!this.contains) {
+                    this.object = supplier.get();
+                    this.contains = true;
+                }
+                return this.object;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
         /**
          * Возвращает {@linkplain #contains параметр существования текущего объекта}.
          *
@@ -519,12 +906,604 @@ public interface Container<T> {
         @Experimental(from = "4.0.0-RC4")
         @Contract("-> _")
         public boolean contains() {
-            final var stamp = lock.readLock();
-            try {
-                return contains;
-            } finally {
-                lock.unlockRead(stamp);
+            var stamp = lock.tryOptimisticRead();
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
             }
+            return contains;
+        }
+
+    }
+
+    /**
+     * Неблокирующая основа реализаций контейнера объекта. Реализует все методы контейнера над текущим состоянием —
+     * текущим объектом или {@linkplain #ABSENT маркером несуществующего объекта}, — доступ к которому
+     * предоставляют наследники через {@linkplain #load() чтение с семантикой захвата},
+     * {@linkplain #store(Object) запись с семантикой освобождения}, {@linkplain #exchange(Object) обмен} и
+     * {@linkplain #compareAndExchange(Object, Object) сравнение с обменом}. Наследники определяют только расположение
+     * текущего состояния в памяти.
+     *
+     * @param <T> тип объекта.
+     *
+     * @implNote Методы получения объекта и проверки его существования выполняют ровно одно чтение с семантикой
+     * захвата и не ожидают других потоков. Сброс объекта выполняется через сравнение с обменом.
+     * @see Container
+     * @see LockFree
+     * @see Padded
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") abstract class Atomic<T> implements Container<T> {
+
+        /**
+         * Маркер несуществующего объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull Object ABSENT = new Object();
+
+        /**
+         * Возвращает текущее состояние, прочитанное с семантикой захвата.
+         *
+         * @return Текущее состояние.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected abstract @Nullable Object load();
+
+        /**
+         * Записывает переданное состояние с семантикой освобождения.
+         *
+         * @param state состояние.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected abstract void store(final @Nullable Object state);
+
+        /**
+         * Атомарно записывает переданное состояние и возвращает предыдущее.
+         *
+         * @param state состояние.
+         *
+         * @return Предыдущее состояние.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected abstract @Nullable Object exchange(final @Nullable Object state);
+
+        /**
+         * Если текущее состояние идентично ожидаемому, то атомарно записывает переданное состояние. Возвращает
+         * прочитанное текущее состояние.
+         *
+         * @param expected ожидаемое состояние.
+         * @param state состояние.
+         *
+         * @return Прочитанное текущее состояние.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected abstract @Nullable Object compareAndExchange(final @Nullable Object expected,
+                                                               final @Nullable Object state);
+
+        /**
+         * Если {@linkplain #load() текущее состояние} содержит объект, то возвращает его, в противном случае генерирует
+         * {@linkplain GetException исключение получения объекта} (текущего объекта).
+         *
+         * @return Текущий объект.
+         *
+         * @throws GetException исключение получения объекта (текущего объекта).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        @SuppressWarnings("unchecked")
+        public @Nullable T get() throws GetException {
+            final var state = load();
+            if (state == ABSENT) throw GetException.currentObject();
+            return (T) state;
+        }
+
+        /**
+         * Если {@linkplain #load() текущее состояние} содержит объект, то возвращает его, в противном случае —
+         * нулевой.
+         *
+         * @return Текущий или нулевой объект.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public @Nullable T withNullable() {
+            return withAnother(null);
+        }
+
+        /**
+         * Если {@linkplain #load() текущее состояние} содержит объект, то возвращает его, в противном случае —
+         * переданный.
+         *
+         * @param object объект.
+         *
+         * @return Текущий или переданный объект.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("_ -> _")
+        @SuppressWarnings("unchecked")
+        public @Nullable T withAnother(final @Nullable T object) {
+            final var state = load();
+            return state != ABSENT ? (T) state : object;
+        }
+
+        /**
+         * Если {@linkplain #load() текущее состояние} содержит объект, то возвращает его, в противном случае получает и
+         * возвращает объект от переданного поставщика объекта.
+         *
+         * @param supplier поставщик объекта.
+         *
+         * @return Текущий или полученный от переданного поставщика объект.
+         *
+         * @throws NullException исключение валидации нулевого объекта (переданного поставщика объекта).
+         * @throws GetException исключение получения объекта (поставляемого переданным поставщиком объекта).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("!null -> _; _ -> fail")
+        @SuppressWarnings("unchecked")
+        public @Nullable T withSupplier(
+                final @NonNull Supplier<? extends T> supplier) throws NullException, GetException {
+            Validator.notNull(supplier, "The passed supplier of an object");
+            final var state = load();
+            return state != ABSENT ? (T) state : supplier.get();
+        }
+
+        /**
+         * Если {@linkplain #load() текущее состояние} содержит объект, то возвращает его, в противном случае получает и
+         * бросает исключение от переданного поставщика исключения.
+         *
+         * @param supplier поставщик исключения.
+         *
+         * @return Текущий объект.
+         *
+         * @throws NullException исключение валидации нулевого объекта (переданного поставщика исключения или
+         * поставляемого им исключения).
+         * @throws GetException исключение получения объекта (поставляемого переданным поставщиком исключения).
+         * @throws F поставляемое переданным поставщиком исключение.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("!null -> _; _ -> fail")
+        @SuppressWarnings("unchecked")
+        public <F extends Throwable> @Nullable T withThrowable(
+                final @NonNull Supplier<F> supplier) throws NullException, GetException, F {
+            Validator.notNull(supplier, "The passed supplier of a throwable");
+            final var state = load();
+            if (state == ABSENT) throw Validator.notNull(supplier.get(), "A throwable supplied by the passed supplier");
+            return (T) state;
+        }
+
+        /**
+         * Устанавливает переданный объект. Возвращает текущий контейнер переданного объекта.
+         *
+         * @param object объект.
+         *
+         * @return Текущий контейнер переданного объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull Container<T> set(final @Nullable T object) {
+            store(object);
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #load() текущее состояние} содержит объект, то сбрасывает его, в противном случае генерирует
+         * {@linkplain ResetException исключение сброса объекта} (текущего объекта). Возвращает текущий контейнер
+         * несуществующего объекта.
+         *
+         * @return Текущий контейнер несуществующего объекта.
+         *
+         * @throws ResetException исключение сброса объекта (текущего объекта).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull Container<T> reset() throws ResetException {
+            Object state;
+            do {
+                state = load();
+                if (state == ABSENT) throw ResetException.currentObject();
+            } while (compareAndExchange(state, ABSENT) != state);
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #load() текущее состояние} идентично ожидаемому объекту, то устанавливает переданный объект
+         * и возвращает истину, в противном случае — ложь.
+         *
+         * @param expected ожидаемый объект.
+         * @param object объект.
+         *
+         * @return Параметр успешности установки переданного объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSet(final @Nullable T expected, final @Nullable T object) {
+            return compareAndExchange(expected, object) == expected;
+        }
+
+        /**
+         * Устанавливает переданный объект. Если {@linkplain #exchange(Object) предыдущее состояние} содержало объект,
+         * то возвращает его, в противном случае — нулевой.
+         *
+         * @param object объект.
+         *
+         * @return Предыдущий текущий или нулевой объект.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        @SuppressWarnings("unchecked")
+        public @Nullable T getAndSet(final @Nullable T object) {
+            final var state = exchange(object);
+            return state != ABSENT ? (T) state : null;
+        }
+
+        /**
+         * Если {@linkplain #load() текущее состояние} содержит объект, то устанавливает и возвращает результат
+         * выполнения переданной функции над ним, в противном случае генерирует
+         * {@linkplain GetException исключение получения объекта} (текущего объекта).
+         *
+         * @param function функция.
+         *
+         * @return Результат выполнения переданной функции над текущим объектом.
+         *
+         * @throws NullException исключение валидации нулевого объекта (переданной функции).
+         * @throws GetException исключение получения объекта (текущего объекта).
+         * @implNote При конкурентном изменении переданная функция может быть выполнена повторно, поэтому она не должна
+         * иметь побочных эффектов.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "!null -> _; _ -> fail", impact = Contract.Impact.INTERNAL)
+        @SuppressWarnings("unchecked")
+        public @Nullable T updateAndGet(final @NonNull Function<? super T, ? extends T> function) throws NullException,
+                                                                                                         GetException {
+            Validator.notNull(function, "The passed function");
+            var state = load();
+            while (true) {
+                if (state == ABSENT) throw GetException.currentObject();
+                final T object = function.execute((T) state);
+                final var witness = compareAndExchange(state, object);
+                if (witness == state) return object;
+                state = witness;
+            }
+        }
+
+        /**
+         * Если {@linkplain #load() текущее состояние} содержит объект, то устанавливает и возвращает результат
+         * накопления в нём переданного объекта переданным накопителем, в противном случае генерирует
+         * {@linkplain GetException исключение получения объекта} (текущего объекта).
+         *
+         * @param object накапливаемый объект.
+         * @param accumulator накопитель объекта.
+         *
+         * @return Результат накопления переданного объекта в текущем объекте.
+         *
+         * @throws NullException исключение валидации нулевого объекта (переданного накопителя).
+         * @throws GetException исключение получения объекта (текущего объекта).
+         * @implNote При конкурентном изменении переданный накопитель может быть выполнен повторно, поэтому он не должен
+         * иметь побочных эффектов.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, !null -> _; _, _ -> fail", impact = Contract.Impact.INTERNAL)
+        @SuppressWarnings("unchecked")
+        public @Nullable T accumulateAndGet(final @Nullable T object,
+                                            final @NonNull Accumulator<T> accumulator) throws NullException,
+                                                                                              GetException {
+            Validator.notNull(accumulator, "The passed accumulator");
+            var state = load();
+            while (true) {
+                if (state == ABSENT) throw GetException.currentObject();
+                final var result = accumulator.accumulate((T) state, object);
+                final var witness = compareAndExchange(state, result);
+                if (witness == state) return result;
+                state = witness;
+            }
+        }
+
+        /**
+         * Если {@linkplain #load() текущее состояние} содержит объект, то возвращает его, в противном случае
+         * устанавливает и возвращает объект, полученный от переданного поставщика объекта.
+         *
+         * @param supplier поставщик объекта.
+         *
+         * @return Текущий или полученный от переданного поставщика объект.
+         *
+         * @throws NullException исключение валидации нулевого объекта (переданного поставщика объекта).
+         * @throws GetException исключение получения объекта (поставляемого переданным поставщиком объекта).
+         * @implNote При конкурентном вызове переданный поставщик может быть выполнен несколькими потоками, однако
+         * устанавливается и возвращается всем потокам только один из полученных объектов.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "!null -> _; _ -> fail", impact = Contract.Impact.INTERNAL)
+        @SuppressWarnings("unchecked")
+        public @Nullable T computeIfAbsent(
+                final @NonNull Supplier<? extends T> supplier) throws NullException, GetException {
+            Validator.notNull(supplier, "The passed supplier of an object");
+            final var state = load();
+            if (state != ABSENT) return (T) state;
+            final T object = supplier.get();
+            final var witness = compareAndExchange(ABSENT, object);
+            return witness == ABSENT ? object : (T) witness;
+        }
+
+        /**
+         * Возвращает параметр существования текущего объекта.
+         *
+         * @return Параметр существования текущего объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public boolean contains() {
+            return load() != ABSENT;
+        }
+
+    }
+
+    /**
+     * Неблокирующая реализация контейнера объекта. Хранит текущий объект или
+     * {@linkplain #ABSENT маркер несуществующего объекта} в единственном поле, доступ к которому осуществляется через
+     * {@linkplain VarHandle дескриптор переменной} с семантикой захвата и освобождения.
+     *
+     * @param <T> тип объекта.
+     *
+     * @see Container
+     * @see Atomic
+     * @see #LockFree()
+     * @see #LockFree(Object)
+     * @see #LockFree(Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class LockFree<T> extends Atomic<T> {
+
+        /**
+         * Дескриптор переменной {@linkplain #state текущего состояния}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull VarHandle STATE;
+
+        static {
+            try {
+                STATE = MethodHandles.lookup().findVarHandle(LockFree.class, "state", Object.class);
+            } catch (final @NonNull ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * Текущее состояние: текущий объект или {@linkplain #ABSENT маркер несуществующего объекта}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected @Nullable Object state;
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера объекта на основе нулевого объекта и ложного параметра его
+         * существования.
+         *
+         * @see #LockFree(Object)
+         * @see #LockFree(Object, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> new")
+        public LockFree() {
+            this(null, false);
+        }
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера объекта на основе переданного объекта и истинного параметра его
+         * существования.
+         *
+         * @param object объект.
+         *
+         * @see #LockFree()
+         * @see #LockFree(Object, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        public LockFree(final @Nullable T object) {
+            this(object, true);
+        }
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера объекта на основе переданного объекта и параметра его
+         * существования.
+         *
+         * @param object объект.
+         * @param contains параметр существования объекта.
+         *
+         * @see #LockFree()
+         * @see #LockFree(Object)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> new")
+        public LockFree(final @Nullable T object, final boolean contains) {
+            STATE.setRelease(this, contains ? object : ABSENT);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        protected @Nullable Object load() {
+            return STATE.getAcquire(this);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        protected void store(final @Nullable Object state) {
+            STATE.setRelease(this, state);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        protected @Nullable Object exchange(final @Nullable Object state) {
+            return STATE.getAndSet(this, state);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        protected @Nullable Object compareAndExchange(final @Nullable Object expected, final @Nullable Object state) {
+            return STATE.compareAndExchange(this, expected, state);
+        }
+
+    }
+
+    /**
+     * Выровненная реализация контейнера объекта. Хранит текущий объект или
+     * {@linkplain #ABSENT маркер несуществующего объекта} в середине {@linkplain #cells массива ячеек}, поэтому
+     * его состояние не разделяет кеш-линию с другими объектами, изменяемыми другими потоками.
+     *
+     * @param <T> тип объекта.
+     *
+     * @implNote Выравнивание достигается массивом, а не полями-заполнителями, поскольку расположение полей зависит от
+     * виртуальной машины, а расположение элементов массива — нет. Ячейка текущего состояния отделена от краёв массива
+     * {@linkplain #PADDING заполнителем}, превышающим две кеш-линии при сжатых ссылках.
+     * @see Container
+     * @see Atomic
+     * @see LockFree
+     * @see #Padded()
+     * @see #Padded(Object)
+     * @see #Padded(Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Padded<T> extends Atomic<T> {
+
+        /**
+         * Количество неиспользуемых ячеек с каждой стороны от ячейки текущего состояния.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final int PADDING = 32;
+
+        /**
+         * Индекс ячейки текущего состояния.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final int INDEX = PADDING;
+
+        /**
+         * Дескриптор переменной элементов {@linkplain #cells массива ячеек}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull VarHandle CELLS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+        /**
+         * Массив ячеек, ячейка {@linkplain #INDEX} которого содержит текущее состояние: текущий объект или
+         * {@linkplain #ABSENT маркер несуществующего объекта}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @Nullable Object @NonNull [] cells = new Object[INDEX + PADDING + 1];
+
+        /**
+         * Создаёт выровненную реализацию контейнера объекта на основе нулевого объекта и ложного параметра его
+         * существования.
+         *
+         * @see #Padded(Object)
+         * @see #Padded(Object, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> new")
+        public Padded() {
+            this(null, false);
+        }
+
+        /**
+         * Создаёт выровненную реализацию контейнера объекта на основе переданного объекта и истинного параметра его
+         * существования.
+         *
+         * @param object объект.
+         *
+         * @see #Padded()
+         * @see #Padded(Object, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        public Padded(final @Nullable T object) {
+            this(object, true);
+        }
+
+        /**
+         * Создаёт выровненную реализацию контейнера объекта на основе переданного объекта и параметра его
+         * существования.
+         *
+         * @param object объект.
+         * @param contains параметр существования объекта.
+         *
+         * @see #Padded()
+         * @see #Padded(Object)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> new")
+        public Padded(final @Nullable T object, final boolean contains) {
+            CELLS.setRelease(cells, INDEX, contains ? object : ABSENT);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        protected @Nullable Object load() {
+            return CELLS.getAcquire(cells, INDEX);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        protected void store(final @Nullable Object state) {
+            CELLS.setRelease(cells, INDEX, state);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        protected @Nullable Object exchange(final @Nullable Object state) {
+            return CELLS.getAndSet(cells, INDEX, state);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        protected @Nullable Object compareAndExchange(final @Nullable Object expected, final @Nullable Object state) {
+            return CELLS.compareAndExchange(cells, INDEX, expected, state);
         }
 
     }
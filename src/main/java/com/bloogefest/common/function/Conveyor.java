@@ -13,6 +13,20 @@ import com.bloogefest.annotation.Nullable;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * @since 4.0.0-RC3
  */
@@ -66,6 +80,58 @@ public interface Conveyor<I, O> {
         return conveyor;
     }
 
+    /**
+     * Создаёт пустой {@linkplain Pipeline плоский конвейер}, возвращающий входной объект. Стадии, добавленные к нему
+     * методами {@linkplain #conveyor(Conveyor)}, {@linkplain #analyzer(Analyzer)}, {@linkplain #handler(Handler)} и
+     * {@linkplain #callback(Callback)}, выполняются одним циклом без вложенных вызовов.
+     *
+     * @return Новый плоский конвейер.
+     *
+     * @see #pipeline(Conveyor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    static <I> @NonNull Pipeline<I, I> pipeline() {
+        return new Pipeline<>(new Object[0], new byte[0]);
+    }
+
+    /**
+     * Создаёт {@linkplain Pipeline плоский конвейер} из переданного конвейера, разворачивая его
+     * {@linkplain Chain цепочки} и плоские конвейеры в стадии.
+     *
+     * @param conveyor конвейер.
+     *
+     * @return Новый плоский конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного конвейера.
+     * @see #pipeline()
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null -> new; _ -> fail")
+    static <I, O> @NonNull Pipeline<I, O> pipeline(final @NonNull Conveyor<I, O> conveyor) throws NullException {
+        return Conveyor.<I>pipeline().conveyor(conveyor);
+    }
+
+    /**
+     * Создаёт {@linkplain Batch пакетную стадию} на основе переданного конвейера списков.
+     *
+     * @param batch конвейер, преобразующий список входных объектов в список выходных той же длины.
+     *
+     * @return Новая пакетная стадия.
+     *
+     * @throws NullException исключение валидации нулевого переданного конвейера.
+     * @see #conveyAll(List)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null -> new; _ -> fail")
+    static <I, O> @NonNull Conveyor<I, O> batch(final @NonNull Conveyor<? super List<? extends I>, List<O>> batch)
+            throws NullException {
+        return new Batch<>(batch);
+    }
+
     /**
      * @since 4.0.0-RC3
      */
@@ -73,6 +139,60 @@ public interface Conveyor<I, O> {
     @Contract("? -> ?")
     @NonNull O convey(final @NonNull I input) throws NullException, ConveyException;
 
+    /**
+     * Проверяет переданные массивы и передаёт каждый объект входного массива этому конвейеру, записывая выходные
+     * объекты в выходной массив по тем же индексам.
+     *
+     * @param input входной массив.
+     * @param output выходной массив, не короче входного.
+     *
+     * @return Переданный выходной массив.
+     *
+     * @throws NullException исключение валидации нулевого переданного массива.
+     * @throws ConveyException исключение передачи объекта либо недостаточной длины выходного массива.
+     * @implSpec Реализация по умолчанию вызывает {@linkplain #convey(Object)} для каждого объекта и не выделяет
+     * память. Конвейеры, переопределяющие {@linkplain #conveyAll(List) пакетную передачу списка}, могут
+     * переопределять и этот метод, делегируя ему.
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null -> 2; _, _ -> fail")
+    default O @NonNull [] conveyAll(final I @NonNull [] input, final O @NonNull [] output)
+            throws NullException, ConveyException {
+        Validator.notNull(input, "input");
+        Validator.notNull(output, "output");
+        if (output.length < input.length) throw ConveyException.templated("the objects into a shorter array");
+        for (var index = 0; index < input.length; ++index) output[index] = convey(input[index]);
+        return output;
+    }
+
+    /**
+     * Проверяет переданный список и передаёт все его объекты этому конвейеру одним пакетом.
+     *
+     * @param input входной список.
+     *
+     * @return Новый список выходных объектов в порядке входных.
+     *
+     * @throws NullException исключение валидации нулевого переданного списка.
+     * @throws ConveyException исключение передачи объекта.
+     * @implSpec Реализация по умолчанию вызывает {@linkplain #convey(Object)} для каждого объекта. Это точка
+     * расширения пакетной обработки: стадии, способные распределить накладные расходы вызова на весь пакет (разбор,
+     * ввод-вывод), переопределяют этот метод, а {@linkplain Chain цепочка} {@linkplain #conveyor(Conveyor) стадий}
+     * передаёт каждой стадии пакет целиком. Комбинаторы постобработки выходного объекта, например
+     * {@linkplain #analyzer(Analyzer) анализатор} и {@linkplain #handler(Handler) обработчик}, также строят цепочку,
+     * поэтому применяются к пакету этого конвейера поэлементно, не отменяя его пакетную реализацию.
+     * @see #batch(Conveyor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null -> new; _ -> fail")
+    default @NonNull List<O> conveyAll(final @NonNull List<? extends I> input) throws NullException, ConveyException {
+        Validator.notNull(input, "input");
+        final var output = new ArrayList<O>(input.size());
+        for (final I object : input) output.add(convey(object));
+        return output;
+    }
+
     /**
      * @since 4.0.0-RC3
      */
@@ -81,7 +201,7 @@ public interface Conveyor<I, O> {
     default <O_> @NonNull Conveyor<I, O_> analyzer(
             final @NonNull Analyzer<? super O, O_> analyzer) throws NullException {
         Validator.notNull(analyzer, "analyzer");
-        return input -> analyzer.analyze(convey(input));
+        return new Chain<>(this, analyzer::analyze);
     }
 
     /**
@@ -91,11 +211,10 @@ public interface Conveyor<I, O> {
     @Contract("_ -> new")
     default @NonNull Conveyor<I, O> callback(final @NonNull Callback callback) throws NullException {
         Validator.notNull(callback, "callback");
-        return input -> {
-            final var output = convey(input);
+        return new Chain<>(this, output -> {
             callback.call();
             return output;
-        };
+        });
     }
 
     /**
@@ -106,7 +225,7 @@ public interface Conveyor<I, O> {
     default <O_, F extends Throwable> @NonNull Conveyor<I, BiOptional<O_, F>> catcher(
             final @NonNull Catcher<? super O, O_, F> catcher) throws NullException {
         Validator.notNull(catcher, "catcher");
-        return input -> catcher.execute(convey(input));
+        return new Chain<>(this, catcher::execute);
     }
 
     /**
@@ -117,7 +236,7 @@ public interface Conveyor<I, O> {
     default @NonNull Conveyor<I, BiOptional<O, Boolean>> condition(
             final @NonNull Condition condition) throws NullException {
         Validator.notNull(condition, "condition");
-        return input -> BiOptional.auto(convey(input), condition.compute());
+        return new Chain<>(this, output -> BiOptional.auto(output, condition.compute()));
     }
 
     /**
@@ -128,7 +247,7 @@ public interface Conveyor<I, O> {
     default <O_> @NonNull Conveyor<I, O_> conveyor(
             final @NonNull Conveyor<? super O, O_> conveyor) throws NullException {
         Validator.notNull(conveyor, "conveyor");
-        return input -> conveyor.convey(convey(input));
+        return new Chain<>(this, conveyor);
     }
 
     /**
@@ -138,11 +257,10 @@ public interface Conveyor<I, O> {
     @Contract("_ -> new")
     default @NonNull Conveyor<I, O> handler(final @NonNull Handler<? super O> handler) throws NullException {
         Validator.notNull(handler, "handler");
-        return input -> {
-            final var output = convey(input);
+        return new Chain<>(this, output -> {
             handler.handle(output);
             return output;
-        };
+        });
     }
 
     /**
@@ -151,7 +269,7 @@ public interface Conveyor<I, O> {
     @Experimental
     @Contract("-> new")
     default @NonNull Conveyor<I, Optional<O>> optional() {
-        return input -> Optional.auto(convey(input));
+        return new Chain<>(this, Optional::auto);
     }
 
     /**
@@ -161,10 +279,7 @@ public interface Conveyor<I, O> {
     @Contract("_ -> new")
     default @NonNull Conveyor<I, BiOptional<O, Boolean>> predicate(final @NonNull Predicate<? super O> predicate) {
         Validator.notNull(predicate, "predicate");
-        return input -> {
-            final var output = convey(input);
-            return BiOptional.auto(output, predicate.evaluate(output));
-        };
+        return new Chain<>(this, output -> BiOptional.auto(output, predicate.evaluate(output)));
     }
 
     /**
@@ -175,7 +290,7 @@ public interface Conveyor<I, O> {
     default <O_> @NonNull Conveyor<I, BiOptional<O, O_>> supplier(
             final @NonNull Supplier<O_> supplier) throws NullException {
         Validator.notNull(supplier, "supplier");
-        return input -> BiOptional.auto(convey(input), supplier.get());
+        return new Chain<>(this, output -> BiOptional.auto(output, supplier.get()));
     }
 
     /**
@@ -221,4 +336,1066 @@ public interface Conveyor<I, O> {
         return Catcher.analyzed(this, analyzer)::execute;
     }
 
+    /**
+     * Создаёт {@linkplain AsyncConveyor асинхронный конвейер}, синхронно передающий входной объект этому конвейеру в
+     * вызывающем потоке.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @see AsyncConveyor#of(Conveyor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    default @NonNull AsyncConveyor<I, O> async() {
+        return AsyncConveyor.of(this);
+    }
+
+    /**
+     * Создаёт {@linkplain AsyncConveyor асинхронный конвейер}, передающий входной объект этому конвейеру в переданном
+     * исполнителе.
+     *
+     * @param executor исполнитель.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного исполнителя.
+     * @see AsyncConveyor#of(Conveyor, Executor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null -> new; _ -> fail")
+    default @NonNull AsyncConveyor<I, O> async(final @NonNull Executor executor) throws NullException {
+        return AsyncConveyor.of(this, executor);
+    }
+
+    /**
+     * Создаёт {@linkplain AsyncConveyor асинхронный конвейер}, передающий каждый входной объект этому конвейеру в
+     * {@linkplain VirtualThreads#executor() исполнителе блокирующих стадий}: в Java 21 и новее — в новом виртуальном
+     * потоке, в Java 17 — в общем пуле потоков платформы. Предназначен для стадий, блокирующих поток на время
+     * ввода-вывода.
+     *
+     * @return Новый асинхронный конвейер.
+     *
+     * @see VirtualThreads
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    default @NonNull AsyncConveyor<I, O> onVirtualThreads() {
+        return async(VirtualThreads.executor());
+    }
+
+    /**
+     * Создаёт {@linkplain FlowProcessor реактивный процессор}, передающий объекты от издателя этому конвейеру с
+     * {@linkplain Flow#defaultBufferSize() размером буфера по умолчанию}.
+     *
+     * @return Новый реактивный процессор.
+     *
+     * @see #asProcessor(int)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    default @NonNull FlowProcessor<I, O> asProcessor() {
+        return new FlowProcessor<>(this, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Создаёт {@linkplain FlowProcessor реактивный процессор}, передающий объекты от издателя этому конвейеру с
+     * переданным размером буфера.
+     *
+     * @param capacity размер буфера выходных объектов.
+     *
+     * @return Новый реактивный процессор.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("_ -> new")
+    default @NonNull FlowProcessor<I, O> asProcessor(final int capacity) {
+        return new FlowProcessor<>(this, capacity);
+    }
+
+    /**
+     * Создаёт {@linkplain Parallel параллельную стадию}, передающую объекты коллекции этому конвейеру в переданном
+     * пуле потоков с сохранением порядка.
+     *
+     * @param pool пул потоков.
+     *
+     * @return Новая параллельная стадия.
+     *
+     * @throws NullException исключение валидации нулевого переданного пула потоков.
+     * @see #parallel(ForkJoinPool, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null -> new; _ -> fail")
+    default @NonNull Parallel<I, O> parallel(final @NonNull ForkJoinPool pool) throws NullException {
+        return new Parallel<>(this, pool, true);
+    }
+
+    /**
+     * Создаёт {@linkplain Parallel параллельную стадию}, передающую объекты коллекции этому конвейеру в переданном
+     * пуле потоков.
+     *
+     * @param pool пул потоков.
+     * @param ordered параметр сохранения порядка: если ложный, то порядок результатов не определён.
+     *
+     * @return Новая параллельная стадия.
+     *
+     * @throws NullException исключение валидации нулевого переданного пула потоков.
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, _ -> new; _, _ -> fail")
+    default @NonNull Parallel<I, O> parallel(final @NonNull ForkJoinPool pool, final boolean ordered)
+            throws NullException {
+        return new Parallel<>(this, pool, ordered);
+    }
+
+    /**
+     * Создаёт конвейер, передающий входной объект этому конвейеру через
+     * {@linkplain Catcher.CircuitBreaker размыкающий ловец}: при превышении доли исключений переданного типа цепь
+     * размыкается, и на время размыкания этот конвейер не вызывается.
+     *
+     * @param type тип перехватываемого исключения.
+     * @param policy политика размыкания.
+     *
+     * @return Новый конвейер, возвращающий обёртку результата либо перехваченного исключения.
+     *
+     * @throws NullException исключение валидации нулевого переданного типа исключения или политики.
+     * @see Catcher#circuitBreaker(Conveyor, Class, Catcher.CircuitBreaker.Policy)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null -> new; _, _ -> fail")
+    default <F extends Throwable> @NonNull Conveyor<I, BiOptional<O, F>> circuitBreaker(
+            final @NonNull Class<F> type, final @NonNull Catcher.CircuitBreaker.Policy policy) throws NullException {
+        return Catcher.circuitBreaker(this, type, policy)::execute;
+    }
+
+    /**
+     * Копирует переданный список выходных объектов в переданный выходной массив.
+     *
+     * @param objects список выходных объектов.
+     * @param length количество входных объектов.
+     * @param output выходной массив.
+     *
+     * @return Переданный выходной массив.
+     *
+     * @throws ConveyException исключение несовпадения длины списка с количеством входных объектов либо недостаточной
+     * длины выходного массива.
+     * @since 4.0.0-RC5
+     */
+    private static <O> O @NonNull [] copy(final @NonNull List<? extends O> objects, final int length,
+                                          final O @NonNull [] output) throws ConveyException {
+        if (objects.size() != length) throw ConveyException.templated("a batch of a different size");
+        if (output.length < length) throw ConveyException.templated("the objects into a shorter array");
+        for (var index = 0; index < length; ++index) output[index] = objects.get(index);
+        return output;
+    }
+
+    /**
+     * Цепочка двух стадий. Передаёт объект первой стадии, а её выходной объект — второй; при
+     * {@linkplain #conveyAll(List) пакетной передаче} передаёт каждой стадии пакет целиком, сохраняя их пакетные
+     * реализации.
+     *
+     * @param <I> тип входного объекта.
+     * @param <M> тип промежуточного объекта.
+     * @param <O> тип выходного объекта.
+     *
+     * @see #conveyor(Conveyor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Chain<I, M, O> implements Conveyor<I, O> {
+
+        /**
+         * Первая стадия.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Conveyor<I, M> first;
+
+        /**
+         * Вторая стадия.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Conveyor<? super M, O> second;
+
+        /**
+         * Создаёт цепочку на основе переданных стадий.
+         *
+         * @param first первая стадия.
+         * @param second вторая стадия.
+         *
+         * @throws NullException исключение валидации нулевой переданной стадии.
+         * @since 4.0.0-RC5
+         */
+        @Contract("!null, !null -> new; _, _ -> fail")
+        public Chain(final @NonNull Conveyor<I, M> first, final @NonNull Conveyor<? super M, O> second)
+                throws NullException {
+            this.first = Validator.notNull(first, "The passed first conveyor");
+            this.second = Validator.notNull(second, "The passed second conveyor");
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public @NonNull O convey(final @NonNull I input) throws NullException, ConveyException {
+            return second.convey(first.convey(input));
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public O @NonNull [] conveyAll(final I @NonNull [] input, final O @NonNull [] output)
+                throws NullException, ConveyException {
+            Validator.notNull(input, "input");
+            Validator.notNull(output, "output");
+            return copy(conveyAll(Arrays.asList(input)), input.length, output);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public @NonNull List<O> conveyAll(final @NonNull List<? extends I> input)
+                throws NullException, ConveyException {
+            return second.conveyAll(first.conveyAll(input));
+        }
+
+    }
+
+    /**
+     * Пакетная стадия. Преобразует список входных объектов {@linkplain #batch конвейером списков} за один вызов;
+     * одиночный объект передаётся как пакет из одного объекта.
+     *
+     * @param <I> тип входного объекта.
+     * @param <O> тип выходного объекта.
+     *
+     * @see #batch(Conveyor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Batch<I, O> implements Conveyor<I, O> {
+
+        /**
+         * Конвейер, преобразующий список входных объектов в список выходных той же длины.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Conveyor<? super List<? extends I>, List<O>> batch;
+
+        /**
+         * Создаёт пакетную стадию на основе переданного конвейера списков.
+         *
+         * @param batch конвейер списков.
+         *
+         * @throws NullException исключение валидации нулевого переданного конвейера.
+         * @since 4.0.0-RC5
+         */
+        @Contract("!null -> new; _ -> fail")
+        public Batch(final @NonNull Conveyor<? super List<? extends I>, List<O>> batch) throws NullException {
+            this.batch = Validator.notNull(batch, "The passed batch conveyor");
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public @NonNull O convey(final @NonNull I input) throws NullException, ConveyException {
+            final var output = batch.convey(List.of(input));
+            if (output.size() != 1) throw ConveyException.templated("a batch of a different size");
+            return output.get(0);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public O @NonNull [] conveyAll(final I @NonNull [] input, final O @NonNull [] output)
+                throws NullException, ConveyException {
+            Validator.notNull(input, "input");
+            Validator.notNull(output, "output");
+            return copy(conveyAll(Arrays.asList(input)), input.length, output);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public @NonNull List<O> conveyAll(final @NonNull List<? extends I> input)
+                throws NullException, ConveyException {
+            final var output = batch.convey(Validator.notNull(input, "input"));
+            if (output.size() != input.size()) throw ConveyException.templated("a batch of a different size");
+            return output;
+        }
+
+    }
+
+    /**
+     * Параллельная стадия. Разделяет {@linkplain Spliterator разделитель} коллекции на части, передаёт объекты каждой
+     * части {@linkplain #failure() перехватывающему исключения} {@linkplain #conveyor конвейеру} в задачах
+     * {@linkplain ForkJoinPool пула потоков с захватом работы} и собирает обёртки результатов и исключений в список.
+     * Исключение отдельного объекта не прерывает обработку остальных. Без сохранения порядка меньшая часть
+     * результатов присоединяется к большей, что сокращает копирование.
+     *
+     * @param <I> тип входного объекта.
+     * @param <O> тип выходного объекта.
+     *
+     * @see #parallel(ForkJoinPool)
+     * @see #parallel(ForkJoinPool, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    class Parallel<I, O> implements Conveyor<Collection<? extends I>, List<BiOptional<O, Throwable>>> {
+
+        /**
+         * Количество частей на каждый поток пула, на которое разделяется коллекция известного размера.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final int SPLITS = 4;
+
+        /**
+         * Размер части коллекции неизвестного размера.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final long UNSIZED_THRESHOLD = 1024;
+
+        /**
+         * Конвейер, перехватывающий исключения передачи отдельного объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Conveyor<I, BiOptional<O, Throwable>> conveyor;
+
+        /**
+         * Пул потоков.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull ForkJoinPool pool;
+
+        /**
+         * Параметр сохранения порядка.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final boolean ordered;
+
+        /**
+         * Создаёт параллельную стадию на основе переданных конвейера, пула потоков и параметра сохранения порядка.
+         *
+         * @param conveyor конвейер.
+         * @param pool пул потоков.
+         * @param ordered параметр сохранения порядка.
+         *
+         * @throws NullException исключение валидации нулевого переданного конвейера или пула потоков.
+         * @since 4.0.0-RC5
+         */
+        @Contract("!null, !null, _ -> new; _, _, _ -> fail")
+        public Parallel(final @NonNull Conveyor<I, O> conveyor, final @NonNull ForkJoinPool pool,
+                        final boolean ordered) throws NullException {
+            this.conveyor = Validator.notNull(conveyor, "The passed conveyor").failure();
+            this.pool = Validator.notNull(pool, "The passed pool");
+            this.ordered = ordered;
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public @NonNull List<BiOptional<O, Throwable>> convey(final @NonNull Collection<? extends I> input)
+                throws NullException {
+            return convey(Validator.notNull(input, "input").spliterator());
+        }
+
+        /**
+         * Проверяет переданный разделитель и параллельно передаёт его объекты {@linkplain #conveyor конвейеру}.
+         *
+         * @param input разделитель входных объектов.
+         *
+         * @return Новый список обёрток результатов и исключений.
+         *
+         * @throws NullException исключение валидации нулевого переданного разделителя.
+         * @since 4.0.0-RC5
+         */
+        @Contract("!null -> new; _ -> fail")
+        public @NonNull List<BiOptional<O, Throwable>> convey(final @NonNull Spliterator<? extends I> input)
+                throws NullException {
+            Validator.notNull(input, "input");
+            final var size = input.estimateSize();
+            final var threshold = size == Long.MAX_VALUE ? UNSIZED_THRESHOLD
+                                                         : Math.max(1, size / ((long) pool.getParallelism() * SPLITS));
+            return pool.invoke(new Task(input, threshold));
+        }
+
+        /**
+         * Задача передачи объектов части коллекции.
+         *
+         * @since 4.0.0-RC5
+         */
+        @SuppressWarnings("serial")
+        protected class Task extends RecursiveTask<List<BiOptional<O, Throwable>>> {
+
+            /**
+             * Разделитель части коллекции.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final @NonNull Spliterator<? extends I> spliterator;
+
+            /**
+             * Размер части, которая больше не разделяется.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected final long threshold;
+
+            /**
+             * Создаёт задачу передачи объектов части коллекции.
+             *
+             * @param spliterator разделитель части коллекции.
+             * @param threshold размер части, которая больше не разделяется.
+             *
+             * @since 4.0.0-RC5
+             */
+            protected Task(final @NonNull Spliterator<? extends I> spliterator, final long threshold) {
+                this.spliterator = spliterator;
+                this.threshold = threshold;
+            }
+
+            /**
+             * @since 4.0.0-RC5
+             */
+            @Override
+            protected @NonNull List<BiOptional<O, Throwable>> compute() {
+                final Spliterator<? extends I> prefix;
+                if (spliterator.estimateSize() <= threshold || (prefix = spliterator.trySplit()) == null) {
+                    final var size = spliterator.estimateSize();
+                    final var output = new ArrayList<BiOptional<O, Throwable>>(
+                            size < Integer.MAX_VALUE ? (int) size : (int) threshold);
+                    spliterator.forEachRemaining(object -> output.add(conveyor.convey(object)));
+                    return output;
+                }
+                final var task = new Task(prefix, threshold);
+                task.fork();
+                final var suffix = new Task(spliterator, threshold).compute();
+                final var output = task.join();
+                if (ordered || output.size() >= suffix.size()) {
+                    output.addAll(suffix);
+                    return output;
+                }
+                suffix.addAll(output);
+                return suffix;
+            }
+
+        }
+
+    }
+
+    /**
+     * Реактивный процессор с управлением потоком по запросу. Передаёт каждый объект от издателя
+     * {@linkplain #conveyor конвейеру} и доставляет выходные объекты единственному подписчику не больше, чем тот
+     * запросил. У издателя запрашивается не больше объектов, чем помещается в {@linkplain #queue буфер}, а запрос
+     * пополняется по мере доставки, поэтому медленный подписчик или медленная стадия ограничивают чтение от издателя,
+     * а не увеличивают расход памяти. Исключение конвейера, в том числе {@linkplain ConveyException исключение
+     * передачи}, отменяет подписку на издателя и доставляется подписчику через {@linkplain Flow.Subscriber#onError}.
+     *
+     * @param <I> тип входного объекта.
+     * @param <O> тип выходного объекта.
+     *
+     * @see #asProcessor()
+     * @see #asProcessor(int)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    class FlowProcessor<I, O> implements Flow.Processor<I, O>, Flow.Subscription {
+
+        /**
+         * Конвейер.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Conveyor<? super I, ? extends O> conveyor;
+
+        /**
+         * Размер буфера, не меньше единицы.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final int capacity;
+
+        /**
+         * Количество доставленных объектов, после которого запрос к издателю пополняется.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final int limit;
+
+        /**
+         * Буфер выходных объектов, ожидающих запроса подписчика.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull ArrayBlockingQueue<O> queue;
+
+        /**
+         * Параметр существования подписчика.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull AtomicBoolean subscribed = new AtomicBoolean();
+
+        /**
+         * Невыполненный запрос подписчика.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull AtomicLong requested = new AtomicLong();
+
+        /**
+         * Счётчик запросов доставки: доставку выполняет только поток, увеличивший его с нуля.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull AtomicInteger work = new AtomicInteger();
+
+        /**
+         * Подписка на издателя.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile @Nullable Flow.Subscription upstream;
+
+        /**
+         * Подписчик.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile @Nullable Flow.Subscriber<? super O> downstream;
+
+        /**
+         * Исключение, которое необходимо доставить подписчику.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile @Nullable Throwable failure;
+
+        /**
+         * Параметр завершения издателя.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile boolean done;
+
+        /**
+         * Параметр отмены подписки или доставки завершающего сигнала.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile boolean cancelled;
+
+        /**
+         * Количество доставленных объектов с последнего пополнения запроса к издателю; изменяется только при
+         * доставке.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected int consumed;
+
+        /**
+         * Создаёт реактивный процессор на основе переданных конвейера и размера буфера.
+         *
+         * @param conveyor конвейер.
+         * @param capacity размер буфера.
+         *
+         * @throws NullException исключение валидации нулевого переданного конвейера.
+         * @since 4.0.0-RC5
+         */
+        @Contract("!null, _ -> new; _, _ -> fail")
+        public FlowProcessor(final @NonNull Conveyor<? super I, ? extends O> conveyor, final int capacity)
+                throws NullException {
+            this.conveyor = Validator.notNull(conveyor, "The passed conveyor");
+            this.capacity = Math.max(1, capacity);
+            limit = this.capacity - (this.capacity >> 2);
+            queue = new ArrayBlockingQueue<>(this.capacity);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public void subscribe(final @NonNull Flow.Subscriber<? super O> subscriber) throws NullException {
+            Validator.notNull(subscriber, "The passed subscriber");
+            if (!subscribed.compareAndSet(false, true)) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+
+                    @Override
+                    public void request(final long count) {}
+
+                    @Override
+                    public void cancel() {}
+
+                });
+                subscriber.onError(ConveyException.templated("to more than one subscriber"));
+                return;
+            }
+            subscriber.onSubscribe(this);
+            downstream = subscriber;
+            drain();
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public void onSubscribe(final @NonNull Flow.Subscription subscription) throws NullException {
+            Validator.notNull(subscription, "The passed subscription");
+            if (upstream != null || cancelled) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            subscription.request(capacity);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public void onNext(final @NonNull I item) {
+            if (done || cancelled) return;
+            try {
+                final O output = Validator.notNull(conveyor.convey(item), "The conveyed object");
+                if (!queue.offer(output)) throw ConveyException.templated("more objects than requested");
+            } catch (final @NonNull Throwable failure) {
+                final var subscription = upstream;
+                if (subscription != null) subscription.cancel();
+                onError(failure);
+                return;
+            }
+            drain();
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public void onError(final @NonNull Throwable throwable) {
+            if (done) return;
+            failure = throwable;
+            done = true;
+            drain();
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            drain();
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public void request(final long count) {
+            if (count <= 0) {
+                final var subscription = upstream;
+                if (subscription != null) subscription.cancel();
+                onError(new IllegalArgumentException("The requested count must be positive"));
+                return;
+            }
+            requested.getAndAccumulate(count, (current, added) -> current + added < 0 ? Long.MAX_VALUE
+                                                                                       : current + added);
+            drain();
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            final var subscription = upstream;
+            if (subscription != null) subscription.cancel();
+            drain();
+        }
+
+        /**
+         * Доставляет подписчику запрошенные выходные объекты из {@linkplain #queue буфера} и завершающий сигнал,
+         * пополняя запрос к издателю. Выполняется не более чем одним потоком одновременно.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected void drain() {
+            if (work.getAndIncrement() != 0) return;
+            var missed = 1;
+            do {
+                final var subscriber = downstream;
+                if (subscriber != null) {
+                    final var demand = requested.get();
+                    var emitted = 0L;
+                    while (emitted != demand) {
+                        if (terminate(subscriber)) return;
+                        final var output = queue.poll();
+                        if (output == null) break;
+                        subscriber.onNext(output);
+                        ++emitted;
+                        if (++consumed == limit) {
+                            consumed = 0;
+                            final var subscription = upstream;
+                            if (subscription != null) subscription.request(limit);
+                        }
+                    }
+                    if (terminate(subscriber)) return;
+                    if (emitted != 0 && demand != Long.MAX_VALUE) requested.addAndGet(-emitted);
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Доставляет подписчику завершающий сигнал, если подписка отменена, возникло исключение или издатель
+         * завершился и буфер пуст, и возвращает истину; в противном случае возвращает ложь.
+         *
+         * @param subscriber подписчик.
+         *
+         * @return Параметр завершения доставки.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected boolean terminate(final @NonNull Flow.Subscriber<? super O> subscriber) {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            if (!done) return false;
+            final var failure = this.failure;
+            if (failure != null) {
+                queue.clear();
+                cancelled = true;
+                subscriber.onError(failure);
+                return true;
+            }
+            if (!queue.isEmpty()) return false;
+            cancelled = true;
+            subscriber.onComplete();
+            return true;
+        }
+
+    }
+
+    /**
+     * Плоский конвейер. Хранит стадии в плоском массиве вместе с их видами и выполняет их одним циклом, поэтому
+     * глубина стека и встраивание вызовов не зависят от количества стадий. Стадии обработчиков и обратных вызовов
+     * выполняются напрямую, без промежуточных конвейеров, а добавляемые {@linkplain Chain цепочки} и плоские
+     * конвейеры разворачиваются в стадии. Методы композиции не изменяют этот конвейер и возвращают новый, разделяющий
+     * с ним растущие массивы стадий, поэтому добавление стадии выполняется за амортизированно постоянное время.
+     * <p>
+     * Результат передачи совпадает с результатом цепочки, составленной теми же методами композиции
+     * {@linkplain Conveyor конвейера}. При {@linkplain #conveyAll(List) пакетной передаче} каждой стадии-конвейеру
+     * передаётся пакет целиком, а смежные стадии анализаторов, обработчиков и обратных вызовов сливаются: пакет
+     * проходит их за один проход по объектам с одним промежуточным списком, поэтому внутри слитых стадий они
+     * применяются к каждому объекту по очереди, а не к пакету целиком.
+     *
+     * @param <I> тип входного объекта.
+     * @param <O> тип выходного объекта.
+     *
+     * @see #pipeline()
+     * @see #pipeline(Conveyor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Pipeline<I, O> implements Conveyor<I, O> {
+
+        /**
+         * Вид стадии-конвейера.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final byte CONVEYOR = 0;
+
+        /**
+         * Вид стадии-анализатора.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final byte ANALYZER = 1;
+
+        /**
+         * Вид стадии-обработчика.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final byte HANDLER = 2;
+
+        /**
+         * Вид стадии-обратного вызова.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final byte CALLBACK = 3;
+
+        /**
+         * Начальная вместимость массивов стадий, выделяемых при добавлении стадии.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final int CAPACITY = 8;
+
+        /**
+         * Стадии в порядке выполнения. Массив может быть длиннее {@linkplain #length количества стадий} и
+         * разделяться с другими плоскими конвейерами.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Object @NonNull [] stages;
+
+        /**
+         * Виды {@linkplain #stages стадий}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final byte @NonNull [] kinds;
+
+        /**
+         * Количество стадий этого плоского конвейера.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final int length;
+
+        /**
+         * Количество занятых элементов {@linkplain #stages массивов стадий}, общее для разделяющих их плоских
+         * конвейеров. Записать стадию в следующий свободный элемент может только конвейер, количество стадий которого
+         * совпадает с этим количеством; остальные копируют свои стадии в новые массивы.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull AtomicInteger size;
+
+        /**
+         * Создаёт плоский конвейер на основе переданных стадий и их видов. Массивы не копируются.
+         *
+         * @param stages стадии.
+         * @param kinds виды стадий.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected Pipeline(final @NonNull Object @NonNull [] stages, final byte @NonNull [] kinds) {
+            this(stages, kinds, stages.length, new AtomicInteger(stages.length));
+        }
+
+        /**
+         * Создаёт плоский конвейер на основе первых стадий переданных массивов и общего количества их занятых
+         * элементов. Массивы не копируются.
+         *
+         * @param stages стадии.
+         * @param kinds виды стадий.
+         * @param length количество стадий.
+         * @param size общее количество занятых элементов массивов.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected Pipeline(final @NonNull Object @NonNull [] stages, final byte @NonNull [] kinds, final int length,
+                           final @NonNull AtomicInteger size) {
+            this.stages = stages;
+            this.kinds = kinds;
+            this.length = length;
+            this.size = size;
+        }
+
+        /**
+         * Создаёт плоский конвейер, дополненный переданной стадией переданного вида. Если этот конвейер последним
+         * дополнял свои массивы и в них есть свободный элемент, то новый конвейер разделяет их, иначе стадии копируются
+         * в массивы удвоенной вместимости.
+         *
+         * @param stage стадия.
+         * @param kind вид стадии.
+         *
+         * @return Новый плоский конвейер.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> new")
+        protected <O_> @NonNull Pipeline<I, O_> append(final @NonNull Object stage, final byte kind) {
+            if (length < stages.length && size.compareAndSet(length, length + 1)) {
+                stages[length] = stage;
+                kinds[length] = kind;
+                return new Pipeline<>(stages, kinds, length + 1, size);
+            }
+            final var capacity = Math.max(CAPACITY, length << 1);
+            final var stages = new Object[capacity];
+            final var kinds = new byte[capacity];
+            System.arraycopy(this.stages, 0, stages, 0, length);
+            System.arraycopy(this.kinds, 0, kinds, 0, length);
+            stages[length] = stage;
+            kinds[length] = kind;
+            return new Pipeline<>(stages, kinds, length + 1, new AtomicInteger(length + 1));
+        }
+
+        /**
+         * Создаёт плоский конвейер, дополненный стадиями переданного конвейера: стадиями плоского конвейера,
+         * развёрнутыми стадиями цепочки либо самим конвейером.
+         *
+         * @param conveyor конвейер.
+         *
+         * @return Новый плоский конвейер.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        @SuppressWarnings("unchecked")
+        protected <O_> @NonNull Pipeline<I, O_> flatten(final @NonNull Conveyor<?, ?> conveyor) {
+            if (conveyor instanceof Chain<?, ?, ?> chain) return flatten(chain.first).flatten(chain.second);
+            if (!(conveyor instanceof Pipeline<?, ?> pipeline)) return append(conveyor, CONVEYOR);
+            var result = (Pipeline<I, ?>) this;
+            for (var index = 0; index < pipeline.length; ++index)
+                result = result.append(pipeline.stages[index], pipeline.kinds[index]);
+            return (Pipeline<I, O_>) result;
+        }
+
+        /**
+         * Передаёт объект стадиям этого плоского конвейера в переданном диапазоне индексов.
+         *
+         * @param object объект.
+         * @param from индекс первой стадии.
+         * @param to индекс, следующий за последней стадией.
+         *
+         * @return Выходной объект последней стадии диапазона.
+         *
+         * @throws NullException исключение валидации нулевого объекта.
+         * @throws ConveyException исключение передачи объекта.
+         * @since 4.0.0-RC5
+         */
+        @SuppressWarnings("unchecked")
+        protected @NonNull Object convey(@NonNull Object object, final int from, final int to)
+                throws NullException, ConveyException {
+            for (var index = from; index < to; ++index) {
+                final var stage = stages[index];
+                switch (kinds[index]) {
+                    case CONVEYOR -> object = ((Conveyor<Object, Object>) stage).convey(object);
+                    case ANALYZER -> object = ((Analyzer<Object, Object>) stage).analyze(object);
+                    case HANDLER -> ((Handler<Object>) stage).handle(object);
+                    default -> ((Callback) stage).call();
+                }
+            }
+            return object;
+        }
+
+        /**
+         * Компилирует этот плоский конвейер в скрытый класс, вызывающий стадии через константные дескрипторы методов,
+         * что позволяет JIT-компилятору встроить их все в один метод. Последующие изменения стадий (их методы
+         * композиции) на скомпилированный конвейер не влияют.
+         *
+         * @return Скомпилированный конвейер либо этот плоский конвейер, если количество стадий превышает
+         * {@linkplain ConveyorCompiler#LIMIT предел}.
+         *
+         * @throws ConveyException исключение определения скрытого класса.
+         * @see ConveyorCompiler#compile(Pipeline)
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> !null")
+        public @NonNull Conveyor<I, O> compile() throws ConveyException {
+            return ConveyorCompiler.compile(this);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull O convey(final @NonNull I input) throws NullException, ConveyException {
+            return (O) convey(input, 0, length);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        public O @NonNull [] conveyAll(final I @NonNull [] input, final O @NonNull [] output)
+                throws NullException, ConveyException {
+            Validator.notNull(input, "input");
+            Validator.notNull(output, "output");
+            return copy(conveyAll(Arrays.asList(input)), input.length, output);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull List<O> conveyAll(final @NonNull List<? extends I> input)
+                throws NullException, ConveyException {
+            Validator.notNull(input, "input");
+            List<?> objects = input;
+            for (var index = 0; index < length; ) {
+                if (kinds[index] == CONVEYOR) {
+                    objects = ((Conveyor<Object, Object>) stages[index++]).conveyAll(objects);
+                    continue;
+                }
+                var end = index + 1;
+                while (end < length && kinds[end] != CONVEYOR) ++end;
+                final var fused = new ArrayList<>(objects.size());
+                for (final var object : objects) fused.add(convey(object, index, end));
+                objects = fused;
+                index = end;
+            }
+            return objects == input ? new ArrayList<>((List<O>) objects) : (List<O>) objects;
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("_ -> new")
+        public <O_> @NonNull Pipeline<I, O_> analyzer(final @NonNull Analyzer<? super O, O_> analyzer)
+                throws NullException {
+            Validator.notNull(analyzer, "analyzer");
+            return append(analyzer, ANALYZER);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("_ -> new")
+        public @NonNull Pipeline<I, O> callback(final @NonNull Callback callback) throws NullException {
+            Validator.notNull(callback, "callback");
+            return append(callback, CALLBACK);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("_ -> new")
+        public <O_> @NonNull Pipeline<I, O_> conveyor(final @NonNull Conveyor<? super O, O_> conveyor)
+                throws NullException {
+            Validator.notNull(conveyor, "conveyor");
+            return flatten(conveyor);
+        }
+
+        /**
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("_ -> new")
+        public @NonNull Pipeline<I, O> handler(final @NonNull Handler<? super O> handler) throws NullException {
+            Validator.notNull(handler, "handler");
+            return append(handler, HANDLER);
+        }
+
+    }
+
 }
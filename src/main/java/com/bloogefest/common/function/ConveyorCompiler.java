@@ -0,0 +1,762 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.common.creation.UtilityException;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Компилятор конвейеров — это класс-утилита. Компилирует {@linkplain Conveyor.Pipeline плоский конвейер} в
+ * {@linkplain MethodHandles.Lookup#defineHiddenClass(byte[], boolean, MethodHandles.Lookup.ClassOption...) скрытый
+ * класс}, метод передачи которого последовательно вызывает стадии через дескрипторы методов, хранящиеся в
+ * статических неизменяемых полях. Такие дескрипторы являются константами для JIT-компилятора, поэтому он может
+ * встроить все стадии в один метод, как если бы конвейер был написан вручную, без вызовов через интерфейс. Пакетная
+ * передача делегируется исходному плоскому конвейеру.
+ * <p>
+ * Скрытый класс не привязан к загрузчику классов и выгружается вместе с последней ссылкой на скомпилированный
+ * конвейер. Конвейеры, количество стадий которых превышает {@linkplain #LIMIT предел}, не компилируются.
+ *
+ * @see Conveyor.Pipeline#compile()
+ * @since 4.0.0-RC5
+ */
+@Experimental(from = "4.0.0-RC5")
+public final class ConveyorCompiler {
+
+    /**
+     * Предел количества стадий компилируемого конвейера. Метод передачи конвейера с большим количеством стадий
+     * превысил бы размер, после которого JIT-компилятор не компилирует методы.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final int LIMIT = 512;
+
+    /**
+     * Поиск этого класса, в пакете которого определяются скрытые классы.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final MethodHandles.@NonNull Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Внутреннее имя скомпилированного класса.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull String NAME =
+            ConveyorCompiler.class.getPackageName().replace('.', '/') + "/CompiledConveyor";
+
+    /**
+     * Дескриптор типа дескриптора метода.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull String HANDLE = "Ljava/lang/invoke/MethodHandle;";
+
+    /**
+     * Дескриптор метода {@linkplain Conveyor#convey(Object) передачи} и вызова стадии-конвейера или
+     * стадии-анализатора.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull String CONVEY = "(Ljava/lang/Object;)Ljava/lang/Object;";
+
+    /**
+     * Дескриптор вызова стадии-обработчика.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull String HANDLE_CALL = "(Ljava/lang/Object;)V";
+
+    /**
+     * Дескриптор вызова стадии-обратного вызова.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull String CALLBACK_CALL = "()V";
+
+    /**
+     * Дескриптор метода {@linkplain Conveyor#conveyAll(List) пакетной передачи списка}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull String CONVEY_LIST = "(Ljava/util/List;)Ljava/util/List;";
+
+    /**
+     * Дескриптор метода {@linkplain Conveyor#conveyAll(Object[], Object[]) пакетной передачи массива}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull String CONVEY_ARRAY = "([Ljava/lang/Object;[Ljava/lang/Object;)[Ljava/lang/Object;";
+
+    /**
+     * Дескриптор типа конвейера.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull String CONVEYOR = "L" + Conveyor.class.getName().replace('.', '/') + ";";
+
+    /**
+     * Сигнатура файла класса.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * Основная версия файла класса, соответствующая Java 17.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int VERSION = 61;
+
+    /**
+     * Флаг доступа {@code ACC_PUBLIC}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ACC_PUBLIC = 0x0001;
+
+    /**
+     * Флаг доступа {@code ACC_PRIVATE}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ACC_PRIVATE = 0x0002;
+
+    /**
+     * Флаг доступа {@code ACC_STATIC}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ACC_STATIC = 0x0008;
+
+    /**
+     * Флаг доступа {@code ACC_FINAL}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ACC_FINAL = 0x0010;
+
+    /**
+     * Флаг доступа {@code ACC_SUPER}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ACC_SUPER = 0x0020;
+
+    /**
+     * Вид константы {@code CONSTANT_Utf8}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int CONSTANT_UTF8 = 1;
+
+    /**
+     * Вид константы {@code CONSTANT_Class}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int CONSTANT_CLASS = 7;
+
+    /**
+     * Вид константы {@code CONSTANT_String}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int CONSTANT_STRING = 8;
+
+    /**
+     * Вид константы {@code CONSTANT_Fieldref}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int CONSTANT_FIELD = 9;
+
+    /**
+     * Вид константы {@code CONSTANT_Methodref}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int CONSTANT_METHOD = 10;
+
+    /**
+     * Вид константы {@code CONSTANT_InterfaceMethodref}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int CONSTANT_INTERFACE_METHOD = 11;
+
+    /**
+     * Вид константы {@code CONSTANT_NameAndType}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    /**
+     * Код операции {@code sipush}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int SIPUSH = 0x11;
+
+    /**
+     * Код операции {@code ldc_w}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int LDC_W = 0x13;
+
+    /**
+     * Код операции {@code aload_0}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ALOAD_0 = 0x2A;
+
+    /**
+     * Код операции {@code aload_1}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ALOAD_1 = 0x2B;
+
+    /**
+     * Код операции {@code aload_2}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ALOAD_2 = 0x2C;
+
+    /**
+     * Код операции {@code aaload}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int AALOAD = 0x32;
+
+    /**
+     * Код операции {@code astore_0}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ASTORE_0 = 0x4B;
+
+    /**
+     * Код операции {@code astore_1}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ASTORE_1 = 0x4C;
+
+    /**
+     * Код операции {@code areturn}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int ARETURN = 0xB0;
+
+    /**
+     * Код операции {@code return}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int RETURN = 0xB1;
+
+    /**
+     * Код операции {@code getstatic}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int GETSTATIC = 0xB2;
+
+    /**
+     * Код операции {@code putstatic}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int PUTSTATIC = 0xB3;
+
+    /**
+     * Код операции {@code invokevirtual}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int INVOKEVIRTUAL = 0xB6;
+
+    /**
+     * Код операции {@code invokespecial}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int INVOKESPECIAL = 0xB7;
+
+    /**
+     * Код операции {@code invokestatic}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int INVOKESTATIC = 0xB8;
+
+    /**
+     * Код операции {@code invokeinterface}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int INVOKEINTERFACE = 0xB9;
+
+    /**
+     * Код операции {@code checkcast}.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final int CHECKCAST = 0xC0;
+
+    /**
+     * Дескрипторы методов стадий каждого вида, упорядоченные по значению вида.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull MethodHandle @NonNull [] STAGES;
+
+    static {
+        try {
+            final var object = MethodType.methodType(Object.class, Object.class);
+            STAGES = new MethodHandle[]{LOOKUP.findVirtual(Conveyor.class, "convey", object),
+                                        LOOKUP.findVirtual(Analyzer.class, "analyze", object),
+                                        LOOKUP.findVirtual(Handler.class, "handle",
+                                                           MethodType.methodType(void.class, Object.class)),
+                                        LOOKUP.findVirtual(Callback.class, "call", MethodType.methodType(void.class))};
+        } catch (final @NonNull ReflectiveOperationException failure) {
+            throw new ExceptionInInitializerError(failure);
+        }
+    }
+
+    /**
+     * Генерирует {@linkplain UtilityException исключение создания экземпляра компилятора конвейеров}.
+     *
+     * @throws UtilityException исключение создания экземпляра компилятора конвейеров.
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> fail", impact = Contract.Impact.INTERNAL)
+    private ConveyorCompiler() throws UtilityException {
+        throw UtilityException.templated("the ConveyorCompiler");
+    }
+
+    /**
+     * Компилирует переданный плоский конвейер в скрытый класс и возвращает его экземпляр. Результат передачи
+     * скомпилированного конвейера совпадает с результатом переданного, а исключения стадий генерируются без
+     * изменений. {@linkplain Conveyor#conveyAll(List) Пакетная передача} делегируется переданному конвейеру, поэтому
+     * сохраняет пакетные реализации стадий и слияние смежных стадий. Если количество стадий превышает
+     * {@linkplain #LIMIT предел}, возвращает переданный конвейер.
+     *
+     * @param pipeline плоский конвейер.
+     *
+     * @return Скомпилированный конвейер либо переданный конвейер.
+     *
+     * @throws NullException исключение валидации нулевого переданного плоского конвейера.
+     * @throws ConveyException исключение определения скрытого класса.
+     * @since 4.0.0-RC5
+     */
+    @Contract("!null -> !null; _ -> fail")
+    @SuppressWarnings("unchecked")
+    public static <I, O> @NonNull Conveyor<I, O> compile(final Conveyor.@NonNull Pipeline<I, O> pipeline)
+            throws NullException, ConveyException {
+        Validator.notNull(pipeline, "pipeline");
+        final var length = pipeline.length;
+        if (length > LIMIT) return pipeline;
+        final var kinds = Arrays.copyOf(pipeline.kinds, length);
+        final var data = new Object[length + 1];
+        for (var index = 0; index < length; ++index) {
+            data[index] = STAGES[kinds[index]].bindTo(pipeline.stages[index]);
+        }
+        data[length] = pipeline;
+        try {
+            final var lookup = LOOKUP.defineHiddenClassWithClassData(assemble(kinds), data, true);
+            return (Conveyor<I, O>) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class))
+                                          .invoke();
+        } catch (final @NonNull Throwable failure) {
+            throw new ConveyException("Failed to compile the pipeline", failure);
+        }
+    }
+
+    /**
+     * Собирает байт-код класса конвейера, статический инициализатор которого загружает дескрипторы стадий переданных
+     * видов и исходный плоский конвейер из данных класса в поля, метод передачи вызывает стадии по порядку, а методы
+     * пакетной передачи делегируют исходному плоскому конвейеру. Код методов не содержит ветвлений, поэтому не
+     * требует таблицы кадров стека.
+     *
+     * @param kinds виды стадий.
+     *
+     * @return Байт-код класса.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    private static byte @NonNull [] assemble(final byte @NonNull [] kinds) {
+        final var pool = new Pool();
+        final var self = pool.type(NAME);
+        final var fields = new int[kinds.length];
+        for (var index = 0; index < kinds.length; ++index) {
+            fields[index] = pool.member(CONSTANT_FIELD, self, "stage" + index, HANDLE);
+        }
+        final var source = pool.member(CONSTANT_FIELD, self, "pipeline", CONVEYOR);
+
+        final var initializer = new Code();
+        initializer.op(INVOKESTATIC).u2(pool.member(CONSTANT_METHOD, pool.type("java/lang/invoke/MethodHandles"),
+                                                    "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;"));
+        initializer.op(LDC_W).u2(pool.string("_"));
+        initializer.op(LDC_W).u2(pool.type("[Ljava/lang/Object;"));
+        initializer.op(INVOKESTATIC).u2(pool.member(CONSTANT_METHOD, pool.type("java/lang/invoke/MethodHandles"),
+                                                    "classData",
+                                                    "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;"
+                                                    + "Ljava/lang/Class;)Ljava/lang/Object;"));
+        initializer.op(CHECKCAST).u2(pool.type("[Ljava/lang/Object;")).op(ASTORE_0);
+        for (var index = 0; index < kinds.length; ++index) {
+            initializer.op(ALOAD_0).op(SIPUSH).u2(index).op(AALOAD);
+            initializer.op(CHECKCAST).u2(pool.type("java/lang/invoke/MethodHandle")).op(PUTSTATIC).u2(fields[index]);
+        }
+        final var conveyor = pool.type(Conveyor.class.getName().replace('.', '/'));
+        initializer.op(ALOAD_0).op(SIPUSH).u2(kinds.length).op(AALOAD);
+        initializer.op(CHECKCAST).u2(conveyor).op(PUTSTATIC).u2(source);
+        initializer.op(RETURN);
+
+        final var constructor = new Code();
+        constructor.op(ALOAD_0).op(INVOKESPECIAL)
+                   .u2(pool.member(CONSTANT_METHOD, pool.type("java/lang/Object"), "<init>", "()V")).op(RETURN);
+
+        final var convey = new Code();
+        final var handle = pool.type("java/lang/invoke/MethodHandle");
+        for (var index = 0; index < kinds.length; ++index) {
+            convey.op(GETSTATIC).u2(fields[index]);
+            switch (kinds[index]) {
+                case Conveyor.Pipeline.CONVEYOR, Conveyor.Pipeline.ANALYZER -> convey.op(ALOAD_1).op(INVOKEVIRTUAL).u2(
+                        pool.member(CONSTANT_METHOD, handle, "invokeExact", CONVEY)).op(ASTORE_1);
+                case Conveyor.Pipeline.HANDLER -> convey.op(ALOAD_1).op(INVOKEVIRTUAL).u2(
+                        pool.member(CONSTANT_METHOD, handle, "invokeExact", HANDLE_CALL));
+                default -> convey.op(INVOKEVIRTUAL).u2(pool.member(CONSTANT_METHOD, handle, "invokeExact",
+                                                                   CALLBACK_CALL));
+            }
+        }
+        convey.op(ALOAD_1).op(ARETURN);
+
+        final var conveyList = new Code();
+        conveyList.op(GETSTATIC).u2(source).op(ALOAD_1).op(INVOKEINTERFACE)
+                  .u2(pool.member(CONSTANT_INTERFACE_METHOD, conveyor, "conveyAll", CONVEY_LIST)).u1(2).u1(0)
+                  .op(ARETURN);
+
+        final var conveyArray = new Code();
+        conveyArray.op(GETSTATIC).u2(source).op(ALOAD_1).op(ALOAD_2).op(INVOKEINTERFACE)
+                   .u2(pool.member(CONSTANT_INTERFACE_METHOD, conveyor, "conveyAll", CONVEY_ARRAY)).u1(3).u1(0)
+                   .op(ARETURN);
+
+        final var object = pool.type("java/lang/Object");
+        final var code = pool.utf8("Code");
+        final var clinit = pool.utf8("<clinit>");
+        final var clinitDescriptor = pool.utf8("()V");
+        final var init = pool.utf8("<init>");
+        final var conveyName = pool.utf8("convey");
+        final var conveyDescriptor = pool.utf8(CONVEY);
+        final var conveyAllName = pool.utf8("conveyAll");
+        final var conveyListDescriptor = pool.utf8(CONVEY_LIST);
+        final var conveyArrayDescriptor = pool.utf8(CONVEY_ARRAY);
+        final var fieldDescriptor = pool.utf8(HANDLE);
+        final var sourceName = pool.utf8("pipeline");
+        final var sourceDescriptor = pool.utf8(CONVEYOR);
+        final var fieldNames = new int[kinds.length];
+        for (var index = 0; index < kinds.length; ++index) fieldNames[index] = pool.utf8("stage" + index);
+
+        final var bytes = new ByteArrayOutputStream();
+        try (final var output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC);
+            output.writeShort(0);
+            output.writeShort(VERSION);
+            pool.write(output);
+            output.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            output.writeShort(self);
+            output.writeShort(object);
+            output.writeShort(1);
+            output.writeShort(conveyor);
+            output.writeShort(kinds.length + 1);
+            for (final var name : fieldNames) {
+                output.writeShort(ACC_PRIVATE | ACC_STATIC | ACC_FINAL);
+                output.writeShort(name);
+                output.writeShort(fieldDescriptor);
+                output.writeShort(0);
+            }
+            output.writeShort(ACC_PRIVATE | ACC_STATIC | ACC_FINAL);
+            output.writeShort(sourceName);
+            output.writeShort(sourceDescriptor);
+            output.writeShort(0);
+            output.writeShort(5);
+            initializer.write(output, ACC_STATIC, clinit, clinitDescriptor, code, 3, 1);
+            constructor.write(output, ACC_PUBLIC, init, clinitDescriptor, code, 1, 1);
+            convey.write(output, ACC_PUBLIC, conveyName, conveyDescriptor, code, 2, 2);
+            conveyList.write(output, ACC_PUBLIC, conveyAllName, conveyListDescriptor, code, 2, 2);
+            conveyArray.write(output, ACC_PUBLIC, conveyAllName, conveyArrayDescriptor, code, 3, 3);
+            output.writeShort(0);
+        } catch (final @NonNull IOException failure) {
+            throw new IllegalStateException(failure);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Пул констант собираемого класса. Повторно добавляемые константы не дублируются.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final class Pool {
+
+        /**
+         * Индексы добавленных констант по их ключам.
+         *
+         * @since 4.0.0-RC5
+         */
+        private final @NonNull Map<String, Integer> indices = new HashMap<>();
+
+        /**
+         * Байт-код добавленных констант.
+         *
+         * @since 4.0.0-RC5
+         */
+        private final @NonNull ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        /**
+         * Поток записи байт-кода добавленных констант.
+         *
+         * @since 4.0.0-RC5
+         */
+        private final @NonNull DataOutputStream output = new DataOutputStream(bytes);
+
+        /**
+         * Добавляет строку в модифицированной кодировке UTF-8 и возвращает её индекс.
+         *
+         * @param value строка.
+         *
+         * @return Индекс константы.
+         *
+         * @since 4.0.0-RC5
+         */
+        private int utf8(final @NonNull String value) {
+            final var index = indices.get("U" + value);
+            if (index != null) return index;
+            try {
+                output.writeByte(CONSTANT_UTF8);
+                output.writeUTF(value);
+            } catch (final @NonNull IOException failure) {
+                throw new IllegalStateException(failure);
+            }
+            return register("U" + value);
+        }
+
+        /**
+         * Добавляет класс с переданным внутренним именем и возвращает его индекс.
+         *
+         * @param name внутреннее имя класса.
+         *
+         * @return Индекс константы.
+         *
+         * @since 4.0.0-RC5
+         */
+        private int type(final @NonNull String name) {
+            return reference(CONSTANT_CLASS, utf8(name));
+        }
+
+        /**
+         * Добавляет строковую константу и возвращает её индекс.
+         *
+         * @param value строка.
+         *
+         * @return Индекс константы.
+         *
+         * @since 4.0.0-RC5
+         */
+        private int string(final @NonNull String value) {
+            return reference(CONSTANT_STRING, utf8(value));
+        }
+
+        /**
+         * Добавляет ссылку переданного вида на поле или метод переданного класса и возвращает её индекс.
+         *
+         * @param tag вид ссылки.
+         * @param owner индекс класса.
+         * @param name имя поля или метода.
+         * @param descriptor дескриптор поля или метода.
+         *
+         * @return Индекс константы.
+         *
+         * @since 4.0.0-RC5
+         */
+        private int member(final int tag, final int owner, final @NonNull String name,
+                           final @NonNull String descriptor) {
+            final var type = reference(CONSTANT_NAME_AND_TYPE, utf8(name), utf8(descriptor));
+            return reference(tag, owner, type);
+        }
+
+        /**
+         * Добавляет константу переданного вида, ссылающуюся на переданные индексы, и возвращает её индекс.
+         *
+         * @param tag вид константы.
+         * @param references индексы.
+         *
+         * @return Индекс константы.
+         *
+         * @since 4.0.0-RC5
+         */
+        private int reference(final int tag, final int @NonNull ... references) {
+            final var key = new StringBuilder().append(tag);
+            for (final var reference : references) key.append(':').append(reference);
+            final var index = indices.get(key.toString());
+            if (index != null) return index;
+            bytes.write(tag);
+            for (final var reference : references) {
+                bytes.write(reference >>> 8);
+                bytes.write(reference);
+            }
+            return register(key.toString());
+        }
+
+        /**
+         * Регистрирует последнюю добавленную константу под переданным ключом и возвращает её индекс.
+         *
+         * @param key ключ константы.
+         *
+         * @return Индекс константы.
+         *
+         * @since 4.0.0-RC5
+         */
+        private int register(final @NonNull String key) {
+            final var index = indices.size() + 1;
+            indices.put(key, index);
+            return index;
+        }
+
+        /**
+         * Записывает количество и байт-код констант в переданный поток.
+         *
+         * @param output поток.
+         *
+         * @throws IOException исключение записи.
+         * @since 4.0.0-RC5
+         */
+        private void write(final @NonNull DataOutputStream output) throws IOException {
+            output.writeShort(indices.size() + 1);
+            bytes.writeTo(output);
+        }
+
+    }
+
+    /**
+     * Код собираемого метода.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final class Code {
+
+        /**
+         * Байт-код инструкций.
+         *
+         * @since 4.0.0-RC5
+         */
+        private final @NonNull ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        /**
+         * Добавляет однобайтовый код операции и возвращает этот код.
+         *
+         * @param opcode код операции.
+         *
+         * @return Этот код.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> this")
+        private @NonNull Code op(final int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        /**
+         * Добавляет однобайтовый операнд и возвращает этот код.
+         *
+         * @param operand операнд.
+         *
+         * @return Этот код.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> this")
+        private @NonNull Code u1(final int operand) {
+            bytes.write(operand);
+            return this;
+        }
+
+        /**
+         * Добавляет двухбайтовый операнд и возвращает этот код.
+         *
+         * @param operand операнд.
+         *
+         * @return Этот код.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> this")
+        private @NonNull Code u2(final int operand) {
+            bytes.write(operand >>> 8);
+            bytes.write(operand);
+            return this;
+        }
+
+        /**
+         * Записывает метод с этим кодом в переданный поток.
+         *
+         * @param output поток.
+         * @param access флаги доступа метода.
+         * @param name индекс имени метода.
+         * @param descriptor индекс дескриптора метода.
+         * @param attribute индекс имени атрибута кода.
+         * @param stack максимальная глубина стека операндов.
+         * @param locals количество локальных переменных.
+         *
+         * @throws IOException исключение записи.
+         * @since 4.0.0-RC5
+         */
+        private void write(final @NonNull DataOutputStream output, final int access, final int name,
+                           final int descriptor, final int attribute, final int stack, final int locals)
+                throws IOException {
+            output.writeShort(access);
+            output.writeShort(name);
+            output.writeShort(descriptor);
+            output.writeShort(1);
+            output.writeShort(attribute);
+            output.writeInt(12 + bytes.size());
+            output.writeShort(stack);
+            output.writeShort(locals);
+            output.writeInt(bytes.size());
+            bytes.writeTo(output);
+            output.writeShort(0);
+            output.writeShort(0);
+        }
+
+    }
+
+}
@@ -0,0 +1,501 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
+import com.bloogefest.annotation.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Контейнер вещественного числа — это функциональный инструмент, способный содержать вещественное число без упаковки.
+ * Он предоставляет методы для получения ({@linkplain #get()}, {@linkplain #withAnother(double)}), установки
+ * ({@linkplain #set(double)}), сброса ({@linkplain #reset()}), проверки его существования ({@linkplain #contains()}) и
+ * атомарного изменения ({@linkplain #compareAndSet(double, double)}, {@linkplain #getAndSet(double)},
+ * {@linkplain #addAndGet(double)}, {@linkplain #getAndAdd(double)}).
+ *
+ * @see Container
+ * @see Impl
+ * @see #without()
+ * @see #with(double)
+ * @since 4.0.0-RC5
+ */
+@Experimental(from = "4.0.0-RC5")
+public interface DoubleContainer {
+
+    /**
+     * Создаёт и возвращает контейнер несуществующего вещественного числа.
+     *
+     * @return Контейнер несуществующего вещественного числа.
+     *
+     * @see #with(double)
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> new")
+    static @NonNull DoubleContainer without() {
+        return new Impl();
+    }
+
+    /**
+     * Создаёт и возвращает контейнер переданного вещественного числа.
+     *
+     * @param value вещественное число.
+     *
+     * @return Контейнер переданного вещественного числа.
+     *
+     * @see #without()
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    static @NonNull DoubleContainer with(final double value) {
+        return new Impl(value);
+    }
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего вещественного числа} истинный, то возвращает текущее
+     * вещественное число, в противном случае генерирует {@linkplain GetException исключение получения объекта}
+     * (текущего вещественного числа).
+     *
+     * @return Текущее вещественное число.
+     *
+     * @throws GetException исключение получения объекта (текущего вещественного числа).
+     * @see #withAnother(double)
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> _")
+    double get() throws GetException;
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего вещественного числа} истинный, то возвращает текущее
+     * вещественное число, в противном случае — переданное.
+     *
+     * @param value вещественное число.
+     *
+     * @return Текущее или переданное вещественное число.
+     *
+     * @see #get()
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> _")
+    default double withAnother(final double value) {
+        return contains() ? get() : value;
+    }
+
+    /**
+     * Устанавливает переданное вещественное число. Возвращает текущий контейнер переданного вещественного числа.
+     *
+     * @param value вещественное число.
+     *
+     * @return Текущий контейнер переданного вещественного числа.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+    @NonNull DoubleContainer set(final double value);
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего вещественного числа} истинный, то сбрасывает текущее
+     * вещественное число, в противном случае генерирует {@linkplain ResetException исключение сброса объекта} (текущего
+     * вещественного числа). Возвращает текущий контейнер несуществующего вещественного числа.
+     *
+     * @return Текущий контейнер несуществующего вещественного числа.
+     *
+     * @throws ResetException исключение сброса объекта (текущего вещественного числа).
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+    @NonNull DoubleContainer reset() throws ResetException;
+
+    /**
+     * Возвращает параметр существования текущего вещественного числа.
+     *
+     * @return Параметр существования текущего вещественного числа.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> _")
+    boolean contains();
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего вещественного числа} истинный и текущее вещественное
+     * число равно ожидаемому, то атомарно устанавливает переданное вещественное число и возвращает истину, в противном
+     * случае — ложь.
+     *
+     * @param expected ожидаемое вещественное число.
+     * @param value вещественное число.
+     *
+     * @return Параметр успешности установки переданного вещественного числа.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+    boolean compareAndSet(final double expected, final double value);
+
+    /**
+     * Атомарно устанавливает переданное вещественное число. Если {@linkplain #contains() параметр существования
+     * текущего вещественного числа} был истинный, то возвращает предыдущее текущее вещественное число, в противном
+     * случае — переданное.
+     *
+     * @param value вещественное число.
+     *
+     * @return Предыдущее текущее или переданное вещественное число.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    double getAndSet(final double value);
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего вещественного числа} истинный, то атомарно
+     * прибавляет к нему переданное вещественное число и возвращает результат, в противном случае генерирует
+     * {@linkplain GetException исключение получения объекта} (текущего вещественного числа).
+     *
+     * @param delta прибавляемое вещественное число.
+     *
+     * @return Результат сложения.
+     *
+     * @throws GetException исключение получения объекта (текущего вещественного числа).
+     * @see #getAndAdd(double)
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    double addAndGet(final double delta) throws GetException;
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего вещественного числа} истинный, то атомарно
+     * прибавляет к нему переданное вещественное число и возвращает предыдущее текущее вещественное число, в противном
+     * случае генерирует {@linkplain GetException исключение получения объекта} (текущего вещественного числа).
+     *
+     * @param delta прибавляемое вещественное число.
+     *
+     * @return Предыдущее текущее вещественное число.
+     *
+     * @throws GetException исключение получения объекта (текущего вещественного числа).
+     * @see #addAndGet(double)
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    double getAndAdd(final double delta) throws GetException;
+
+
+
+    /**
+     * Интегрированная реализация контейнера вещественного числа.
+     *
+     * @implNote Методы получения и проверки существования выполняют оптимистичное чтение, методы, изменяющие
+     * существование числа, — захватывают блокировку записи {@linkplain #lock инструмента для управления
+     * доступом}, а сравнение с установкой и сложение выполняются без блокировки через {@linkplain #VALUE
+     * дескриптор переменной}: сложение — циклом сравнения с установкой, сравнивающим битовые представления
+     * чисел. Сброс не изменяет текущее число, поэтому изменение без блокировки, совпавшее со сбросом,
+     * упорядочивается перед ним.
+     * @see DoubleContainer
+     * @see #Impl()
+     * @see #Impl(double)
+     * @see #Impl(double, boolean)
+     * @since 4.0.0-RC5
+     */
+    class Impl implements DoubleContainer {
+
+        /**
+         * Инструмент для управления доступом.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull StampedLock lock = new StampedLock();
+
+        /**
+         * Дескриптор переменной {@linkplain #value текущего значения}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Impl.class, "value", double.class);
+            } catch (final @NonNull ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * Текущее вещественное число.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile double value;
+
+        /**
+         * Параметр существования текущего вещественного числа.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile boolean contains;
+
+        /**
+         * Создаёт интегрированную реализацию контейнера вещественного числа на основе нулевого значения и ложного
+         * параметра его существования.
+         *
+         * @see #Impl(double)
+         * @see #Impl(double, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> new")
+        public Impl() {
+            this(0, false);
+        }
+
+        /**
+         * Создаёт интегрированную реализацию контейнера вещественного числа на основе переданного вещественного числа и
+         * истинного параметра его существования.
+         *
+         * @param value вещественное число.
+         *
+         * @see #Impl()
+         * @see #Impl(double, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        public Impl(final double value) {
+            this(value, true);
+        }
+
+        /**
+         * Создаёт интегрированную реализацию контейнера вещественного числа на основе переданного вещественного числа и
+         * параметра его существования.
+         *
+         * @param value вещественное число.
+         * @param contains параметр существования вещественного числа.
+         *
+         * @see #Impl()
+         * @see #Impl(double)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> new")
+        public Impl(final double value, final boolean contains) {
+            this.value = value;
+            this.contains = contains;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего вещественного числа} истинный, то возвращает
+         * {@linkplain #value текущее вещественное число}, в противном случае генерирует
+         * {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего вещественного числа}).
+         *
+         * @return {@linkplain #value Текущее вещественное число}.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего вещественного числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public double get() throws GetException {
+            var stamp = lock.tryOptimisticRead();
+            var value = this.value;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    value = this.value;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            if (!contains) throw GetException.templated("the current value");
+            return value;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего вещественного числа} истинный, то возвращает
+         * {@linkplain #value текущее вещественное число}, в противном случае — переданное.
+         *
+         * @param value вещественное число.
+         *
+         * @return {@linkplain #value Текущее} или переданное вещественное число.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("_ -> _")
+        public double withAnother(final double value) {
+            var stamp = lock.tryOptimisticRead();
+            var current = this.value;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    current = this.value;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return contains ? current : value;
+        }
+
+        /**
+         * Устанавливает переданное вещественное число. Возвращает текущий контейнер переданного вещественного числа.
+         *
+         * @param value вещественное число.
+         *
+         * @return Текущий контейнер переданного вещественного числа.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull DoubleContainer set(final double value) {
+            final var stamp = lock.writeLock();
+            try {
+                this.value = value;
+                contains = true;
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего вещественного числа} истинный, то сбрасывает
+         * {@linkplain #value текущее вещественное число}, в противном случае генерирует
+         * {@linkplain ResetException исключение сброса объекта} ({@linkplain #value текущего вещественного числа}).
+         * Возвращает текущий контейнер несуществующего вещественного числа.
+         *
+         * @return Текущий контейнер несуществующего вещественного числа.
+         *
+         * @throws ResetException исключение сброса объекта ({@linkplain #value текущего вещественного числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull DoubleContainer reset() throws ResetException {
+            final var stamp = lock.writeLock();
+            try {
+                if (!contains) throw ResetException.templated("the current value");
+                contains = false;
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Возвращает {@linkplain #contains параметр существования текущего вещественного числа}.
+         *
+         * @return {@linkplain #contains Параметр существования текущего вещественного числа}.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public boolean contains() {
+            var stamp = lock.tryOptimisticRead();
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return contains;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего вещественного числа} истинный и {@linkplain #value
+         * текущее вещественное число} равно ожидаемому, то устанавливает переданное вещественное число и возвращает
+         * истину, в противном случае — ложь.
+         *
+         * @param expected ожидаемое вещественное число.
+         * @param value вещественное число.
+         *
+         * @return Параметр успешности установки переданного вещественного числа.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSet(final double expected, final double value) {
+            return contains && VALUE.compareAndSet(this, expected, value);
+        }
+
+        /**
+         * Устанавливает переданное вещественное число. Если {@linkplain #contains параметр существования текущего
+         * вещественного числа} был истинный, то возвращает предыдущее {@linkplain #value текущее вещественное число}, в
+         * противном случае — переданное.
+         *
+         * @param value вещественное число.
+         *
+         * @return Предыдущее {@linkplain #value текущее} или переданное вещественное число.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public double getAndSet(final double value) {
+            final var stamp = lock.writeLock();
+            try {
+                final var current = (double) VALUE.getAndSet(this, value);
+                final var previous = contains ? current : value;
+                contains = true;
+                return previous;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего вещественного числа} истинный, то прибавляет к
+         * {@linkplain #value текущему вещественному числу} переданное и возвращает результат, в противном случае
+         * генерирует {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего вещественного
+         * числа}).
+         *
+         * @param delta прибавляемое вещественное число.
+         *
+         * @return Результат сложения.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего вещественного числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public double addAndGet(final double delta) throws GetException {
+            return getAndAdd(delta) + delta;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего вещественного числа} истинный, то прибавляет к
+         * {@linkplain #value текущему вещественному числу} переданное и возвращает предыдущее, в противном случае
+         * генерирует {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего вещественного
+         * числа}).
+         *
+         * @param delta прибавляемое вещественное число.
+         *
+         * @return Предыдущее {@linkplain #value текущее вещественное число}.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего вещественного числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public double getAndAdd(final double delta) throws GetException {
+            if (!contains) throw GetException.templated("the current value");
+            double current;
+            do {
+                current = value;
+            } while (!VALUE.weakCompareAndSet(this, current, current + delta));
+            return current;
+        }
+
+    }
+
+}
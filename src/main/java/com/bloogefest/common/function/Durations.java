@@ -0,0 +1,52 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.common.creation.UtilityException;
+
+import java.time.Duration;
+
+/**
+ * Сроки — это внутренний класс-утилита пакета. Предоставляет преобразование сроков, общее для поставщиков и ловцов.
+ *
+ * @since 4.0.0-RC5
+ */
+final class Durations {
+
+    /**
+     * Генерирует {@linkplain UtilityException исключение создания экземпляра сроков}.
+     *
+     * @throws UtilityException исключение создания экземпляра сроков.
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> fail", impact = Contract.Impact.INTERNAL)
+    private Durations() throws UtilityException {
+        throw UtilityException.templated("the Durations");
+    }
+
+    /**
+     * Возвращает переданный срок в наносекундах, ограничивая его диапазоном от нуля до {@link Long#MAX_VALUE}.
+     *
+     * @param duration срок.
+     *
+     * @return Переданный срок в наносекундах.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> _")
+    static long nanos(final @NonNull Duration duration) {
+        if (duration.isNegative()) return 0;
+        try {
+            return duration.toNanos();
+        } catch (final @NonNull ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+}
@@ -31,6 +31,53 @@ public class GetException extends FunctionException {
      */
     public static final @NonNull String TEMPLATE_MESSAGE = "Failed to get %s";
 
+    /**
+     * Сообщение исключения получения текущего объекта.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final @NonNull String CURRENT_OBJECT_MESSAGE = TEMPLATE_MESSAGE.formatted("the current object");
+
+    /**
+     * Предварительно созданное исключение получения текущего объекта без подавления и трассировки стека.
+     *
+     * @see #currentObject()
+     * @since 4.0.0-RC5
+     */
+    public static final @NonNull GetException CURRENT_OBJECT =
+            new GetException(CURRENT_OBJECT_MESSAGE, DEFAULT_CAUSE, false, false);
+
+    /**
+     * Создаёт исключение получения объекта на основе {@linkplain #TEMPLATE_MESSAGE шаблонного сообщения} и переданных
+     * аргументов, {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}. Шаблонное сообщение форматируется только при
+     * первом получении сообщения.
+     *
+     * @param arguments аргументы шаблонного сообщения.
+     *
+     * @return Новое исключение получения объекта.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    public static @NonNull GetException templated(final @Nullable Object @NonNull ... arguments) {
+        return new GetException(TEMPLATE_MESSAGE, arguments, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+    }
+
+    /**
+     * Если {@linkplain #STACKLESS режим исключений без трассировки стека} включён, то возвращает
+     * {@linkplain #CURRENT_OBJECT предварительно созданное исключение получения текущего объекта}, в противном случае
+     * создаёт и возвращает новое исключение получения текущего объекта.
+     *
+     * @return Исключение получения текущего объекта.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> !null")
+    public static @NonNull GetException currentObject() {
+        return STACKLESS ? CURRENT_OBJECT : new GetException(CURRENT_OBJECT_MESSAGE);
+    }
+
     /**
      * Создаёт исключение получения объекта на основе {@linkplain #DEFAULT_MESSAGE сообщения},
      * {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
@@ -147,4 +194,23 @@ public class GetException extends FunctionException {
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Создаёт исключение получения объекта на основе переданных шаблонного сообщения, его аргументов, причины,
+     * параметров подавления и трассировки стека. Шаблонное сообщение форматируется только при первом получении
+     * сообщения.
+     *
+     * @param template шаблонное сообщение.
+     * @param arguments аргументы шаблонного сообщения.
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("_, _, _, _, _ -> new")
+    public GetException(final @Nullable String template, final @Nullable Object @Nullable [] arguments,
+                        final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
+        super(template, arguments, cause, suppression, writable);
+    }
+
 }
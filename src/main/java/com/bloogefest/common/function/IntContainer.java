@@ -0,0 +1,522 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
+import com.bloogefest.annotation.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Контейнер целого числа — это функциональный инструмент, способный содержать целое число без упаковки. Он
+ * предоставляет методы для получения ({@linkplain #get()}, {@linkplain #withAnother(int)}), установки
+ * ({@linkplain #set(int)}), сброса ({@linkplain #reset()}), проверки его существования ({@linkplain #contains()}) и
+ * атомарного изменения ({@linkplain #compareAndSet(int, int)}, {@linkplain #getAndSet(int)},
+ * {@linkplain #addAndGet(int)}, {@linkplain #getAndAdd(int)}).
+ *
+ * @see Container
+ * @see Impl
+ * @see #without()
+ * @see #with(int)
+ * @since 4.0.0-RC5
+ */
+@Experimental(from = "4.0.0-RC5")
+public interface IntContainer {
+
+    /**
+     * Создаёт и возвращает контейнер несуществующего целого числа.
+     *
+     * @return Контейнер несуществующего целого числа.
+     *
+     * @see #with(int)
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> new")
+    static @NonNull IntContainer without() {
+        return new Impl();
+    }
+
+    /**
+     * Создаёт и возвращает контейнер переданного целого числа.
+     *
+     * @param value целое число.
+     *
+     * @return Контейнер переданного целого числа.
+     *
+     * @see #without()
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    static @NonNull IntContainer with(final int value) {
+        return new Impl(value);
+    }
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего целого числа} истинный, то возвращает текущее целое
+     * число, в противном случае генерирует {@linkplain GetException исключение получения объекта} (текущего целого
+     * числа).
+     *
+     * @return Текущее целое число.
+     *
+     * @throws GetException исключение получения объекта (текущего целого числа).
+     * @see #withAnother(int)
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> _")
+    int get() throws GetException;
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего целого числа} истинный, то возвращает текущее целое
+     * число, в противном случае — переданное.
+     *
+     * @param value целое число.
+     *
+     * @return Текущее или переданное целое число.
+     *
+     * @see #get()
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> _")
+    default int withAnother(final int value) {
+        return contains() ? get() : value;
+    }
+
+    /**
+     * Устанавливает переданное целое число. Возвращает текущий контейнер переданного целого числа.
+     *
+     * @param value целое число.
+     *
+     * @return Текущий контейнер переданного целого числа.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+    @NonNull IntContainer set(final int value);
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего целого числа} истинный, то сбрасывает текущее целое
+     * число, в противном случае генерирует {@linkplain ResetException исключение сброса объекта} (текущего целого
+     * числа). Возвращает текущий контейнер несуществующего целого числа.
+     *
+     * @return Текущий контейнер несуществующего целого числа.
+     *
+     * @throws ResetException исключение сброса объекта (текущего целого числа).
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+    @NonNull IntContainer reset() throws ResetException;
+
+    /**
+     * Возвращает параметр существования текущего целого числа.
+     *
+     * @return Параметр существования текущего целого числа.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> _")
+    boolean contains();
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего целого числа} истинный и текущее целое число равно
+     * ожидаемому, то атомарно устанавливает переданное целое число и возвращает истину, в противном случае — ложь.
+     *
+     * @param expected ожидаемое целое число.
+     * @param value целое число.
+     *
+     * @return Параметр успешности установки переданного целого числа.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+    boolean compareAndSet(final int expected, final int value);
+
+    /**
+     * Атомарно устанавливает переданное целое число. Если
+     * {@linkplain #contains() параметр существования текущего целого числа} был истинный, то возвращает предыдущее
+     * текущее целое число, в противном случае — переданное.
+     *
+     * @param value целое число.
+     *
+     * @return Предыдущее текущее или переданное целое число.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    int getAndSet(final int value);
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего целого числа} истинный, то атомарно прибавляет к
+     * нему переданное целое число и возвращает результат, в противном случае генерирует
+     * {@linkplain GetException исключение получения объекта} (текущего целого числа).
+     *
+     * @param delta прибавляемое целое число.
+     *
+     * @return Результат сложения.
+     *
+     * @throws GetException исключение получения объекта (текущего целого числа).
+     * @see #getAndAdd(int)
+     * @see #incrementAndGet()
+     * @see #decrementAndGet()
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    int addAndGet(final int delta) throws GetException;
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего целого числа} истинный, то атомарно прибавляет к
+     * нему переданное целое число и возвращает предыдущее текущее целое число, в противном случае генерирует
+     * {@linkplain GetException исключение получения объекта} (текущего целого числа).
+     *
+     * @param delta прибавляемое целое число.
+     *
+     * @return Предыдущее текущее целое число.
+     *
+     * @throws GetException исключение получения объекта (текущего целого числа).
+     * @see #addAndGet(int)
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    int getAndAdd(final int delta) throws GetException;
+
+    /**
+     * Атомарно увеличивает текущее целое число на единицу и возвращает результат.
+     *
+     * @return Результат увеличения.
+     *
+     * @throws GetException исключение получения объекта (текущего целого числа).
+     * @see #addAndGet(int)
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> _", impact = Contract.Impact.INTERNAL)
+    default int incrementAndGet() throws GetException {
+        return addAndGet(1);
+    }
+
+    /**
+     * Атомарно уменьшает текущее целое число на единицу и возвращает результат.
+     *
+     * @return Результат уменьшения.
+     *
+     * @throws GetException исключение получения объекта (текущего целого числа).
+     * @see #addAndGet(int)
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> _", impact = Contract.Impact.INTERNAL)
+    default int decrementAndGet() throws GetException {
+        return addAndGet(-1);
+    }
+
+    /**
+     * Интегрированная реализация контейнера целого числа.
+     *
+     * @implNote Методы получения и проверки существования выполняют оптимистичное чтение, методы, изменяющие
+     * существование числа, — захватывают блокировку записи {@linkplain #lock инструмента для управления
+     * доступом}, а сравнение с установкой и сложение выполняются без блокировки через {@linkplain #VALUE
+     * дескриптор переменной}. Сброс не изменяет текущее число, поэтому изменение без блокировки, совпавшее
+     * со сбросом, упорядочивается перед ним.
+     * @see IntContainer
+     * @see #Impl()
+     * @see #Impl(int)
+     * @see #Impl(int, boolean)
+     * @since 4.0.0-RC5
+     */
+    class Impl implements IntContainer {
+
+        /**
+         * Инструмент для управления доступом.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull StampedLock lock = new StampedLock();
+
+        /**
+         * Дескриптор переменной {@linkplain #value текущего значения}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Impl.class, "value", int.class);
+            } catch (final @NonNull ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * Текущее целое число.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile int value;
+
+        /**
+         * Параметр существования текущего целого числа.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile boolean contains;
+
+        /**
+         * Создаёт интегрированную реализацию контейнера целого числа на основе нулевого значения и ложного параметра
+         * его существования.
+         *
+         * @see #Impl(int)
+         * @see #Impl(int, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> new")
+        public Impl() {
+            this(0, false);
+        }
+
+        /**
+         * Создаёт интегрированную реализацию контейнера целого числа на основе переданного целого числа и истинного
+         * параметра его существования.
+         *
+         * @param value целое число.
+         *
+         * @see #Impl()
+         * @see #Impl(int, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        public Impl(final int value) {
+            this(value, true);
+        }
+
+        /**
+         * Создаёт интегрированную реализацию контейнера целого числа на основе переданного целого числа и параметра
+         * его существования.
+         *
+         * @param value целое число.
+         * @param contains параметр существования целого числа.
+         *
+         * @see #Impl()
+         * @see #Impl(int)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> new")
+        public Impl(final int value, final boolean contains) {
+            this.value = value;
+            this.contains = contains;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего целого числа} истинный, то возвращает
+         * {@linkplain #value текущее целое число}, в противном случае генерирует
+         * {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего целого числа}).
+         *
+         * @return {@linkplain #value Текущее целое число}.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего целого числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public int get() throws GetException {
+            var stamp = lock.tryOptimisticRead();
+            var value = this.value;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    value = this.value;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            if (!contains) throw GetException.templated("the current value");
+            return value;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего целого числа} истинный, то возвращает
+         * {@linkplain #value текущее целое число}, в противном случае — переданное.
+         *
+         * @param value целое число.
+         *
+         * @return {@linkplain #value Текущее} или переданное целое число.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("_ -> _")
+        public int withAnother(final int value) {
+            var stamp = lock.tryOptimisticRead();
+            var current = this.value;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    current = this.value;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return contains ? current : value;
+        }
+
+        /**
+         * Устанавливает переданное целое число. Возвращает текущий контейнер переданного целого числа.
+         *
+         * @param value целое число.
+         *
+         * @return Текущий контейнер переданного целого числа.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull IntContainer set(final int value) {
+            final var stamp = lock.writeLock();
+            try {
+                this.value = value;
+                contains = true;
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего целого числа} истинный, то сбрасывает
+         * {@linkplain #value текущее целое число}, в противном случае генерирует
+         * {@linkplain ResetException исключение сброса объекта} ({@linkplain #value текущего целого числа}).
+         * Возвращает текущий контейнер несуществующего целого числа.
+         *
+         * @return Текущий контейнер несуществующего целого числа.
+         *
+         * @throws ResetException исключение сброса объекта ({@linkplain #value текущего целого числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull IntContainer reset() throws ResetException {
+            final var stamp = lock.writeLock();
+            try {
+                if (!contains) throw ResetException.templated("the current value");
+                contains = false;
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Возвращает {@linkplain #contains параметр существования текущего целого числа}.
+         *
+         * @return {@linkplain #contains Параметр существования текущего целого числа}.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public boolean contains() {
+            var stamp = lock.tryOptimisticRead();
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return contains;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего целого числа} истинный и
+         * {@linkplain #value текущее целое число} равно ожидаемому, то устанавливает переданное целое число и
+         * возвращает истину, в противном случае — ложь.
+         *
+         * @param expected ожидаемое целое число.
+         * @param value целое число.
+         *
+         * @return Параметр успешности установки переданного целого числа.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSet(final int expected, final int value) {
+            return contains && VALUE.compareAndSet(this, expected, value);
+        }
+
+        /**
+         * Устанавливает переданное целое число. Если
+         * {@linkplain #contains параметр существования текущего целого числа} был истинный, то возвращает предыдущее
+         * {@linkplain #value текущее целое число}, в противном случае — переданное.
+         *
+         * @param value целое число.
+         *
+         * @return Предыдущее {@linkplain #value текущее} или переданное целое число.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public int getAndSet(final int value) {
+            final var stamp = lock.writeLock();
+            try {
+                final var current = (int) VALUE.getAndSet(this, value);
+                final var previous = contains ? current : value;
+                contains = true;
+                return previous;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего целого числа} истинный, то прибавляет к
+         * {@linkplain #value текущему целому числу} переданное и возвращает результат, в противном случае генерирует
+         * {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего целого числа}).
+         *
+         * @param delta прибавляемое целое число.
+         *
+         * @return Результат сложения.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего целого числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public int addAndGet(final int delta) throws GetException {
+            if (!contains) throw GetException.templated("the current value");
+            return (int) VALUE.getAndAdd(this, delta) + delta;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего целого числа} истинный, то прибавляет к
+         * {@linkplain #value текущему целому числу} переданное и возвращает предыдущее, в противном случае генерирует
+         * {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего целого числа}).
+         *
+         * @param delta прибавляемое целое число.
+         *
+         * @return Предыдущее {@linkplain #value текущее целое число}.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего целого числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public int getAndAdd(final int delta) throws GetException {
+            if (!contains) throw GetException.templated("the current value");
+            return (int) VALUE.getAndAdd(this, delta);
+        }
+
+    }
+
+}
@@ -0,0 +1,525 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
+import com.bloogefest.annotation.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Контейнер длинного целого числа — это функциональный инструмент, способный содержать длинное целое число без
+ * упаковки. Он предоставляет методы для получения ({@linkplain #get()}, {@linkplain #withAnother(long)}), установки
+ * ({@linkplain #set(long)}), сброса ({@linkplain #reset()}), проверки его существования ({@linkplain #contains()}) и
+ * атомарного изменения ({@linkplain #compareAndSet(long, long)}, {@linkplain #getAndSet(long)},
+ * {@linkplain #addAndGet(long)}, {@linkplain #getAndAdd(long)}).
+ *
+ * @see Container
+ * @see Impl
+ * @see #without()
+ * @see #with(long)
+ * @since 4.0.0-RC5
+ */
+@Experimental(from = "4.0.0-RC5")
+public interface LongContainer {
+
+    /**
+     * Создаёт и возвращает контейнер несуществующего длинного целого числа.
+     *
+     * @return Контейнер несуществующего длинного целого числа.
+     *
+     * @see #with(long)
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> new")
+    static @NonNull LongContainer without() {
+        return new Impl();
+    }
+
+    /**
+     * Создаёт и возвращает контейнер переданного длинного целого числа.
+     *
+     * @param value длинное целое число.
+     *
+     * @return Контейнер переданного длинного целого числа.
+     *
+     * @see #without()
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> new")
+    static @NonNull LongContainer with(final long value) {
+        return new Impl(value);
+    }
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего длинного целого числа} истинный, то возвращает
+     * текущее длинное целое число, в противном случае генерирует {@linkplain GetException исключение получения объекта}
+     * (текущего длинного целого числа).
+     *
+     * @return Текущее длинное целое число.
+     *
+     * @throws GetException исключение получения объекта (текущего длинного целого числа).
+     * @see #withAnother(long)
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> _")
+    long get() throws GetException;
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего длинного целого числа} истинный, то возвращает
+     * текущее длинное целое число, в противном случае — переданное.
+     *
+     * @param value длинное целое число.
+     *
+     * @return Текущее или переданное длинное целое число.
+     *
+     * @see #get()
+     * @since 4.0.0-RC5
+     */
+    @Contract("_ -> _")
+    default long withAnother(final long value) {
+        return contains() ? get() : value;
+    }
+
+    /**
+     * Устанавливает переданное длинное целое число. Возвращает текущий контейнер переданного длинного целого числа.
+     *
+     * @param value длинное целое число.
+     *
+     * @return Текущий контейнер переданного длинного целого числа.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+    @NonNull LongContainer set(final long value);
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего длинного целого числа} истинный, то сбрасывает
+     * текущее длинное целое число, в противном случае генерирует {@linkplain ResetException исключение сброса объекта}
+     * (текущего длинного целого числа). Возвращает текущий контейнер несуществующего длинного целого числа.
+     *
+     * @return Текущий контейнер несуществующего длинного целого числа.
+     *
+     * @throws ResetException исключение сброса объекта (текущего длинного целого числа).
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+    @NonNull LongContainer reset() throws ResetException;
+
+    /**
+     * Возвращает параметр существования текущего длинного целого числа.
+     *
+     * @return Параметр существования текущего длинного целого числа.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract("-> _")
+    boolean contains();
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего длинного целого числа} истинный и текущее длинное
+     * целое число равно ожидаемому, то атомарно устанавливает переданное длинное целое число и возвращает истину, в
+     * противном случае — ложь.
+     *
+     * @param expected ожидаемое длинное целое число.
+     * @param value длинное целое число.
+     *
+     * @return Параметр успешности установки переданного длинного целого числа.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+    boolean compareAndSet(final long expected, final long value);
+
+    /**
+     * Атомарно устанавливает переданное длинное целое число. Если {@linkplain #contains() параметр существования
+     * текущего длинного целого числа} был истинный, то возвращает предыдущее текущее длинное целое число, в противном
+     * случае — переданное.
+     *
+     * @param value длинное целое число.
+     *
+     * @return Предыдущее текущее или переданное длинное целое число.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    long getAndSet(final long value);
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего длинного целого числа} истинный, то атомарно
+     * прибавляет к нему переданное длинное целое число и возвращает результат, в противном случае генерирует
+     * {@linkplain GetException исключение получения объекта} (текущего длинного целого числа).
+     *
+     * @param delta прибавляемое длинное целое число.
+     *
+     * @return Результат сложения.
+     *
+     * @throws GetException исключение получения объекта (текущего длинного целого числа).
+     * @see #getAndAdd(long)
+     * @see #incrementAndGet()
+     * @see #decrementAndGet()
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    long addAndGet(final long delta) throws GetException;
+
+    /**
+     * Если {@linkplain #contains() параметр существования текущего длинного целого числа} истинный, то атомарно
+     * прибавляет к нему переданное длинное целое число и возвращает предыдущее текущее длинное целое число, в противном
+     * случае генерирует {@linkplain GetException исключение получения объекта} (текущего длинного целого числа).
+     *
+     * @param delta прибавляемое длинное целое число.
+     *
+     * @return Предыдущее текущее длинное целое число.
+     *
+     * @throws GetException исключение получения объекта (текущего длинного целого числа).
+     * @see #addAndGet(long)
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+    long getAndAdd(final long delta) throws GetException;
+
+    /**
+     * Атомарно увеличивает текущее длинное целое число на единицу и возвращает результат.
+     *
+     * @return Результат увеличения.
+     *
+     * @throws GetException исключение получения объекта (текущего длинного целого числа).
+     * @see #addAndGet(long)
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> _", impact = Contract.Impact.INTERNAL)
+    default long incrementAndGet() throws GetException {
+        return addAndGet(1);
+    }
+
+    /**
+     * Атомарно уменьшает текущее длинное целое число на единицу и возвращает результат.
+     *
+     * @return Результат уменьшения.
+     *
+     * @throws GetException исключение получения объекта (текущего длинного целого числа).
+     * @see #addAndGet(long)
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> _", impact = Contract.Impact.INTERNAL)
+    default long decrementAndGet() throws GetException {
+        return addAndGet(-1);
+    }
+
+    /**
+     * Интегрированная реализация контейнера длинного целого числа.
+     *
+     * @implNote Методы получения и проверки существования выполняют оптимистичное чтение, методы, изменяющие
+     * существование числа, — захватывают блокировку записи {@linkplain #lock инструмента для управления
+     * доступом}, а сравнение с установкой и сложение выполняются без блокировки через {@linkplain #VALUE
+     * дескриптор переменной}. Сброс не изменяет текущее число, поэтому изменение без блокировки, совпавшее
+     * со сбросом, упорядочивается перед ним.
+     * @see LongContainer
+     * @see #Impl()
+     * @see #Impl(long)
+     * @see #Impl(long, boolean)
+     * @since 4.0.0-RC5
+     */
+    class Impl implements LongContainer {
+
+        /**
+         * Инструмент для управления доступом.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull StampedLock lock = new StampedLock();
+
+        /**
+         * Дескриптор переменной {@linkplain #value текущего значения}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Impl.class, "value", long.class);
+            } catch (final @NonNull ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * Текущее длинное целое число.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile long value;
+
+        /**
+         * Параметр существования текущего длинного целого числа.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile boolean contains;
+
+        /**
+         * Создаёт интегрированную реализацию контейнера длинного целого числа на основе нулевого значения и ложного
+         * параметра его существования.
+         *
+         * @see #Impl(long)
+         * @see #Impl(long, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> new")
+        public Impl() {
+            this(0, false);
+        }
+
+        /**
+         * Создаёт интегрированную реализацию контейнера длинного целого числа на основе переданного длинного целого
+         * числа и истинного параметра его существования.
+         *
+         * @param value длинное целое число.
+         *
+         * @see #Impl()
+         * @see #Impl(long, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        public Impl(final long value) {
+            this(value, true);
+        }
+
+        /**
+         * Создаёт интегрированную реализацию контейнера длинного целого числа на основе переданного длинного целого
+         * числа и параметра его существования.
+         *
+         * @param value длинное целое число.
+         * @param contains параметр существования длинного целого числа.
+         *
+         * @see #Impl()
+         * @see #Impl(long)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _ -> new")
+        public Impl(final long value, final boolean contains) {
+            this.value = value;
+            this.contains = contains;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего длинного целого числа} истинный, то возвращает
+         * {@linkplain #value текущее длинное целое число}, в противном случае генерирует
+         * {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего длинного целого числа}).
+         *
+         * @return {@linkplain #value Текущее длинное целое число}.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего длинного целого числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public long get() throws GetException {
+            var stamp = lock.tryOptimisticRead();
+            var value = this.value;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    value = this.value;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            if (!contains) throw GetException.templated("the current value");
+            return value;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего длинного целого числа} истинный, то возвращает
+         * {@linkplain #value текущее длинное целое число}, в противном случае — переданное.
+         *
+         * @param value длинное целое число.
+         *
+         * @return {@linkplain #value Текущее} или переданное длинное целое число.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("_ -> _")
+        public long withAnother(final long value) {
+            var stamp = lock.tryOptimisticRead();
+            var current = this.value;
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    current = this.value;
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return contains ? current : value;
+        }
+
+        /**
+         * Устанавливает переданное длинное целое число. Возвращает текущий контейнер переданного длинного целого числа.
+         *
+         * @param value длинное целое число.
+         *
+         * @return Текущий контейнер переданного длинного целого числа.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull LongContainer set(final long value) {
+            final var stamp = lock.writeLock();
+            try {
+                this.value = value;
+                contains = true;
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего длинного целого числа} истинный, то сбрасывает
+         * {@linkplain #value текущее длинное целое число}, в противном случае генерирует
+         * {@linkplain ResetException исключение сброса объекта} ({@linkplain #value текущего длинного целого числа}).
+         * Возвращает текущий контейнер несуществующего длинного целого числа.
+         *
+         * @return Текущий контейнер несуществующего длинного целого числа.
+         *
+         * @throws ResetException исключение сброса объекта ({@linkplain #value текущего длинного целого числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "-> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull LongContainer reset() throws ResetException {
+            final var stamp = lock.writeLock();
+            try {
+                if (!contains) throw ResetException.templated("the current value");
+                contains = false;
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Возвращает {@linkplain #contains параметр существования текущего длинного целого числа}.
+         *
+         * @return {@linkplain #contains Параметр существования текущего длинного целого числа}.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> _")
+        public boolean contains() {
+            var stamp = lock.tryOptimisticRead();
+            var contains = this.contains;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    contains = this.contains;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return contains;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего длинного целого числа} истинный и
+         * {@linkplain #value текущее длинное целое число} равно ожидаемому, то устанавливает переданное длинное целое
+         * число и возвращает истину, в противном случае — ложь.
+         *
+         * @param expected ожидаемое длинное целое число.
+         * @param value длинное целое число.
+         *
+         * @return Параметр успешности установки переданного длинного целого числа.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSet(final long expected, final long value) {
+            return contains && VALUE.compareAndSet(this, expected, value);
+        }
+
+        /**
+         * Устанавливает переданное длинное целое число. Если {@linkplain #contains параметр существования текущего
+         * длинного целого числа} был истинный, то возвращает предыдущее {@linkplain #value текущее длинное целое
+         * число}, в противном случае — переданное.
+         *
+         * @param value длинное целое число.
+         *
+         * @return Предыдущее {@linkplain #value текущее} или переданное длинное целое число.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public long getAndSet(final long value) {
+            final var stamp = lock.writeLock();
+            try {
+                final var current = (long) VALUE.getAndSet(this, value);
+                final var previous = contains ? current : value;
+                contains = true;
+                return previous;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего длинного целого числа} истинный, то прибавляет к
+         * {@linkplain #value текущему длинному целому числу} переданное и возвращает результат, в противном случае
+         * генерирует {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего длинного
+         * целого числа}).
+         *
+         * @param delta прибавляемое длинное целое число.
+         *
+         * @return Результат сложения.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего длинного целого числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public long addAndGet(final long delta) throws GetException {
+            if (!contains) throw GetException.templated("the current value");
+            return (long) VALUE.getAndAdd(this, delta) + delta;
+        }
+
+        /**
+         * Если {@linkplain #contains параметр существования текущего длинного целого числа} истинный, то прибавляет к
+         * {@linkplain #value текущему длинному целому числу} переданное и возвращает предыдущее, в противном случае
+         * генерирует {@linkplain GetException исключение получения объекта} ({@linkplain #value текущего длинного
+         * целого числа}).
+         *
+         * @param delta прибавляемое длинное целое число.
+         *
+         * @return Предыдущее {@linkplain #value текущее длинное целое число}.
+         *
+         * @throws GetException исключение получения объекта ({@linkplain #value текущего длинного целого числа}).
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_ -> _", impact = Contract.Impact.INTERNAL)
+        public long getAndAdd(final long delta) throws GetException {
+            if (!contains) throw GetException.templated("the current value");
+            return (long) VALUE.getAndAdd(this, delta);
+        }
+
+    }
+
+}
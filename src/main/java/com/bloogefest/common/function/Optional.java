@@ -29,22 +29,23 @@ import com.bloogefest.common.validation.Validator;
 public interface Optional<T> {
 
     /**
-     * Создаёт и возвращает {@linkplain Without#Without() интегрированную реализацию обёртки несуществующего объекта}.
+     * Возвращает {@linkplain Without#INSTANCE общую интегрированную реализацию обёртки несуществующего объекта}.
      *
      * @param <T> тип объекта.
      *
-     * @return {@linkplain Without#Without() Интегрированную реализацию обёртки несуществующего объекта}.
+     * @return {@linkplain Without#INSTANCE Общая интегрированная реализация обёртки несуществующего объекта}.
      *
      * @see Without
-     * @see Without#Without()
+     * @see Without#INSTANCE
      * @see #with(Object)
      * @see #auto(Object)
      * @since 4.0.0-RC3
      */
     @Experimental(from = "4.0.0-RC4")
-    @Contract("-> new")
+    @Contract("-> const")
+    @SuppressWarnings("unchecked")
     static <T> @NonNull Optional<T> without() {
-        return new Without<>();
+        return (Optional<T>) Without.INSTANCE;
     }
 
     /**
@@ -221,6 +222,14 @@ public interface Optional<T> {
      */
     @Experimental(from = "4.0.0-RC5") class Without<T> implements Optional<T> {
 
+        /**
+         * Общая интегрированная реализация обёртки несуществующего объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Experimental(from = "4.0.0-RC5")
+        protected static final @NonNull Without<?> INSTANCE = new Without<>();
+
         /**
          * Создаёт интегрированную реализацию обёртки несуществующего объекта.
          *
@@ -244,7 +253,7 @@ public interface Optional<T> {
         @Experimental(from = "4.0.0-RC4")
         @Contract("-> fail")
         public @Null T get() {
-            throw new GetException(GetException.TEMPLATE_MESSAGE.formatted("the current object"));
+            throw GetException.currentObject();
         }
 
         /**
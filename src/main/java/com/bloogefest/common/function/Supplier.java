@@ -10,6 +10,15 @@ import com.bloogefest.annotation.*;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
 /**
  * Поставщик объекта — это функциональный инструмент, способный поставлять объект. Он предоставляет методы для его
  * получения ({@linkplain #get()}, {@linkplain #withNullable()}, {@linkplain #withAnother(Object)},
@@ -19,8 +28,16 @@ import com.bloogefest.common.validation.Validator;
  *
  * @see Without
  * @see With
+ * @see Memoized
+ * @see Expiring
  * @see #without()
  * @see #with(Object)
+ * @see #memoize(Supplier)
+ * @see #memoizeFor(Supplier, Duration)
+ * @see #async(Executor)
+ * @see #onVirtualThread()
+ * @see #firstOf(Executor, Supplier[])
+ * @see #hedged(Supplier, Supplier, Duration, Executor)
  * @since 1.0.0
  */
 @Experimental(from = "4.0.0-RC5")
@@ -28,18 +45,19 @@ import com.bloogefest.common.validation.Validator;
 public interface Supplier<T> {
 
     /**
-     * Создаёт и возвращает поставщик несуществующего объекта.
+     * Возвращает {@linkplain Without#INSTANCE общий поставщик несуществующего объекта}.
      *
-     * @return Поставщик несуществующего объекта.
+     * @return {@linkplain Without#INSTANCE Общий поставщик несуществующего объекта}.
      *
-     * @see Without#Without()
+     * @see Without#INSTANCE
      * @see #with(Object)
      * @since 4.0.0-RC3
      */
     @Experimental(from = "4.0.0-RC4")
-    @Contract("_ -> new")
+    @Contract("-> const")
+    @SuppressWarnings("unchecked")
     static <T> @NonNull Supplier<T> without() {
-        return new Without<>();
+        return (Supplier<T>) Without.INSTANCE;
     }
 
     /**
@@ -77,6 +95,157 @@ public interface Supplier<T> {
         return Validator.notNull(supplier, "The passed supplier");
     }
 
+    /**
+     * Создаёт и возвращает поставщик, однократно получающий объект от переданного поставщика при первом получении
+     * объекта и возвращающий его при последующих получениях без блокировки.
+     *
+     * @param <T> тип объекта.
+     * @param supplier поставщик объекта.
+     *
+     * @return Запоминающий поставщик объекта.
+     *
+     * @throws NullException исключение валидации нулевого переданного поставщика объекта.
+     * @see Memoized#Memoized(Supplier)
+     * @see #memoizeFor(Supplier, Duration)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null -> new; _ -> fail")
+    static <T> @NonNull Supplier<T> memoize(final @NonNull Supplier<? extends T> supplier) throws NullException {
+        return new Memoized<>(supplier);
+    }
+
+    /**
+     * Создаёт и возвращает поставщик, получающий объект от переданного поставщика и возвращающий его без блокировки до
+     * истечения переданного срока хранения, после чего получающий объект заново.
+     *
+     * @param <T> тип объекта.
+     * @param supplier поставщик объекта.
+     * @param ttl срок хранения объекта.
+     *
+     * @return Запоминающий на срок поставщик объекта.
+     *
+     * @throws NullException исключение валидации нулевого переданного поставщика объекта или срока хранения.
+     * @see Expiring#Expiring(Supplier, Duration, Duration)
+     * @see #memoize(Supplier)
+     * @see #memoizeFor(Supplier, Duration, Duration)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null -> new; _, _ -> fail")
+    static <T> @NonNull Supplier<T> memoizeFor(final @NonNull Supplier<? extends T> supplier,
+                                               final @NonNull Duration ttl) throws NullException {
+        return new Expiring<>(supplier, ttl, Duration.ZERO);
+    }
+
+    /**
+     * Создаёт и возвращает поставщик, получающий объект от переданного поставщика и возвращающий его без блокировки до
+     * истечения переданного срока хранения, после чего получающий объект заново. Исключение, возникшее при получении
+     * объекта, запоминается и генерируется повторно без обращения к переданному поставщику до истечения переданного
+     * срока отсрочки.
+     *
+     * @param <T> тип объекта.
+     * @param supplier поставщик объекта.
+     * @param ttl срок хранения объекта.
+     * @param backoff срок отсрочки после исключения.
+     *
+     * @return Запоминающий на срок поставщик объекта.
+     *
+     * @throws NullException исключение валидации нулевого переданного поставщика объекта, срока хранения или срока
+     * отсрочки.
+     * @see Expiring#Expiring(Supplier, Duration, Duration)
+     * @see #memoize(Supplier)
+     * @see #memoizeFor(Supplier, Duration)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null, !null -> new; _, _, _ -> fail")
+    static <T> @NonNull Supplier<T> memoizeFor(final @NonNull Supplier<? extends T> supplier,
+                                               final @NonNull Duration ttl,
+                                               final @NonNull Duration backoff) throws NullException {
+        return new Expiring<>(supplier, ttl, backoff);
+    }
+
+    /**
+     * Создаёт и возвращает будущий результат, завершающийся первым объектом, успешно полученным от переданных
+     * поставщиков, асинхронно выполняемых переданным исполнителем. Если получение объекта от всех поставщиков
+     * завершилось исключением, то будущий результат завершается исключением последнего из них. Поставщики, не успевшие
+     * завершиться, продолжают выполнение, а их результаты игнорируются.
+     *
+     * @param <T> тип объекта.
+     * @param executor исполнитель.
+     * @param suppliers поставщики объекта.
+     *
+     * @return Копия будущего результата гонки: первого успешно полученного объекта.
+     *
+     * @throws NullException исключение валидации нулевого переданного исполнителя, массива поставщиков или поставщика.
+     * @see Race
+     * @see #async(Executor)
+     * @see #hedged(Supplier, Supplier, Duration, Executor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null -> new; _, _ -> fail")
+    @SafeVarargs
+    static <T> @NonNull CompletableFuture<T> firstOf(
+            final @NonNull Executor executor,
+            final @NonNull Supplier<? extends T> @NonNull ... suppliers) throws NullException {
+        Validator.notNull(executor, "The passed executor");
+        Validator.notNull(suppliers, "The passed suppliers");
+        for (final var supplier : suppliers) Validator.notNull(supplier, "The passed supplier");
+        final var race = new Race<T>(suppliers.length);
+        if (suppliers.length == 0) race.future.completeExceptionally(GetException.currentObject());
+        for (final var supplier : suppliers) {
+            CompletableFuture.supplyAsync(supplier::get, executor).whenComplete(race::settle);
+        }
+        return race.future.copy();
+    }
+
+    /**
+     * Создаёт и возвращает будущий результат, завершающийся первым объектом, успешно полученным от переданного
+     * основного поставщика, асинхронно выполняемого переданным исполнителем, или от переданного резервного поставщика,
+     * запускаемого, если основной поставщик не завершился успешно в течение переданной задержки либо завершился
+     * исключением раньше. Если получение объекта от обоих поставщиков завершилось исключением, то будущий результат
+     * завершается исключением последнего из них.
+     *
+     * @param <T> тип объекта.
+     * @param primary основной поставщик объекта.
+     * @param fallback резервный поставщик объекта.
+     * @param delay задержка запуска резервного поставщика.
+     * @param executor исполнитель.
+     *
+     * @return Копия будущего результата гонки: первого успешно полученного объекта.
+     *
+     * @throws NullException исключение валидации нулевого переданного основного или резервного поставщика, задержки или
+     * исполнителя.
+     * @see Race
+     * @see #async(Executor)
+     * @see #firstOf(Executor, Supplier[])
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null, !null, !null, !null -> new; _, _, _, _ -> fail")
+    static <T> @NonNull CompletableFuture<T> hedged(final @NonNull Supplier<? extends T> primary,
+                                                    final @NonNull Supplier<? extends T> fallback,
+                                                    final @NonNull Duration delay,
+                                                    final @NonNull Executor executor) throws NullException {
+        Validator.notNull(primary, "The passed primary supplier");
+        Validator.notNull(fallback, "The passed fallback supplier");
+        Validator.notNull(delay, "The passed delay");
+        Validator.notNull(executor, "The passed executor");
+        final var race = new Race<T>(2);
+        final var started = new AtomicBoolean();
+        final Runnable hedge = () -> {
+            if (!race.future.isDone() && started.compareAndSet(false, true))
+                CompletableFuture.supplyAsync(fallback::get, executor).whenComplete(race::settle);
+        };
+        CompletableFuture.supplyAsync(primary::get, executor).whenComplete((object, failure) -> {
+            race.settle(object, failure);
+            if (failure != null) hedge.run();
+        });
+        CompletableFuture.delayedExecutor(Durations.nanos(delay), TimeUnit.NANOSECONDS, executor).execute(hedge);
+        return race.future.copy();
+    }
 
     /**
      * Получает и возвращает текущий объект.
@@ -226,6 +395,44 @@ public interface Supplier<T> {
         }
     }
 
+    /**
+     * Создаёт и возвращает будущий результат получения текущего объекта, асинхронно выполняемого переданным
+     * исполнителем.
+     *
+     * @param executor исполнитель.
+     *
+     * @return Будущий результат получения текущего объекта.
+     *
+     * @throws NullException исключение валидации нулевого переданного исполнителя.
+     * @see #get()
+     * @see #firstOf(Executor, Supplier[])
+     * @see #hedged(Supplier, Supplier, Duration, Executor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("!null -> new; _ -> fail")
+    default @NonNull CompletableFuture<T> async(final @NonNull Executor executor) throws NullException {
+        Validator.notNull(executor, "The passed executor");
+        return CompletableFuture.supplyAsync(this::get, executor);
+    }
+
+    /**
+     * Создаёт и возвращает будущий результат получения текущего объекта, асинхронно выполняемого
+     * {@linkplain VirtualThreads#executor() исполнителем блокирующих стадий}: в Java 21 и новее — в новом виртуальном
+     * потоке, в Java 17 — в общем пуле потоков платформы.
+     *
+     * @return Будущий результат получения текущего объекта.
+     *
+     * @see #async(Executor)
+     * @see VirtualThreads
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    default @NonNull CompletableFuture<T> onVirtualThread() {
+        return async(VirtualThreads.executor());
+    }
+
     /**
      * Интегрированная реализация поставщика несуществующего объекта.
      *
@@ -238,6 +445,13 @@ public interface Supplier<T> {
      */
     @Experimental(from = "4.0.0-RC5") class Without<T> implements Supplier<T> {
 
+        /**
+         * Общая интегрированная реализация поставщика несуществующего объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Experimental(from = "4.0.0-RC5")
+        protected static final @NonNull Without<?> INSTANCE = new Without<>();
 
         /**
          * Создаёт интегрированную реализацию поставщика несуществующего объекта.
@@ -255,7 +469,7 @@ public interface Supplier<T> {
         @Experimental(from = "4.0.0-RC4")
         @Contract("-> fail")
         public @Null T get() throws GetException {
-            throw new GetException(GetException.TEMPLATE_MESSAGE.formatted("the current object"));
+            throw GetException.currentObject();
         }
 
         /**
@@ -274,8 +488,7 @@ public interface Supplier<T> {
         @Experimental(from = "4.0.0-RC5")
         @Contract("-> new")
         public @NonNull BiContainer<T, ? extends Exception> withNullable() {
-            return BiContainer.with(null,
-                                    new GetException(GetException.TEMPLATE_MESSAGE.formatted("the current object")));
+            return BiContainer.with(null, GetException.currentObject());
         }
 
         /**
@@ -296,8 +509,7 @@ public interface Supplier<T> {
         @Experimental(from = "4.0.0-RC5")
         @Contract("_ -> new")
         public @NonNull BiContainer<T, ? extends Exception> withAnother(final @Nullable T object) {
-            return BiContainer.with(object,
-                                    new GetException(GetException.TEMPLATE_MESSAGE.formatted("the current object")));
+            return BiContainer.with(object, GetException.currentObject());
         }
 
         /**
@@ -326,7 +538,7 @@ public interface Supplier<T> {
         public @NonNull TriOptional<T, ? extends Exception, ? extends Exception> withSupplier(
                 final @NonNull Supplier<? extends T> supplier) throws NullException, GetException {
             Validator.notNull(supplier, "The passed supplier of an object");
-            final var e = new GetException(GetException.TEMPLATE_MESSAGE.formatted("the current object"));
+            final var e = GetException.currentObject();
             try {
                 return TriOptional.withFirstAndSecond(supplier.get(), e);
             } catch (final @NonNull Exception e_) {
@@ -360,7 +572,7 @@ public interface Supplier<T> {
         public <E extends Throwable> @NonNull TriOptional<T, ? extends Exception, ? extends Exception> withThrowable(
                 final @NonNull Supplier<? extends E> supplier) throws NullException, GetException, E {
             Validator.notNull(supplier, "The passed supplier of a throwable");
-            final var e = new GetException(GetException.TEMPLATE_MESSAGE.formatted("the current object"));
+            final var e = GetException.currentObject();
             final E e_;
             try {
                 e_ = Validator.notNull(supplier.get(), "A throwable supplied by the passed supplier");
@@ -509,4 +721,335 @@ public interface Supplier<T> {
 
     }
 
+    /**
+     * Интегрированная реализация запоминающего поставщика объекта. Однократно получает объект от
+     * {@linkplain #supplier переданного поставщика} под {@linkplain #lock блокировкой} и публикует его через
+     * {@linkplain #object изменчивое поле}, поэтому последующие получения объекта не захватывают блокировку и не
+     * выделяют память. Исключение, возникшее при получении объекта, не запоминается.
+     *
+     * @param <T> тип объекта.
+     *
+     * @see Supplier
+     * @see Expiring
+     * @see #memoize(Supplier)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Memoized<T> implements Supplier<T> {
+
+        /**
+         * Маркер неполученного объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull Object ABSENT = Container.LockFree.ABSENT;
+
+        /**
+         * Поставщик объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Supplier<? extends T> supplier;
+
+        /**
+         * Блокировка однократного получения объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull StampedLock lock = new StampedLock();
+
+        /**
+         * Полученный объект или {@linkplain #ABSENT маркер неполученного объекта}.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile @Nullable Object object = ABSENT;
+
+        /**
+         * Создаёт интегрированную реализацию запоминающего поставщика объекта на основе переданного поставщика.
+         *
+         * @param supplier поставщик объекта.
+         *
+         * @throws NullException исключение валидации нулевого переданного поставщика объекта.
+         * @since 4.0.0-RC5
+         */
+        @Contract("!null -> new; _ -> fail")
+        public Memoized(final @NonNull Supplier<? extends T> supplier) throws NullException {
+            this.supplier = Validator.notNull(supplier, "The passed supplier");
+        }
+
+        /**
+         * Если объект уже получен, то возвращает его, в противном случае получает объект от
+         * {@linkplain #supplier поставщика}, запоминает и возвращает его.
+         *
+         * @return Полученный объект.
+         *
+         * @throws GetException исключение получения объекта от {@linkplain #supplier поставщика}.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "-> _", impact = Contract.Impact.INTERNAL)
+        @SuppressWarnings("unchecked")
+        public @Nullable T get() throws GetException {
+            var object = this.object;
+            if (object == ABSENT) {
+                final var stamp = lock.writeLock();
+                try {
+                    object = this.object;
+                    if (object == ABSENT) this.object = object = supplier.get();
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+            }
+            return (T) object;
+        }
+
+    }
+
+    /**
+     * Интегрированная реализация запоминающего на срок поставщика объекта. Хранит полученный объект либо возникшее
+     * при его получении исключение вместе с моментом получения в {@linkplain State неизменяемом состоянии}, которое
+     * публикуется через {@linkplain #state изменчивое поле}. До истечения срока хранения объекта или срока отсрочки
+     * после исключения получение объекта не захватывает блокировку и не выделяет память, после истечения — объект
+     * получается заново под {@linkplain #lock блокировкой} одним потоком.
+     *
+     * @param <T> тип объекта.
+     *
+     * @see Supplier
+     * @see Memoized
+     * @see #memoizeFor(Supplier, Duration)
+     * @see #memoizeFor(Supplier, Duration, Duration)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Expiring<T> implements Supplier<T> {
+
+        /**
+         * Поставщик объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Supplier<? extends T> supplier;
+
+        /**
+         * Срок хранения объекта в наносекундах.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final long ttl;
+
+        /**
+         * Срок отсрочки после исключения в наносекундах. Нулевой срок отключает запоминание исключений.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final long backoff;
+
+        /**
+         * Блокировка получения объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull StampedLock lock = new StampedLock();
+
+        /**
+         * Текущее состояние или {@code null}, если объект ещё не получен.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected volatile @Nullable State<T> state;
+
+        /**
+         * Создаёт интегрированную реализацию запоминающего на срок поставщика объекта на основе переданных поставщика,
+         * срока хранения объекта и срока отсрочки после исключения.
+         *
+         * @param supplier поставщик объекта.
+         * @param ttl срок хранения объекта.
+         * @param backoff срок отсрочки после исключения.
+         *
+         * @throws NullException исключение валидации нулевого переданного поставщика объекта, срока хранения или срока
+         * отсрочки.
+         * @since 4.0.0-RC5
+         */
+        @Contract("!null, !null, !null -> new; _, _, _ -> fail")
+        public Expiring(final @NonNull Supplier<? extends T> supplier, final @NonNull Duration ttl,
+                        final @NonNull Duration backoff) throws NullException {
+            this.supplier = Validator.notNull(supplier, "The passed supplier");
+            this.ttl = Durations.nanos(Validator.notNull(ttl, "The passed ttl"));
+            this.backoff = Durations.nanos(Validator.notNull(backoff, "The passed backoff"));
+        }
+
+        /**
+         * Если срок {@linkplain #state текущего состояния} не истёк, то возвращает запомненный объект или генерирует
+         * запомненное исключение, в противном случае получает объект от {@linkplain #supplier поставщика}, запоминает
+         * и возвращает его. Если при получении объекта возникло исключение и {@linkplain #backoff срок отсрочки}
+         * ненулевой, то запоминает и генерирует это исключение.
+         *
+         * @return Полученный объект.
+         *
+         * @throws GetException исключение получения объекта от {@linkplain #supplier поставщика}.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "-> _", impact = Contract.Impact.INTERNAL)
+        public @Nullable T get() throws GetException {
+            var state = this.state;
+            if (state == null || state.expired()) {
+                final var stamp = lock.writeLock();
+                try {
+                    state = this.state;
+                    if (state == null || state.expired()) this.state = state = load();
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+            }
+            if (state.failure != null) throw state.failure;
+            return state.object;
+        }
+
+        /**
+         * Получает объект от {@linkplain #supplier поставщика} и возвращает новое состояние. Если при получении
+         * объекта возникло исключение и {@linkplain #backoff срок отсрочки} нулевой, то генерирует это исключение.
+         *
+         * @return Новое состояние.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> new")
+        protected @NonNull State<T> load() {
+            try {
+                return new State<>(supplier.get(), null, System.nanoTime(), ttl);
+            } catch (final @NonNull RuntimeException e) {
+                if (backoff == 0) throw e;
+                return new State<>(null, e, System.nanoTime(), backoff);
+            }
+        }
+
+        /**
+         * Неизменяемое состояние запоминающего на срок поставщика объекта.
+         *
+         * @param <T> тип объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final class State<T> {
+
+            /**
+             * Запомненный объект.
+             *
+             * @since 4.0.0-RC5
+             */
+            final @Nullable T object;
+
+            /**
+             * Запомненное исключение или {@code null}, если объект получен успешно.
+             *
+             * @since 4.0.0-RC5
+             */
+            final @Nullable RuntimeException failure;
+
+            /**
+             * Момент получения объекта в наносекундах.
+             *
+             * @since 4.0.0-RC5
+             */
+            final long timestamp;
+
+            /**
+             * Срок действия состояния в наносекундах.
+             *
+             * @since 4.0.0-RC5
+             */
+            final long period;
+
+            /**
+             * Создаёт состояние на основе переданных объекта, исключения, момента получения и срока действия.
+             *
+             * @param object объект.
+             * @param failure исключение.
+             * @param timestamp момент получения в наносекундах.
+             * @param period срок действия в наносекундах.
+             *
+             * @since 4.0.0-RC5
+             */
+            State(final @Nullable T object, final @Nullable RuntimeException failure, final long timestamp,
+                  final long period) {
+                this.object = object;
+                this.failure = failure;
+                this.timestamp = timestamp;
+                this.period = period;
+            }
+
+            /**
+             * Возвращает истину, если срок действия этого состояния истёк.
+             *
+             * @return Параметр истечения срока действия.
+             *
+             * @since 4.0.0-RC5
+             */
+            boolean expired() {
+                return System.nanoTime() - timestamp >= period;
+            }
+
+        }
+
+    }
+
+    /**
+     * Гонка поставщиков объекта. Её {@linkplain #future будущий результат} завершается первым объектом, успешно
+     * полученным одним из участников, или исключением последнего участника, если все участники завершились
+     * исключением. Наружу передаётся только {@linkplain CompletableFuture#copy() копия} будущего результата, поэтому
+     * её завершение не влияет на гонку.
+     *
+     * @param <T> тип объекта.
+     *
+     * @see #firstOf(Executor, Supplier[])
+     * @see #hedged(Supplier, Supplier, Duration, Executor)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5") class Race<T> {
+
+        /**
+         * Будущий результат гонки.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull CompletableFuture<T> future = new CompletableFuture<>();
+
+        /**
+         * Количество участников, ещё не завершившихся исключением.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull AtomicInteger remaining;
+
+        /**
+         * Создаёт будущий результат гонки переданного количества участников.
+         *
+         * @param participants количество участников.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        protected Race(final int participants) {
+            remaining = new AtomicInteger(participants);
+        }
+
+        /**
+         * Если участник успешно получил объект, то завершает {@linkplain #future будущий результат} гонки им, в
+         * противном случае, если участник завершился исключением последним, — этим исключением.
+         *
+         * @param object объект, полученный участником.
+         * @param failure исключение, возникшее у участника.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract(value = "_, _ -> _", impact = Contract.Impact.INTERNAL)
+        protected void settle(final @Nullable T object, final @Nullable Throwable failure) {
+            if (failure == null) future.complete(object);
+            else if (remaining.decrementAndGet() == 0)
+                future.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null ?
+                                             failure.getCause() : failure);
+        }
+
+    }
+
 }
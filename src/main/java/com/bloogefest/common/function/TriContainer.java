@@ -7,6 +7,7 @@
 package com.bloogefest.common.function;
 
 import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
 import com.bloogefest.annotation.NonNull;
 import com.bloogefest.annotation.Nullable;
 import com.bloogefest.common.validation.NullException;
@@ -14,13 +15,17 @@ import com.bloogefest.common.validation.Validator;
 
 /**
  * Контейнер трёх объектов — это функциональный инструмент, способный содержать три объекта. Он предоставляет методы для
- * получения их контейнеров ({@linkplain #first()}, {@linkplain #second()}, {@linkplain #third()}).
+ * получения их контейнеров ({@linkplain #first()}, {@linkplain #second()}, {@linkplain #third()}), совместной
+ * установки ({@linkplain #setAll(Object, Object, Object)},
+ * {@linkplain #compareAndSetAll(Object, Object, Object, Object, Object, Object)}) и копирования
+ * ({@linkplain #snapshot()}).
  *
  * @param <T1> тип первого объекта.
  * @param <T2> тип второго объекта.
  * @param <T3> тип третьего объекта.
  *
  * @see Impl
+ * @see LockFree
  * @see #without()
  * @see #withFirst(Object)
  * @see #withSecond(Object)
@@ -36,6 +41,7 @@ import com.bloogefest.common.validation.Validator;
  * @see #autoSecondAndThird(Object, Object, Object)
  * @see #autoFirstAndThird(Object, Object, Object)
  * @see #auto(Object, Object, Object)
+ * @see #lockFree()
  * @since 4.0.0-RC2
  */
 public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
@@ -49,8 +55,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      *
      * @return Контейнер трёх несуществующих объектов.
      *
-     * @see Impl
-     * @see Impl#Impl()
+     * @see LockFree
+     * @see LockFree#LockFree()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
      * @see #withThird(Object)
@@ -69,7 +75,7 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      */
     @Contract("-> new")
     static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> without() {
-        return new Impl<T1, T2, T3>();
+        return new LockFree<T1, T2, T3>();
     }
 
     /**
@@ -83,8 +89,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * @return Контейнер переданного первого объекта и двух несуществующих объектов.
      *
      * @throws NullException исключение валидации нулевого переданного первого объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withSecond(Object)
      * @see #withThird(Object)
@@ -103,7 +109,7 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> withFirst(final @NonNull T1 object) throws NullException {
-        return new Impl<T1, T2, T3>(Container.with(object), Container.without(), Container.without());
+        return new LockFree<T1, T2, T3>(object, true, null, false, null, false);
     }
 
     /**
@@ -117,8 +123,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * @return Контейнер двух несуществующих объектов и переданного второго объекта.
      *
      * @throws NullException исключение валидации нулевого переданного второго объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withThird(Object)
@@ -137,7 +143,7 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> withSecond(final @NonNull T2 object) throws NullException {
-        return new Impl<T1, T2, T3>(Container.without(), Container.with(object), Container.without());
+        return new LockFree<T1, T2, T3>(null, false, object, true, null, false);
     }
 
     /**
@@ -151,8 +157,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * @return Контейнер двух несуществующих объектов и переданного третьего объекта.
      *
      * @throws NullException исключение валидации нулевого переданного третьего объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -171,7 +177,7 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> withThird(final @NonNull T3 object) throws NullException {
-        return new Impl<T1, T2, T3>(Container.without(), Container.without(), Container.with(object));
+        return new LockFree<T1, T2, T3>(null, false, null, false, object, true);
     }
 
     /**
@@ -186,8 +192,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * @return Контейнер переданного первого и второго объектов и несуществующего объекта.
      *
      * @throws NullException исключение валидации нулевого переданного первого или второго объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -207,7 +213,7 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
     @Contract("!null, !null -> new; _, _ -> fail")
     static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> withFirstAndSecond(final @NonNull T1 first,
                                                                              final @NonNull T2 second) throws NullException {
-        return new Impl<T1, T2, T3>(Container.with(first), Container.with(second), Container.without());
+        return new LockFree<T1, T2, T3>(first, true, second, true, null, false);
     }
 
     /**
@@ -222,8 +228,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * @return Контейнер переданного второго и третьего объектов и несуществующего объекта.
      *
      * @throws NullException исключение валидации нулевого переданного второго или третьего объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -243,7 +249,7 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
     @Contract("!null, !null -> new; _, _ -> fail")
     static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> withSecondAndThird(final @NonNull T2 second,
                                                                              final @NonNull T3 third) throws NullException {
-        return new Impl<T1, T2, T3>(Container.without(), Container.with(second), Container.with(third));
+        return new LockFree<T1, T2, T3>(null, false, second, true, third, true);
     }
 
     /**
@@ -258,8 +264,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * @return Контейнер переданного первого и третьего объектов и несуществующего объекта.
      *
      * @throws NullException исключение валидации нулевого переданного первого или третьего объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -279,7 +285,7 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
     @Contract("!null, !null -> new; _, _ -> fail")
     static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> withFirstAndThird(final @NonNull T1 first,
                                                                             final @NonNull T3 third) throws NullException {
-        return new Impl<T1, T2, T3>(Container.with(first), Container.without(), Container.with(third));
+        return new LockFree<T1, T2, T3>(first, true, null, false, third, true);
     }
 
     /**
@@ -295,8 +301,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * @return Контейнер переданного первого и второго объектов.
      *
      * @throws NullException исключение валидации нулевого переданного первого или второго объекта.
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -316,7 +322,7 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
     @Contract("!null, !null, !null -> new; _, _, _ -> fail")
     static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> with(final @NonNull T1 first, final @NonNull T2 second,
                                                                final @NonNull T3 third) throws NullException {
-        return new Impl<>(Container.with(first), Container.with(second), Container.with(third));
+        return new LockFree<>(first, second, third);
     }
 
     /**
@@ -343,8 +349,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * второго и третьего объектов).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -391,8 +397,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * контейнера несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -439,8 +445,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * контейнера несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -499,8 +505,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * переданного третьего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -561,8 +567,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -623,8 +629,8 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * переданного второго объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -707,9 +713,9 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * {@linkplain Impl#Impl() интегрированную реализацию контейнера на основе трёх контейнеров несуществующего
      * объекта}.
      *
-     * @see Impl
-     * @see Impl#Impl()
-     * @see Impl#Impl(Container, Container, Container)
+     * @see LockFree
+     * @see LockFree#LockFree()
+     * @see LockFree#LockFree(Object, boolean, Object, boolean, Object, boolean)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -736,6 +742,83 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
                third != null ? withThird(third) : without();
     }
 
+    /**
+     * Создаёт и возвращает неблокирующий контейнер трёх несуществующих объектов.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     * @param <T3> тип третьего объекта.
+     *
+     * @return Неблокирующий контейнер трёх несуществующих объектов.
+     *
+     * @see LockFree
+     * @see #lockFree(Object, Object, Object)
+     * @see #lockFree(Object, boolean, Object, boolean, Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> lockFree() {
+        return new LockFree<>();
+    }
+
+    /**
+     * Создаёт и возвращает неблокирующий контейнер переданного первого, второго и третьего объектов.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     * @param <T3> тип третьего объекта.
+     * @param first первый объект.
+     * @param second второй объект.
+     * @param third третий объект.
+     *
+     * @return Неблокирующий контейнер переданного первого, второго и третьего объектов.
+     *
+     * @see LockFree
+     * @see #lockFree()
+     * @see #lockFree(Object, boolean, Object, boolean, Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("_, _, _ -> new")
+    static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> lockFree(final @Nullable T1 first,
+                                                                   final @Nullable T2 second,
+                                                                   final @Nullable T3 third) {
+        return new LockFree<>(first, second, third);
+    }
+
+    /**
+     * Создаёт и возвращает неблокирующий контейнер переданного первого, второго и третьего объектов на основе
+     * переданных параметров их существования.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     * @param <T3> тип третьего объекта.
+     * @param first первый объект.
+     * @param containsFirst параметр существования первого объекта.
+     * @param second второй объект.
+     * @param containsSecond параметр существования второго объекта.
+     * @param third третий объект.
+     * @param containsThird параметр существования третьего объекта.
+     *
+     * @return Неблокирующий контейнер переданных или несуществующих первого, второго и третьего объектов.
+     *
+     * @see LockFree
+     * @see #lockFree()
+     * @see #lockFree(Object, Object, Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("_, _, _, _, _, _ -> new")
+    static <T1, T2, T3> @NonNull TriContainer<T1, T2, T3> lockFree(final @Nullable T1 first,
+                                                                   final boolean containsFirst,
+                                                                   final @Nullable T2 second,
+                                                                   final boolean containsSecond,
+                                                                   final @Nullable T3 third,
+                                                                   final boolean containsThird) {
+        return new LockFree<>(first, containsFirst, second, containsSecond, third, containsThird);
+    }
+
     /**
      * Возвращает контейнер текущего третьего объекта.
      *
@@ -746,6 +829,58 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
     @Contract("-> !null")
     @NonNull Container<T3> third();
 
+    /**
+     * Атомарно устанавливает переданные первый, второй и третий объекты. Возвращает текущий контейнер переданных
+     * объектов.
+     *
+     * @param first первый объект.
+     * @param second второй объект.
+     * @param third третий объект.
+     *
+     * @return Текущий контейнер переданных объектов.
+     *
+     * @see #compareAndSetAll(Object, Object, Object, Object, Object, Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract(value = "_, _, _ -> this", impact = Contract.Impact.INTERNAL)
+    @NonNull TriContainer<T1, T2, T3> setAll(final @Nullable T1 first, final @Nullable T2 second,
+                                             final @Nullable T3 third);
+
+    /**
+     * Если текущие первый, второй и третий объекты существуют и идентичны ожидаемым, то атомарно устанавливает
+     * переданные первый, второй и третий объекты и возвращает истину, в противном случае — ложь.
+     *
+     * @param expectedFirst ожидаемый первый объект.
+     * @param expectedSecond ожидаемый второй объект.
+     * @param expectedThird ожидаемый третий объект.
+     * @param first первый объект.
+     * @param second второй объект.
+     * @param third третий объект.
+     *
+     * @return Параметр успешности установки переданных объектов.
+     *
+     * @see #setAll(Object, Object, Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    @Contract(value = "_, _, _, _, _, _ -> _", impact = Contract.Impact.INTERNAL)
+    boolean compareAndSetAll(final @Nullable T1 expectedFirst, final @Nullable T2 expectedSecond,
+                             final @Nullable T3 expectedThird, final @Nullable T1 first, final @Nullable T2 second,
+                             final @Nullable T3 third);
+
+    /**
+     * Создаёт и возвращает независимый контейнер, содержащий согласованную копию текущих объектов.
+     *
+     * @return Независимый контейнер копии текущих объектов.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Override
+    @Experimental(from = "4.0.0-RC5")
+    @Contract("-> new")
+    @NonNull TriContainer<T1, T2, T3> snapshot();
+
     /**
      * Интегрированная реализация контейнера трёх объектов.
      *
@@ -753,6 +888,10 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
      * @param <T2> тип второго объекта.
      * @param <T3> тип третьего объекта.
      *
+     * @implNote Составные операции над объектами выполняются под {@linkplain #lock инструментом для управления
+     * доступом} и атомарны относительно друг друга, но не относительно прямых изменений переданных контейнеров;
+     * атомарность относительно них обеспечивает {@linkplain TriContainer.LockFree неблокирующая реализация контейнера
+     * трёх объектов}, создаваемая фабричными методами.
      * @see TriContainer
      * @see #Impl()
      * @see #Impl(Container, Container, Container)
@@ -810,6 +949,263 @@ public interface TriContainer<T1, T2, T3> extends BiContainer<T1, T2> {
             return third;
         }
 
+        /**
+         * Устанавливает переданные первый, второй и третий объекты в {@linkplain #first контейнер текущего первого
+         * объекта}, {@linkplain #second контейнер текущего второго объекта} и {@linkplain #third контейнер текущего
+         * третьего объекта}. Возвращает текущий контейнер переданных объектов.
+         *
+         * @param first первый объект.
+         * @param second второй объект.
+         * @param third третий объект.
+         *
+         * @return Текущий контейнер переданных объектов.
+         *
+         * @implNote Объекты устанавливаются под блокировкой записи {@linkplain #lock инструмента для управления
+         * доступом}.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _, _ -> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull TriContainer<T1, T2, T3> setAll(final @Nullable T1 first, final @Nullable T2 second,
+                                                        final @Nullable T3 third) {
+            final var stamp = lock.writeLock();
+            try {
+                this.first.set(first);
+                this.second.set(second);
+                this.third.set(third);
+                return this;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Если текущие первый, второй и третий объекты существуют и идентичны ожидаемым, то устанавливает переданные
+         * первый, второй и третий объекты и возвращает истину, в противном случае — ложь.
+         *
+         * @param expectedFirst ожидаемый первый объект.
+         * @param expectedSecond ожидаемый второй объект.
+         * @param expectedThird ожидаемый третий объект.
+         * @param first первый объект.
+         * @param second второй объект.
+         * @param third третий объект.
+         *
+         * @return Параметр успешности установки переданных объектов.
+         *
+         * @implNote Сравнение и установка выполняются под одной блокировкой записи {@linkplain #lock инструмента для
+         * управления доступом}.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _, _, _, _, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSetAll(final @Nullable T1 expectedFirst, final @Nullable T2 expectedSecond,
+                                        final @Nullable T3 expectedThird, final @Nullable T1 first,
+                                        final @Nullable T2 second, final @Nullable T3 third) {
+            final var stamp = lock.writeLock();
+            try {
+                if (!matches(this.first, expectedFirst) || !matches(this.second, expectedSecond) ||
+                    !matches(this.third, expectedThird)) return false;
+                this.first.set(first);
+                this.second.set(second);
+                this.third.set(third);
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Создаёт и возвращает интегрированную реализацию контейнера трёх объектов на основе копий
+         * {@linkplain #first контейнера текущего первого объекта}, {@linkplain #second контейнера текущего второго
+         * объекта} и {@linkplain #third контейнера текущего третьего объекта}.
+         *
+         * @return Независимый контейнер копии текущих объектов.
+         *
+         * @implNote Контейнеры копируются под блокировкой чтения {@linkplain #lock инструмента для управления
+         * доступом}.
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> new")
+        public @NonNull TriContainer<T1, T2, T3> snapshot() {
+            final var stamp = lock.readLock();
+            try {
+                return new TriContainer.Impl<>(copy(first), copy(second), copy(third));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+    }
+
+    /**
+     * Неблокирующая реализация контейнера трёх объектов. Хранит текущие объекты или
+     * {@linkplain #ABSENT маркеры несуществующего объекта} в неизменяемом массиве {@linkplain #state текущего
+     * состояния}, который при каждом изменении заменяется новым через сравнение с обменом, поэтому объекты всегда
+     * публикуются и наблюдаются согласованно.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     * @param <T3> тип третьего объекта.
+     *
+     * @implNote Реализация расширяет
+     * {@linkplain BiContainer.LockFree неблокирующую реализацию контейнера двух объектов} третьим элементом текущего
+     * состояния.
+     * @see TriContainer
+     * @see #LockFree()
+     * @see #LockFree(Object, Object, Object)
+     * @see #LockFree(Object, boolean, Object, boolean, Object, boolean)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    class LockFree<T1, T2, T3> extends BiContainer.LockFree<T1, T2> implements TriContainer<T1, T2, T3> {
+
+        /**
+         * Контейнер текущего третьего объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @NonNull Container<T3> third = new Slot<>(this, 2);
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера трёх несуществующих объектов.
+         *
+         * @see #LockFree(Object, Object, Object)
+         * @see #LockFree(Object, boolean, Object, boolean, Object, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("-> new")
+        public LockFree() {
+            this(null, false, null, false, null, false);
+        }
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера переданного первого, второго и третьего объектов.
+         *
+         * @param first первый объект.
+         * @param second второй объект.
+         * @param third третий объект.
+         *
+         * @see #LockFree()
+         * @see #LockFree(Object, boolean, Object, boolean, Object, boolean)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _, _ -> new")
+        public LockFree(final @Nullable T1 first, final @Nullable T2 second, final @Nullable T3 third) {
+            this(first, true, second, true, third, true);
+        }
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера переданного первого, второго и третьего объектов на основе
+         * переданных параметров их существования.
+         *
+         * @param first первый объект.
+         * @param containsFirst параметр существования первого объекта.
+         * @param second второй объект.
+         * @param containsSecond параметр существования второго объекта.
+         * @param third третий объект.
+         * @param containsThird параметр существования третьего объекта.
+         *
+         * @see #LockFree()
+         * @see #LockFree(Object, Object, Object)
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _, _, _, _, _ -> new")
+        public LockFree(final @Nullable T1 first, final boolean containsFirst, final @Nullable T2 second,
+                        final boolean containsSecond, final @Nullable T3 third, final boolean containsThird) {
+            this(new Object[]{containsFirst ? first : ABSENT, containsSecond ? second : ABSENT,
+                              containsThird ? third : ABSENT});
+        }
+
+        /**
+         * Создаёт неблокирующую реализацию контейнера трёх объектов на основе переданного текущего состояния.
+         *
+         * @param state текущее состояние, которое не должно изменяться после передачи.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        protected LockFree(final @Nullable Object @NonNull [] state) {
+            super(state);
+        }
+
+        /**
+         * Возвращает {@linkplain #third контейнер текущего третьего объекта}.
+         *
+         * @return {@linkplain #third Контейнер текущего третьего объекта}.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> const")
+        public @NonNull Container<T3> third() {
+            return third;
+        }
+
+        /**
+         * Устанавливает переданные первый, второй и третий объекты одной заменой {@linkplain #state текущего
+         * состояния}. Возвращает текущий контейнер переданных объектов.
+         *
+         * @param first первый объект.
+         * @param second второй объект.
+         * @param third третий объект.
+         *
+         * @return Текущий контейнер переданных объектов.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _, _ -> this", impact = Contract.Impact.INTERNAL)
+        public @NonNull TriContainer<T1, T2, T3> setAll(final @Nullable T1 first, final @Nullable T2 second,
+                                                        final @Nullable T3 third) {
+            STATE.setRelease(this, new Object[]{first, second, third});
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #state текущее состояние} содержит первый, второй и третий объекты, идентичные ожидаемым,
+         * то устанавливает переданные первый, второй и третий объекты одной его заменой и возвращает истину, в
+         * противном случае — ложь.
+         *
+         * @param expectedFirst ожидаемый первый объект.
+         * @param expectedSecond ожидаемый второй объект.
+         * @param expectedThird ожидаемый третий объект.
+         * @param first первый объект.
+         * @param second второй объект.
+         * @param third третий объект.
+         *
+         * @return Параметр успешности установки переданных объектов.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract(value = "_, _, _, _, _, _ -> _", impact = Contract.Impact.INTERNAL)
+        public boolean compareAndSetAll(final @Nullable T1 expectedFirst, final @Nullable T2 expectedSecond,
+                                        final @Nullable T3 expectedThird, final @Nullable T1 first,
+                                        final @Nullable T2 second, final @Nullable T3 third) {
+            final var next = new Object[]{first, second, third};
+            Object[] state;
+            do {
+                state = acquire();
+                if (state[0] != expectedFirst || state[1] != expectedSecond || state[2] != expectedThird) return false;
+            } while (!STATE.compareAndSet(this, state, next));
+            return true;
+        }
+
+        /**
+         * Создаёт и возвращает неблокирующую реализацию контейнера трёх объектов, разделяющую с текущим контейнером
+         * неизменяемое {@linkplain #state текущее состояние}.
+         *
+         * @return Независимый контейнер копии текущих объектов.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> new")
+        public @NonNull TriContainer<T1, T2, T3> snapshot() {
+            return new TriContainer.LockFree<>(acquire());
+        }
+
     }
 
 }
@@ -7,6 +7,7 @@
 package com.bloogefest.common.function;
 
 import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
 import com.bloogefest.annotation.NonNull;
 import com.bloogefest.annotation.Nullable;
 import com.bloogefest.common.validation.NullException;
@@ -21,6 +22,7 @@ import com.bloogefest.common.validation.Validator;
  * @param <T3> тип третьего объекта.
  *
  * @see Impl
+ * @see Flat
  * @see #without()
  * @see #withFirst(Object)
  * @see #withSecond(Object)
@@ -41,19 +43,16 @@ import com.bloogefest.common.validation.Validator;
 public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl() интегрированную реализацию обёртки трёх объектов на основе трёх обёрток несуществующего
-     * объекта}.
+     * Возвращает {@linkplain Flat#WITHOUT общую компактную реализацию обёртки трёх несуществующих объектов}.
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param <T3> тип третьего объекта.
      *
-     * @return {@linkplain Impl#Impl() Интегрированную реализацию обёртки трёх объектов на основе трёх обёрток
-     * несуществующего объекта}.
+     * @return {@linkplain Flat#WITHOUT Общая компактная реализация обёртки трёх несуществующих объектов}.
      *
-     * @see Impl
-     * @see Impl#Impl()
+     * @see Flat
+     * @see Flat#WITHOUT
      * @see #withFirst(Object)
      * @see #withSecond(Object)
      * @see #withThird(Object)
@@ -70,29 +69,27 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @see #auto(Object, Object, Object)
      * @since 4.0.0-RC3
      */
-    @Contract("-> new")
+    @Contract("-> const")
+    @SuppressWarnings("unchecked")
     static <T1, T2, T3> @NonNull TriOptional<T1, T2, T3> without() {
-        return new Impl<T1, T2, T3>();
+        return (TriOptional<T1, T2, T3>) Flat.WITHOUT;
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки переданного первого объекта и двух обёрток несуществующего
-     * объекта).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов}
+     * (переданного первого объекта и двух несуществующих объектов).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param <T3> тип третьего объекта.
      * @param object первый объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёртки переданного первого объекта и двух обёрток
-     * несуществующего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого объекта и двух несуществующих объектов).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withSecond(Object)
      * @see #withThird(Object)
@@ -111,27 +108,24 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2, T3> @NonNull TriOptional<T1, T2, T3> withFirst(final @NonNull T1 object) throws NullException {
-        return new Impl<T1, T2, T3>(Optional.with(object), Optional.without(), Optional.without());
+        return new Flat<>(Validator.notNull(object, "The passed first object"), null, null);
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного второго
-     * объекта).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов}
+     * (двух несуществующих объектов и переданного второго объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param <T3> тип третьего объекта.
      * @param object второй объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки
-     * переданного второго объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (двух
+     * несуществующих объектов и переданного второго объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withThird(Object)
@@ -150,27 +144,24 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2, T3> @NonNull TriOptional<T1, T2, T3> withSecond(final @NonNull T2 object) throws NullException {
-        return new Impl<T1, T2, T3>(Optional.without(), Optional.with(object), Optional.without());
+        return new Flat<>(null, Validator.notNull(object, "The passed second object"), null);
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного
-     * третьего объекта).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов}
+     * (двух несуществующих объектов и переданного третьего объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
      * @param <T3> тип третьего объекта.
      * @param object третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки
-     * переданного третьего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (двух
+     * несуществующих объектов и переданного третьего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -189,14 +180,12 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      */
     @Contract("!null -> new; _ -> fail")
     static <T1, T2, T3> @NonNull TriOptional<T1, T2, T3> withThird(final @NonNull T3 object) throws NullException {
-        return new Impl<T1, T2, T3>(Optional.without(), Optional.without(), Optional.with(object));
+        return new Flat<>(null, null, Validator.notNull(object, "The passed third object"));
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и обёртки
-     * несуществующего объекта).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов}
+     * (переданного первого и второго объектов и несуществующего объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -204,13 +193,12 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param first первый объект.
      * @param second второй объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и
-     * обёртки несуществующего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого и второго объектов и несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -230,14 +218,13 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
     @Contract("!null, !null -> new; _, _ -> fail")
     static <T1, T2, T3> @NonNull TriOptional<T1, T2, T3> withFirstAndSecond(final @NonNull T1 first,
                                                                             final @NonNull T2 second) throws NullException {
-        return new Impl<T1, T2, T3>(Optional.with(first), Optional.with(second), Optional.without());
+        return new Flat<>(Validator.notNull(first, "The passed first object"),
+                          Validator.notNull(second, "The passed second object"), null);
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного второго и третьего объектов и обёртки
-     * несуществующего объекта).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов}
+     * (переданного второго и третьего объектов и несуществующего объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -245,13 +232,12 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param second второй объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного второго и третьего объектов и
-     * обёртки несуществующего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * второго и третьего объектов и несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -271,14 +257,13 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
     @Contract("!null, !null -> new; _, _ -> fail")
     static <T1, T2, T3> @NonNull TriOptional<T1, T2, T3> withSecondAndThird(final @NonNull T2 second,
                                                                             final @NonNull T3 third) throws NullException {
-        return new Impl<T1, T2, T3>(Optional.without(), Optional.with(second), Optional.with(third));
+        return new Flat<>(null, Validator.notNull(second, "The passed second object"),
+                          Validator.notNull(third, "The passed third object"));
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и обёртки
-     * несуществующего объекта).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов}
+     * (переданного первого и третьего объектов и несуществующего объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -286,13 +271,12 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param first первый объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и
-     * обёртки несуществующего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого и третьего объектов и несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -312,13 +296,13 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
     @Contract("!null, !null -> new; _, _ -> fail")
     static <T1, T2, T3> @NonNull TriOptional<T1, T2, T3> withFirstAndThird(final @NonNull T1 first,
                                                                            final @NonNull T3 third) throws NullException {
-        return new Impl<T1, T2, T3>(Optional.with(first), Optional.without(), Optional.with(third));
+        return new Flat<>(Validator.notNull(first, "The passed first object"), null,
+                          Validator.notNull(third, "The passed third object"));
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего объектов).
+     * Создаёт и возвращает {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов}
+     * (переданного первого, второго и третьего объектов).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -327,12 +311,11 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param second второй объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки трёх объектов на
-     * основе переданных обёрток первого и второго объекта)}.
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов}.
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -352,17 +335,16 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
     @Contract("!null, !null, !null -> new; _, _, _ -> fail")
     static <T1, T2, T3> @NonNull TriOptional<T1, T2, T3> with(final @NonNull T1 first, final @NonNull T2 second,
                                                               final @NonNull T3 third) throws NullException {
-        return new Impl<>(Optional.with(first), Optional.with(second), Optional.with(third));
+        return new Flat<>(Validator.notNull(first, "The passed first object"),
+                          Validator.notNull(second, "The passed second object"),
+                          Validator.notNull(third, "The passed third object"));
     }
 
     /**
      * Если переданный первый объект ненулевой, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего объектов), в
-     * противном случае —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки несуществующего объекта и обёрток переданного второго и
-     * третьего объектов).
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого,
+     * второго и третьего объектов), в противном случае — {@linkplain Flat#Flat(Object, Object, Object) компактную
+     * реализацию обёртки трёх объектов} (несуществующего объекта и переданного второго и третьего объектов).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -371,16 +353,13 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param second второй объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего
-     * объектов) или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки несуществующего объекта и обёрток переданного второго и
-     * третьего объектов).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого, второго и третьего объектов) или {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию
+     * обёртки трёх объектов} (несуществующего объекта и переданного второго и третьего объектов).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -405,12 +384,9 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
 
     /**
      * Если переданный второй объект ненулевой, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего объектов), в
-     * противном случае —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и обёртки
-     * несуществующего объекта).
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого,
+     * второго и третьего объектов), в противном случае — {@linkplain Flat#Flat(Object, Object, Object) компактную
+     * реализацию обёртки трёх объектов} (переданного первого и третьего объектов и несуществующего объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -419,16 +395,13 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param second второй объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего
-     * объектов) или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и обёртки
-     * несуществующего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого, второго и третьего объектов) или {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию
+     * обёртки трёх объектов} (переданного первого и третьего объектов и несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -453,12 +426,9 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
 
     /**
      * Если переданный третий объект ненулевой, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего объектов), в
-     * противном случае —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и обёртки
-     * несуществующего объекта).
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого,
+     * второго и третьего объектов), в противном случае — {@linkplain Flat#Flat(Object, Object, Object) компактную
+     * реализацию обёртки трёх объектов} (переданного первого и второго объектов и несуществующего объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -467,16 +437,13 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param second второй объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего
-     * объектов) или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и обёртки
-     * несуществующего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого, второго и третьего объектов) или {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию
+     * обёртки трёх объектов} (переданного первого и второго объектов и несуществующего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -501,18 +468,14 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
 
     /**
      * Если переданный первый и второй объекты ненулевые, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего объектов), в
-     * противном случае если только переданный первый объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и обёртки
-     * несуществующего объекта), в противном случае если только переданный второй объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки несуществующего объекта и обёрток переданного второго и
-     * третьего объектов), в противном случае —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного
-     * третьего объекта).
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого,
+     * второго и третьего объектов), в противном случае если только переданный первый объект ненулевой, то —
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого и
+     * третьего объектов и несуществующего объекта), в противном случае если только переданный второй объект ненулевой,
+     * то — {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (несуществующего
+     * объекта и переданного второго и третьего объектов), в противном случае —
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (двух несуществующих
+     * объектов и переданного третьего объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -521,22 +484,16 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param second второй объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего
-     * объектов), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и обёртки
-     * несуществующего объекта), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки несуществующего объекта и обёрток переданного второго и
-     * третьего объектов), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного
-     * третьего объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого, второго и третьего объектов), или {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию
+     * обёртки трёх объектов} (переданного первого и третьего объектов и несуществующего объекта), или
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (несуществующего
+     * объекта и переданного второго и третьего объектов), или {@linkplain Flat#Flat(Object, Object, Object) компактную
+     * реализацию обёртки трёх объектов} (двух несуществующих объектов и переданного третьего объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -563,18 +520,14 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
 
     /**
      * Если переданный второй и третий объекты ненулевые, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего объектов), в
-     * противном случае если только переданный второй объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и обёртки
-     * несуществующего объекта), в противном случае если только переданный третий объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и обёртки
-     * несуществующего объекта), в противном случае —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки переданного первого объекта и двух обёрток несуществующего
-     * объекта).
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого,
+     * второго и третьего объектов), в противном случае если только переданный второй объект ненулевой, то —
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого и
+     * второго объектов и несуществующего объекта), в противном случае если только переданный третий объект ненулевой,
+     * то — {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного
+     * первого и третьего объектов и несуществующего объекта), в противном случае —
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого
+     * объекта и двух несуществующих объектов).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -583,22 +536,16 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param second второй объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего
-     * объектов), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и обёртки
-     * несуществующего объекта), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и обёртки
-     * несуществующего объекта), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки переданного первого объекта и двух обёрток несуществующего
-     * объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого, второго и третьего объектов), или {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию
+     * обёртки трёх объектов} (переданного первого и второго объектов и несуществующего объекта), или
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого и
+     * третьего объектов и несуществующего объекта), или {@linkplain Flat#Flat(Object, Object, Object) компактную
+     * реализацию обёртки трёх объектов} (переданного первого объекта и двух несуществующих объектов).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного второго или третьего объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -625,18 +572,14 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
 
     /**
      * Если переданный первый и третий объекты ненулевые, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего объектов), в
-     * противном случае если только переданный первый объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и обёртки
-     * несуществующего объекта), в противном случае если только переданный третий объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки несуществующего объекта и обёрток переданного второго и
-     * третьего объектов), в противном случае —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного второго
-     * объекта).
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого,
+     * второго и третьего объектов), в противном случае если только переданный первый объект ненулевой, то —
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого и
+     * второго объектов и несуществующего объекта), в противном случае если только переданный третий объект ненулевой,
+     * то — {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (несуществующего
+     * объекта и переданного второго и третьего объектов), в противном случае —
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (двух несуществующих
+     * объектов и переданного второго объекта).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -645,22 +588,16 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param second второй объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего
-     * объектов), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и обёртки
-     * несуществующего объекта), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки несуществующего объекта и обёрток переданного второго и
-     * третьего объектов), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного второго
-     * объекта).
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого, второго и третьего объектов), или {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию
+     * обёртки трёх объектов} (переданного первого и второго объектов и несуществующего объекта), или
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (несуществующего
+     * объекта и переданного второго и третьего объектов), или {@linkplain Flat#Flat(Object, Object, Object) компактную
+     * реализацию обёртки трёх объектов} (двух несуществующих объектов и переданного второго объекта).
      *
      * @throws NullException исключение валидации нулевого объекта (переданного первого или второго объекта).
-     * @see Impl
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -686,29 +623,23 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
     }
 
     /**
-     * Если переданный первый, второй и третий объекты ненулевые, то создаёт и возвращает
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего объектов), в
-     * противном случае если только переданный первый и второй объекты ненулевые, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и обёртки
+     * Если переданный первый, второй и третий объекты ненулевые, то создаёт и возвращает {@linkplain Flat#Flat(Object,
+     * Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого, второго и третьего объектов),
+     * в противном случае если только переданный первый и второй объекты ненулевые, то — {@linkplain Flat#Flat(Object,
+     * Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого и второго объектов и
      * несуществующего объекта), в противном случае если только переданный первый и третий объекты ненулевые, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и обёртки
-     * несуществующего объекта), в противном случае если только переданный первый объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки переданного первого и двух обёрток несуществующего
-     * объекта), в противном случае если только переданный второй и третий объекты ненулевые, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки несуществующего объекта и обёрток переданного второго и
-     * третьего объектов), в противном случае если только переданный второй объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного второго
-     * объекта), в противном случае если только переданный третий объект ненулевой, то —
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного
-     * третьего объекта), в противном случае —
-     * {@linkplain Impl#Impl() интегрированную реализацию обёртки на основе трёх обёрток несуществующего объекта}.
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого и
+     * третьего объектов и несуществующего объекта), в противном случае если только переданный первый объект ненулевой,
+     * то — {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного
+     * первого объекта и двух несуществующих объектов), в противном случае если только переданный второй и третий
+     * объекты ненулевые, то — {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх
+     * объектов} (несуществующего объекта и переданного второго и третьего объектов), в противном случае если только
+     * переданный второй объект ненулевой, то — {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию
+     * обёртки трёх объектов} (двух несуществующих объектов и переданного второго объекта), в противном случае если
+     * только переданный третий объект ненулевой, то — {@linkplain Flat#Flat(Object, Object, Object) компактную
+     * реализацию обёртки трёх объектов} (двух несуществующих объектов и переданного третьего объекта), в противном
+     * случае — {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (трёх
+     * несуществующих объектов).
      *
      * @param <T1> тип первого объекта.
      * @param <T2> тип второго объекта.
@@ -717,32 +648,21 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
      * @param second второй объект.
      * @param third третий объект.
      *
-     * @return {@linkplain Impl#Impl(Optional, Optional, Optional) Интегрированную реализацию обёртки на основе
-     * переданных обёрток первого, второго и третьего объектов} (обёрток переданного первого, второго и третьего
-     * объектов), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и второго объектов и обёртки
-     * несуществующего объекта), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёрток переданного первого и третьего объектов и обёртки
-     * несуществующего объекта), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки переданного первого и двух обёрток несуществующего
-     * объекта), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (обёртки несуществующего объекта и обёрток переданного второго и
-     * третьего объектов), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного второго
-     * объекта), или
-     * {@linkplain Impl#Impl(Optional, Optional, Optional) интегрированную реализацию обёртки на основе переданных
-     * обёрток первого, второго и третьего объектов} (двух обёрток несуществующего объекта и обёртки переданного
-     * третьего объекта), или
-     * {@linkplain Impl#Impl() интегрированную реализацию обёртки на основе трёх обёрток несуществующего объекта}.
-     *
-     * @see Impl
-     * @see Impl#Impl()
-     * @see Impl#Impl(Optional, Optional, Optional)
+     * @return {@linkplain Flat#Flat(Object, Object, Object) Компактную реализацию обёртки трёх объектов} (переданного
+     * первого, второго и третьего объектов), или {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию
+     * обёртки трёх объектов} (переданного первого и второго объектов и несуществующего объекта), или
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (переданного первого и
+     * третьего объектов и несуществующего объекта), или {@linkplain Flat#Flat(Object, Object, Object) компактную
+     * реализацию обёртки трёх объектов} (переданного первого объекта и двух несуществующих объектов), или
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (несуществующего
+     * объекта и переданного второго и третьего объектов), или {@linkplain Flat#Flat(Object, Object, Object) компактную
+     * реализацию обёртки трёх объектов} (двух несуществующих объектов и переданного второго объекта), или
+     * {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию обёртки трёх объектов} (двух несуществующих
+     * объектов и переданного третьего объекта), или {@linkplain Flat#Flat(Object, Object, Object) компактную реализацию
+     * обёртки трёх объектов} (трёх несуществующих объектов).
+     *
+     * @see Flat
+     * @see Flat#Flat(Object, Object, Object)
      * @see #without()
      * @see #withFirst(Object)
      * @see #withSecond(Object)
@@ -844,4 +764,68 @@ public interface TriOptional<T1, T2, T3> extends BiOptional<T1, T2> {
 
     }
 
+    /**
+     * Компактная реализация обёртки трёх объектов. Хранит текущие объекты непосредственно в своих полях и создаёт их
+     * обёртки только при обращении к ним, поэтому занимает один объект вместо четырёх.
+     *
+     * @param <T1> тип первого объекта.
+     * @param <T2> тип второго объекта.
+     * @param <T3> тип третьего объекта.
+     *
+     * @implNote Реализация расширяет {@linkplain BiOptional.Flat компактную реализацию обёртки двух объектов} полем
+     * третьего объекта.
+     * @see TriOptional
+     * @see TriOptional.Impl
+     * @see #Flat(Object, Object, Object)
+     * @since 4.0.0-RC5
+     */
+    @Experimental(from = "4.0.0-RC5")
+    class Flat<T1, T2, T3> extends BiOptional.Flat<T1, T2> implements TriOptional<T1, T2, T3> {
+
+        /**
+         * Общая компактная реализация обёртки трёх несуществующих объектов.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected static final @NonNull TriOptional.Flat<?, ?, ?> WITHOUT = new TriOptional.Flat<>(null, null, null);
+
+        /**
+         * Текущий третий объект или нулевой, если он не существует.
+         *
+         * @since 4.0.0-RC5
+         */
+        protected final @Nullable T3 third;
+
+        /**
+         * Создаёт компактную реализацию обёртки трёх объектов на основе переданных первого, второго и третьего
+         * объектов. Нулевой объект считается несуществующим.
+         *
+         * @param first первый или нулевой объект.
+         * @param second второй или нулевой объект.
+         * @param third третий или нулевой объект.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_, _, _ -> new")
+        public Flat(final @Nullable T1 first, final @Nullable T2 second, final @Nullable T3 third) {
+            super(first, second);
+            this.third = third;
+        }
+
+        /**
+         * Если {@linkplain #third текущий третий объект} существует, то создаёт и возвращает его обёртку, в противном
+         * случае — обёртку несуществующего объекта.
+         *
+         * @return Обёртка текущего третьего объекта.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Override
+        @Contract("-> !null")
+        public @NonNull Optional<T3> third() {
+            return third != null ? new Optional.With<>(third) : Optional.without();
+        }
+
+    }
+
 }
@@ -0,0 +1,131 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.common.creation.UtilityException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Виртуальные потоки — это класс-утилита. Предоставляет исполнитель блокирующих стадий: в Java 21 и новее каждая задача
+ * выполняется в новом виртуальном потоке, в Java 17 — в общем ограниченном пуле потоков-демонов платформы. Выбор
+ * реализации выполняется многоверсионным архивом: версия этого класса для Java 21 находится в
+ * {@code META-INF/versions/21}.
+ *
+ * @see Conveyor#onVirtualThreads()
+ * @see Supplier#onVirtualThread()
+ * @since 4.0.0-RC5
+ */
+@Experimental(from = "4.0.0-RC5")
+public final class VirtualThreads {
+
+    /**
+     * Генерирует {@linkplain UtilityException исключение создания экземпляра виртуальных потоков}.
+     *
+     * @throws UtilityException исключение создания экземпляра виртуальных потоков.
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> fail", impact = Contract.Impact.INTERNAL)
+    private VirtualThreads() throws UtilityException {
+        throw UtilityException.templated("the VirtualThreads");
+    }
+
+    /**
+     * Возвращает истину, если исполнитель {@linkplain #executor()} выполняет задачи в виртуальных потоках.
+     *
+     * @return Параметр поддержки виртуальных потоков; в этой версии всегда ложный.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> false", impact = Contract.Impact.NONE)
+    public static boolean supported() {
+        return false;
+    }
+
+    /**
+     * Возвращает общий исполнитель блокирующих стадий: в этой версии — ограниченный пул потоков-демонов платформы.
+     *
+     * @return Общий исполнитель блокирующих стадий.
+     *
+     * @implNote Пул содержит не больше потоков, чем наибольшее из 64 и количества процессоров, простаивающие потоки
+     * завершаются через минуту. Задачи не накапливаются в очереди: при занятости всех потоков задача выполняется в
+     * передающем её потоке, что замедляет источник задач вместо неограниченного роста количества потоков.
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> const", impact = Contract.Impact.NONE)
+    public static @NonNull Executor executor() {
+        return Platform.EXECUTOR;
+    }
+
+    /**
+     * Держатель ограниченного пула потоков-демонов платформы, создаваемого при первом обращении.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final class Platform {
+
+        /**
+         * Наибольшее количество потоков пула: наибольшее из 64 и количества процессоров.
+         *
+         * @since 4.0.0-RC5
+         */
+        private static final int THREADS = Math.max(64, Runtime.getRuntime().availableProcessors());
+
+        /**
+         * Время простоя потока пула в секундах, после которого он завершается.
+         *
+         * @since 4.0.0-RC5
+         */
+        private static final long KEEP_ALIVE = 60;
+
+        /**
+         * Счётчик потоков пула.
+         *
+         * @since 4.0.0-RC5
+         */
+        private static final @NonNull AtomicLong COUNTER = new AtomicLong();
+
+        /**
+         * Ограниченный пул потоков-демонов платформы без очереди, выполняющий задачу в передающем потоке при
+         * занятости всех потоков.
+         *
+         * @since 4.0.0-RC5
+         */
+        private static final @NonNull ThreadPoolExecutor EXECUTOR =
+                new ThreadPoolExecutor(THREADS, THREADS, KEEP_ALIVE, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                                       Platform::thread, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        static {
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+
+        /**
+         * Создаёт поток-демон пула, выполняющий переданную задачу.
+         *
+         * @param task задача.
+         *
+         * @return Новый поток-демон пула.
+         *
+         * @since 4.0.0-RC5
+         */
+        @Contract("_ -> new")
+        private static @NonNull Thread thread(final @NonNull Runnable task) {
+            final var thread = new Thread(task, "bf-common-blocking-" + COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -31,6 +31,51 @@ public class NotEqualException extends ValidationException {
      */
     public static final @NonNull String TEMPLATE_MESSAGE = "%s must be equal";
 
+    /**
+     * Содержит шаблонное сообщение этого исключения для пары экземпляров.
+     *
+     * @since 4.0.0-RC5
+     */
+    public static final @NonNull String PAIR_TEMPLATE_MESSAGE = TEMPLATE_MESSAGE.formatted("%s and %s");
+
+    /**
+     * Создаёт экземпляр этого исключения на основе {@linkplain #TEMPLATE_MESSAGE шаблонного сообщения} и переданных
+     * аргументов, {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}. Шаблонное сообщение форматируется только при
+     * первом получении сообщения.
+     *
+     * @param arguments аргументы шаблонного сообщения.
+     *
+     * @return Новый экземпляр этого исключения.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "? -> new", impact = Contract.Impact.NONE)
+    public static @NonNull NotEqualException templated(final @Nullable Object @NonNull ... arguments) {
+        return new NotEqualException(TEMPLATE_MESSAGE, arguments, DEFAULT_CAUSE, DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+    }
+
+    /**
+     * Создаёт экземпляр этого исключения на основе {@linkplain #PAIR_TEMPLATE_MESSAGE шаблонного сообщения для пары
+     * экземпляров} и переданных имён экземпляров, {@linkplain #DEFAULT_CAUSE причины},
+     * {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
+     * {@linkplain #DEFAULT_WRITABLE трассировки стека по умолчанию}. Шаблонное сообщение форматируется только при
+     * первом получении сообщения.
+     *
+     * @param primaryName имя первичного экземпляра.
+     * @param secondaryName имя вторичного экземпляра.
+     *
+     * @return Новый экземпляр этого исключения.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "?, ? -> new", impact = Contract.Impact.NONE)
+    public static @NonNull NotEqualException pair(final @Nullable Object primaryName,
+                                                  final @Nullable Object secondaryName) {
+        return new NotEqualException(PAIR_TEMPLATE_MESSAGE, new Object[]{primaryName, secondaryName}, DEFAULT_CAUSE,
+                                     DEFAULT_SUPPRESSION, DEFAULT_WRITABLE);
+    }
+
     /**
      * Создаёт экземпляр этого исключения на основе {@linkplain #DEFAULT_MESSAGE сообщения},
      * {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
@@ -147,4 +192,22 @@ public class NotEqualException extends ValidationException {
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Создаёт экземпляр этого исключения на основе переданных шаблонного сообщения, его аргументов, причины, параметров
+     * подавления и трассировки стека. Шаблонное сообщение форматируется только при первом получении сообщения.
+     *
+     * @param template шаблонное сообщение.
+     * @param arguments аргументы шаблонного сообщения.
+     * @param cause причина.
+     * @param suppression параметр подавления.
+     * @param writable параметр трассировки стека.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "?, ?, ?, ?, ? -> new", impact = Contract.Impact.INTERNAL)
+    public NotEqualException(final @Nullable String template, final @Nullable Object @Nullable [] arguments,
+                             final @Nullable Throwable cause, final boolean suppression, final boolean writable) {
+        super(template, arguments, cause, suppression, writable);
+    }
+
 }
@@ -26,7 +26,7 @@ public final class Validator {
      */
     @Contract(value = "-> fail", impact = Contract.Impact.INTERNAL)
     private Validator() throws UtilityException {
-        throw new UtilityException(UtilityException.TEMPLATE_MESSAGE.formatted("the Validator"));
+        throw UtilityException.templated("the Validator");
     }
 
     /**
@@ -41,8 +41,7 @@ public final class Validator {
      */
     @Contract(value = "null -> null; !null -> fail", impact = Contract.Impact.NONE)
     public static <T> @Nullable T isNull(final @Nullable T instance) throws NotNullException {
-        if (instance != null)
-            throw new NotNullException(NotNullException.TEMPLATE_MESSAGE.formatted("The passed instance"));
+        if (instance != null) throw NotNullException.templated("The passed instance");
         return null;
     }
 
@@ -63,7 +62,7 @@ public final class Validator {
                                                                                                  NotNullException,
                                                                                                  NullException {
         Validator.notNull(name, "The passed name of the instance");
-        if (instance != null) throw new NotNullException(NotNullException.TEMPLATE_MESSAGE.formatted(name));
+        if (instance != null) throw NotNullException.templated(name);
         return null;
     }
 
@@ -79,7 +78,7 @@ public final class Validator {
      */
     @Contract(value = "!null -> 1; null -> fail", impact = Contract.Impact.NONE)
     public static <T> @NonNull T notNull(final @Nullable T instance) throws NullException {
-        if (instance == null) throw new NullException(NullException.TEMPLATE_MESSAGE.formatted("The passed instance"));
+        if (instance == null) throw NullException.templated("The passed instance");
         return instance;
     }
 
@@ -97,9 +96,8 @@ public final class Validator {
      */
     @Contract(value = "!null, !null -> 1; ?, ? -> fail", impact = Contract.Impact.NONE)
     public static <T> @NonNull T notNull(final @Nullable T instance, final @NonNull String name) throws NullException {
-        if (name == null)
-            throw new NullException(NullException.TEMPLATE_MESSAGE.formatted("The passed name of the instance"));
-        if (instance == null) throw new NullException(NullException.TEMPLATE_MESSAGE.formatted(name));
+        if (name == null) throw NullException.templated("The passed name of the instance");
+        if (instance == null) throw NullException.templated(name);
         return instance;
     }
 
@@ -118,9 +116,8 @@ public final class Validator {
     public static <T> @Nullable T equals(final @Nullable T primaryInstance, final @Nullable T secondaryInstance) throws
                                                                                                                  NotEqualException {
         if (primaryInstance != secondaryInstance &&
-            (primaryInstance == null || !primaryInstance.equals(secondaryInstance))) throw new NotEqualException(
-                NotEqualException.TEMPLATE_MESSAGE.formatted(
-                        "The passed primary instance and the passed secondary instance"));
+            (primaryInstance == null || !primaryInstance.equals(secondaryInstance))) throw NotEqualException.templated(
+                "The passed primary instance and the passed secondary instance");
         return primaryInstance;
     }
 
@@ -147,8 +144,8 @@ public final class Validator {
         Validator.notNull(primaryName, "The passed name of the primary instance");
         Validator.notNull(secondaryName, "The passed name of the secondary instance");
         if (primaryInstance != secondaryInstance &&
-            (primaryInstance == null || !primaryInstance.equals(secondaryInstance))) throw new NotEqualException(
-                NotEqualException.TEMPLATE_MESSAGE.formatted("%s and %s").formatted(primaryName, secondaryName));
+            (primaryInstance == null || !primaryInstance.equals(secondaryInstance))) throw NotEqualException.pair(
+                primaryName, secondaryName);
         return primaryInstance;
     }
 
@@ -167,9 +164,8 @@ public final class Validator {
     public static <T> @Nullable T notEquals(final @Nullable T primaryInstance,
                                             final @Nullable T secondaryInstance) throws EqualException {
         if (primaryInstance == secondaryInstance ||
-            primaryInstance != null && primaryInstance.equals(secondaryInstance)) throw new EqualException(
-                EqualException.TEMPLATE_MESSAGE.formatted(
-                        "The passed primary instance and the passed secondary instance"));
+            primaryInstance != null && primaryInstance.equals(secondaryInstance)) throw EqualException.templated(
+                "The passed primary instance and the passed secondary instance");
         return primaryInstance;
     }
 
@@ -195,8 +191,8 @@ public final class Validator {
         Validator.notNull(primaryName, "The passed name of the primary instance");
         Validator.notNull(secondaryName, "The passed name of the secondary instance");
         if (primaryInstance == secondaryInstance ||
-            primaryInstance != null && primaryInstance.equals(secondaryInstance)) throw new EqualException(
-                EqualException.TEMPLATE_MESSAGE.formatted("%s and %s").formatted(primaryName, secondaryName));
+            primaryInstance != null && primaryInstance.equals(secondaryInstance)) throw EqualException.pair(
+                primaryName, secondaryName);
         return primaryInstance;
     }
 
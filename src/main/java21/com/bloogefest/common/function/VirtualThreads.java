@@ -0,0 +1,74 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.common.function;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.Experimental;
+import com.bloogefest.annotation.NonNull;
+import com.bloogefest.common.creation.UtilityException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Виртуальные потоки — это класс-утилита. Предоставляет исполнитель блокирующих стадий: в Java 21 и новее каждая задача
+ * выполняется в новом виртуальном потоке, в Java 17 — в общем ограниченном пуле потоков-демонов платформы. Это версия
+ * для Java 21 из {@code META-INF/versions/21} многоверсионного архива.
+ *
+ * @see Conveyor#onVirtualThreads()
+ * @see Supplier#onVirtualThread()
+ * @since 4.0.0-RC5
+ */
+@Experimental(from = "4.0.0-RC5")
+public final class VirtualThreads {
+
+    /**
+     * Исполнитель, выполняющий каждую задачу в новом виртуальном потоке.
+     *
+     * @since 4.0.0-RC5
+     */
+    private static final @NonNull ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bf-common-virtual-", 1).factory());
+
+    /**
+     * Генерирует {@linkplain UtilityException исключение создания экземпляра виртуальных потоков}.
+     *
+     * @throws UtilityException исключение создания экземпляра виртуальных потоков.
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> fail", impact = Contract.Impact.INTERNAL)
+    private VirtualThreads() throws UtilityException {
+        throw UtilityException.templated("the VirtualThreads");
+    }
+
+    /**
+     * Возвращает истину, если исполнитель {@linkplain #executor()} выполняет задачи в виртуальных потоках.
+     *
+     * @return Параметр поддержки виртуальных потоков; в этой версии всегда истинный.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> true", impact = Contract.Impact.NONE)
+    public static boolean supported() {
+        return true;
+    }
+
+    /**
+     * Возвращает общий исполнитель блокирующих стадий: в этой версии — исполнитель, выполняющий каждую задачу в новом
+     * виртуальном потоке.
+     *
+     * @return Общий исполнитель блокирующих стадий.
+     *
+     * @since 4.0.0-RC5
+     */
+    @Contract(value = "-> const", impact = Contract.Impact.NONE)
+    public static @NonNull Executor executor() {
+        return EXECUTOR;
+    }
+
+}